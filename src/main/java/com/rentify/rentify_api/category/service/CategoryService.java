@@ -18,7 +18,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
 
-    @Cacheable(value = "categories")
+    @Cacheable(value = "categories", sync = true)
     @Transactional(readOnly = true)
     public List<CategoryInfo> getCategory() {
         List<Category> categories = categoryRepository.findAll();
@@ -0,0 +1,20 @@
+package com.rentify.rentify_api.common.cache;
+
+/**
+ * 다른 노드의 로컬(L1) 캐시에 보내는 무효화 메시지. key 가 null 이면 캐시 전체를 비웁니다.
+ * origin 은 보낸 노드로, 자기가 보낸 메시지는 받는 쪽에서 무시합니다.
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    public static CacheInvalidation evict(String origin, String cacheName, String key) {
+        return new CacheInvalidation(origin, cacheName, key);
+    }
+
+    public static CacheInvalidation clear(String origin, String cacheName) {
+        return new CacheInvalidation(origin, cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
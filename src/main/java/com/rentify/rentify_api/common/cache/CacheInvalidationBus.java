@@ -0,0 +1,14 @@
+package com.rentify.rentify_api.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 캐시 무효화 메시지 전달 통로. 운영에서는 Redis pub/sub(RedisCacheInvalidationBus)을 사용합니다.
+ * 전달은 최선 노력(best effort)이므로, 메시지를 놓친 노드는 L1 만료 시간까지 이전 값을 볼 수 있습니다.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,15 @@
+package com.rentify.rentify_api.common.cache;
+
+/**
+ * 여러 노드에서 같은 키의 캐시 미스가 동시에 나도 적재(loader 실행)는 한 노드만 하도록 잡는 잠금입니다.
+ * 잠금을 얻지 못한 노드는 적재한 노드가 L2 에 올린 값을 기다립니다.
+ */
+public interface CacheLoadLock {
+
+    /**
+     * 다른 노드가 같은 키를 적재 중이면 false 를 반환합니다.
+     */
+    boolean tryLock(String cacheName, String key);
+
+    void unlock(String cacheName, String key);
+}
@@ -0,0 +1,74 @@
+package com.rentify.rentify_api.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis pub/sub 채널로 캐시 무효화 메시지를 주고받습니다.
+ * 메시지 형식: origin|cacheName|0 (전체 비우기) 또는 origin|cacheName|1|key
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, MessageListener {
+
+    public static final String CHANNEL = "cache:invalidation";
+    private static final String DELIMITER = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, encode(invalidation));
+        } catch (RuntimeException e) {
+            // 발행 실패로 원래 요청(수정 등)을 실패시키지 않음. 다른 노드는 L1 만료 후 반영
+            log.warn("캐시 무효화 메시지 발행 실패: {} ({})", invalidation, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation = decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (invalidation == null) {
+            return;
+        }
+
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    static String encode(CacheInvalidation invalidation) {
+        String prefix = invalidation.origin() + DELIMITER + invalidation.cacheName() + DELIMITER;
+        return invalidation.isClear() ? prefix + "0" : prefix + "1" + DELIMITER + invalidation.key();
+    }
+
+    // 키에는 구분자가 들어갈 수 있으므로 마지막에 둠
+    static CacheInvalidation decode(String body) {
+        String[] parts = body.split("\\|", 4);
+        if (parts.length == 3 && "0".equals(parts[2])) {
+            return CacheInvalidation.clear(parts[0], parts[1]);
+        }
+        if (parts.length == 4 && "1".equals(parts[2])) {
+            return CacheInvalidation.evict(parts[0], parts[1], parts[3]);
+        }
+
+        log.warn("알 수 없는 캐시 무효화 메시지: {}", body);
+        return null;
+    }
+}
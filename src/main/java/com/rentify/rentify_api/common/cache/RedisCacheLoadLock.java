@@ -0,0 +1,59 @@
+package com.rentify.rentify_api.common.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * SET NX PX 로 잡는 Redis 적재 잠금입니다. 적재 노드가 죽어도 ttl 이후 풀립니다.
+ * 해제는 자기가 잡은 잠금일 때만 지웁니다 (ttl 이 지나 다른 노드가 잡은 잠금을 지우지 않도록).
+ * Redis 오류 시에는 잠금 없이 각자 적재합니다.
+ */
+@Slf4j
+public class RedisCacheLoadLock implements CacheLoadLock {
+
+    private static final String KEY_PREFIX = "cache:load:";
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    // 같은 노드의 같은 키 적재는 SingleFlight 로 하나뿐이므로 노드 단위 토큰으로 충분
+    private final String token = UUID.randomUUID().toString();
+
+    public RedisCacheLoadLock(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public boolean tryLock(String cacheName, String key) {
+        try {
+            return Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, ttl)
+            );
+        } catch (RuntimeException e) {
+            log.warn("캐시 적재 잠금 실패, 잠금 없이 적재: {}::{} ({})", cacheName, key, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void unlock(String cacheName, String key) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (RuntimeException e) {
+            log.warn("캐시 적재 잠금 해제 실패 (ttl 이후 만료): {}::{} ({})", cacheName, key, e.getMessage());
+        }
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,342 @@
+package com.rentify.rentify_api.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rentify.rentify_api.common.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 프로세스 내 Caffeine 캐시(L1)를 원격 캐시(L2, Redis) 앞에 둔 캐시입니다.
+ * L1 에 있으면 네트워크 왕복과 역직렬화 없이 반환하고, 없으면 L2 에서 읽어 L1 에 채웁니다.
+ * <p>
+ * 쓰기/무효화는 L2 에 먼저 반영한 뒤 다른 노드에 무효화 메시지를 보내 각 노드의 L1 을 비웁니다.
+ * 메시지를 놓치더라도 L1 은 expireAfterWrite 이후 만료되므로 이전 값이 보이는 시간은 그 안으로 제한됩니다.
+ * 키는 L2(Redis)와 같이 문자열로 변환해서 비교합니다.
+ * <p>
+ * 적재(loader)는 무효화와 겹칠 수 있습니다. 커밋 전에 이전 값을 읽은 적재가 커밋 후 무효화보다 늦게 저장하면
+ * 이전 값이 L2 TTL 동안 남으므로, 키별 무효화 횟수(epoch)를 적재 전후로 비교해 그 사이 무효화된 값은 저장하지 않습니다.
+ * 무효화 메시지가 늦게 도착한 다른 노드의 적재는 evictRepeatDelay 뒤에 L2 를 한 번 더 지워 정리합니다.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final long LOAD_POLL_INTERVAL_MILLIS = 50;
+    // 키별 무효화 횟수는 해시 구간 단위로 셈 (메모리 고정, 같은 구간의 다른 키 무효화는 저장을 한 번 건너뛸 뿐)
+    private static final int EPOCH_STRIPES = 1024;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheLoadLock loadLock;
+    private final String nodeId;
+    private final Duration loadWaitTimeout;
+    private final Duration evictRepeatDelay;
+    private final AtomicLongArray evictionEpochs = new AtomicLongArray(EPOCH_STRIPES);
+    private final AtomicLong clearEpoch = new AtomicLong();
+    // 같은 키의 동시 미스는 노드 안에서 한 번만 적재
+    private final SingleFlight<String, Object> loads = new SingleFlight<>();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    /**
+     * @param loadLock 노드 간 적재 잠금. null 이면 노드 안에서만 적재를 합칩니다.
+     */
+    public TwoLevelCache(
+        Cache remote,
+        CacheInvalidationBus invalidationBus,
+        CacheLoadLock loadLock,
+        String nodeId,
+        TwoLevelCacheSettings settings,
+        MeterRegistry meterRegistry
+    ) {
+        this.name = remote.getName();
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.loadLock = loadLock;
+        this.nodeId = nodeId;
+        this.loadWaitTimeout = settings.loadWaitTimeout();
+        this.evictRepeatDelay = settings.evictRepeatDelay();
+        this.local = Caffeine.newBuilder()
+            .maximumSize(settings.localMaximumSize())
+            .expireAfterWrite(settings.localExpireAfterWrite())
+            .build();
+
+        this.localHits = counter(meterRegistry, "l1", "hit");
+        this.localMisses = counter(meterRegistry, "l1", "miss");
+        this.remoteHits = counter(meterRegistry, "l2", "hit");
+        this.remoteMisses = counter(meterRegistry, "l2", "miss");
+        Gauge.builder("cache.two_level.l1.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+            .tag("cache", name)
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.two_level.loads", loads, SingleFlight::executedCount)
+            .description("캐시 미스로 loader 를 실행한 횟수")
+            .tag("cache", name)
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.two_level.coalesced", loads, SingleFlight::coalescedCount)
+            .description("다른 요청의 적재 결과를 함께 받은 캐시 미스 수")
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+        localMisses.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return wrapper;
+        }
+
+        remoteHits.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value
+            );
+        }
+        return (T) value;
+    }
+
+    /**
+     * sync=true 인 @Cacheable 에서 호출됩니다. L1, L2 모두 없을 때 같은 키의 적재는 노드 안에서 한 번만 실행하고,
+     * 적재 잠금이 있으면 노드 간에도 한 노드만 실행합니다. 나머지 요청은 그 결과를 받습니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return (T) cached;
+        }
+        localMisses.increment();
+
+        return (T) loads.execute(localKey, () -> load(key, localKey, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        // 진행 중인 적재가 이 값을 이전 값으로 덮어쓰지 않도록 먼저 올림
+        bumpEpoch(localKey);
+        remote.put(key, value);
+
+        if (value != null) {
+            local.put(localKey, value);
+        } else {
+            local.invalidate(localKey);
+        }
+        invalidationBus.publish(CacheInvalidation.evict(nodeId, name, localKey));
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        bumpEpoch(localKey);
+        remote.evict(key);
+
+        local.invalidate(localKey);
+        invalidationBus.publish(CacheInvalidation.evict(nodeId, name, localKey));
+        scheduleRepeatEvict(key);
+    }
+
+    @Override
+    public void clear() {
+        clearEpoch.incrementAndGet();
+        remote.clear();
+        local.invalidateAll();
+        invalidationBus.publish(CacheInvalidation.clear(nodeId, name));
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 메시지를 L1 에 반영합니다. L2 는 보낸 노드가 이미 반영했습니다.
+     */
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+
+        if (invalidation.isClear()) {
+            clearEpoch.incrementAndGet();
+            local.invalidateAll();
+        } else {
+            bumpEpoch(invalidation.key());
+            local.invalidate(invalidation.key());
+        }
+    }
+
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        Object value = readRemote(key, localKey);
+        if (value != null) {
+            return value;
+        }
+
+        if (loadLock == null) {
+            return loadAndStore(key, localKey, valueLoader);
+        }
+        if (loadLock.tryLock(name, localKey)) {
+            return loadLocked(key, localKey, valueLoader, false);
+        }
+
+        // 다른 노드가 적재 중: L2 에 올라오기를 기다림. 적재한 쪽이 실패해 잠금이 풀리면 그때 잠금을 잡고 직접 적재하고,
+        // 시간 안에 둘 다 안 되면 잠금 없이 직접 적재
+        long deadline = System.nanoTime() + loadWaitTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LOAD_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            value = readRemote(key, localKey);
+            if (value != null) {
+                return value;
+            }
+            if (loadLock.tryLock(name, localKey)) {
+                return loadLocked(key, localKey, valueLoader, true);
+            }
+        }
+        return loadAndStore(key, localKey, valueLoader);
+    }
+
+    // 잠금을 잡은 상태에서 적재. 기다리다 잡은 경우 이전 보유자가 막 저장했을 수 있으므로 L2 를 한 번 더 확인
+    private Object loadLocked(Object key, String localKey, Callable<?> valueLoader, boolean recheck) {
+        try {
+            if (recheck) {
+                Object value = readRemote(key, localKey);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return loadAndStore(key, localKey, valueLoader);
+        } finally {
+            loadLock.unlock(name, localKey);
+        }
+    }
+
+    private Object readRemote(Object key, String localKey) {
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    /*
+     * 새로 적재한 값이므로 다른 노드에 무효화 메시지는 보내지 않음.
+     * 적재하는 동안 무효화되었으면 읽은 값이 이미 지난 값일 수 있으므로 저장하지 않고 반환만 함.
+     * 저장 직후에도 다시 확인해, 확인과 저장 사이에 끼어든 무효화가 있으면 방금 저장한 값을 지움.
+     */
+    private Object loadAndStore(Object key, String localKey, Callable<?> valueLoader) {
+        long epoch = epochOf(localKey);
+
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (value == null || epochOf(localKey) != epoch) {
+            return value;
+        }
+
+        remote.put(key, value);
+        local.put(localKey, value);
+        if (epochOf(localKey) != epoch) {
+            remote.evict(key);
+            local.invalidate(localKey);
+        }
+        return value;
+    }
+
+    private void scheduleRepeatEvict(Object key) {
+        if (evictRepeatDelay == null || evictRepeatDelay.isZero()) {
+            return;
+        }
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                remote.evict(key);
+            } catch (RuntimeException e) {
+                // 이미 한 번 지웠으므로 실패해도 무효화 자체는 성공
+                log.warn("캐시 재무효화 실패 ({}: {}): {}", name, key, e.getMessage());
+            }
+        }, CompletableFuture.delayedExecutor(evictRepeatDelay.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private void bumpEpoch(String localKey) {
+        evictionEpochs.incrementAndGet(stripeOf(localKey));
+    }
+
+    // 두 값 모두 증가만 하므로 합이 같으면 그 사이 무효화가 없었음
+    private long epochOf(String localKey) {
+        return clearEpoch.get() + evictionEpochs.get(stripeOf(localKey));
+    }
+
+    private static int stripeOf(String localKey) {
+        return localKey.hashCode() & (EPOCH_STRIPES - 1);
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.two_level.gets")
+            .description("2단계 캐시 조회 결과 (level 별 적중률 계산용)")
+            .tag("cache", name)
+            .tag("level", level)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
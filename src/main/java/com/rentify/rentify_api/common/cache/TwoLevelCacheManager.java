@@ -0,0 +1,65 @@
+package com.rentify.rentify_api.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * 원격 CacheManager(Redis)의 캐시마다 L1 을 붙인 TwoLevelCache 를 만들어 줍니다.
+ * 생성 시 무효화 채널을 구독하고, 받은 메시지를 해당 이름의 캐시로 전달합니다.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheLoadLock loadLock;
+    private final TwoLevelCacheSettings settings;
+    private final MeterRegistry meterRegistry;
+    // 자기가 보낸 무효화 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param loadLock 노드 간 적재 잠금 (선택). null 이면 캐시 미스 적재는 노드 안에서만 합칩니다.
+     */
+    public TwoLevelCacheManager(
+        CacheManager remoteCacheManager,
+        CacheInvalidationBus invalidationBus,
+        CacheLoadLock loadLock,
+        TwoLevelCacheSettings settings,
+        MeterRegistry meterRegistry
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.loadLock = loadLock;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+
+        invalidationBus.subscribe(invalidation -> {
+            TwoLevelCache cache = caches.get(invalidation.cacheName());
+            if (cache != null) {
+                cache.onInvalidation(invalidation);
+            }
+        });
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remote = remoteCacheManager.getCache(cacheName);
+            return remote == null ? null : new TwoLevelCache(
+                remote, invalidationBus, loadLock, nodeId, settings, meterRegistry
+            );
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+}
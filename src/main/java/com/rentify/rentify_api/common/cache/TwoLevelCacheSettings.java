@@ -0,0 +1,19 @@
+package com.rentify.rentify_api.common.cache;
+
+import java.time.Duration;
+
+/**
+ * TwoLevelCache 설정.
+ *
+ * @param localMaximumSize       캐시별 L1 최대 항목 수
+ * @param localExpireAfterWrite  L1 만료 시간 (무효화 메시지를 놓쳤을 때 이전 값이 보일 수 있는 최대 시간)
+ * @param loadWaitTimeout        다른 노드가 적재 중일 때 L2 에 값이 올라오기를 기다리는 최대 시간
+ * @param evictRepeatDelay       무효화 후 L2 를 한 번 더 지우기까지의 시간. 무효화 전에 시작한 다른 노드의 적재가
+ *                               늦게 저장한 이전 값을 지움 (0 이면 다시 지우지 않음)
+ */
+public record TwoLevelCacheSettings(
+    long localMaximumSize,
+    Duration localExpireAfterWrite,
+    Duration loadWaitTimeout,
+    Duration evictRepeatDelay
+) {}
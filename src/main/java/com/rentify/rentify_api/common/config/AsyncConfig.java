@@ -1,6 +1,8 @@
 package com.rentify.rentify_api.common.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -21,4 +23,23 @@ public class AsyncConfig {
         return executor;
     }
 
+    // 이미지 변형 생성용. 디코딩한 이미지가 메모리를 많이 쓰므로 스레드 수를 고정하고,
+    // 대기열이 가득 차면 업로드 요청 스레드에서 직접 처리해 속도를 늦춤
+    @Bean
+    public Executor imageVariantExecutor(
+        @Value("${file.image.variant.threads:2}") int threads,
+        @Value("${file.image.variant.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 종료 시 진행 중인 변형은 마치고 멈춤 (남은 변형은 요청 시 원본으로 응답됨)
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,29 @@
+package com.rentify.rentify_api.common.config;
+
+import com.rentify.rentify_api.image.service.ImageVariant;
+import java.io.IOException;
+import java.util.Optional;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+/**
+ * 변형 이미지({hash}_{suffix}{ext})가 아직 없거나 원본이 작아 만들지 않은 경우 원본 파일로 응답합니다.
+ * 변형 URL 은 업로드 직후부터 DB 에 저장되므로 생성이 끝나기 전에도 깨진 이미지가 되지 않습니다.
+ */
+public class ImageVariantResourceResolver extends PathResourceResolver {
+
+    @Override
+    protected Resource getResource(String resourcePath, Resource location) throws IOException {
+        Resource resource = super.getResource(resourcePath, location);
+        if (resource != null) {
+            return resource;
+        }
+
+        int slash = resourcePath.lastIndexOf('/');
+        Optional<String> original = ImageVariant.originalFileNameOf(resourcePath.substring(slash + 1));
+        if (original.isEmpty()) {
+            return null;
+        }
+        return super.getResource(resourcePath.substring(0, slash + 1) + original.get(), location);
+    }
+}
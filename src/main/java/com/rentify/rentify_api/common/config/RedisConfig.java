@@ -1,6 +1,14 @@
 package com.rentify.rentify_api.common.config;
 
+import com.rentify.rentify_api.common.cache.CacheLoadLock;
+import com.rentify.rentify_api.common.cache.RedisCacheInvalidationBus;
+import com.rentify.rentify_api.common.cache.RedisCacheLoadLock;
+import com.rentify.rentify_api.common.cache.TwoLevelCacheManager;
+import com.rentify.rentify_api.common.cache.TwoLevelCacheSettings;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +16,9 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -19,8 +30,49 @@ import tools.jackson.databind.jsontype.PolymorphicTypeValidator;
 @Profile("dev")
 public class RedisConfig {
 
+    /**
+     * Redis 캐시(L2) 앞에 프로세스 내 L1 을 둔 캐시 매니저. L1 무효화는 Redis pub/sub 으로 다른 노드에 전달합니다.
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(
+        RedisConnectionFactory connectionFactory,
+        StringRedisTemplate redisTemplate,
+        RedisCacheInvalidationBus cacheInvalidationBus,
+        MeterRegistry meterRegistry,
+        @Value("${cache.local.maximum-size:10000}") long localMaximumSize,
+        @Value("${cache.local.expire-after-write:60s}") Duration localExpireAfterWrite,
+        @Value("${cache.load-lock.enabled:false}") boolean loadLockEnabled,
+        @Value("${cache.load-lock.ttl:10s}") Duration loadLockTtl,
+        @Value("${cache.load-lock.wait-timeout:3s}") Duration loadWaitTimeout,
+        @Value("${cache.evict-repeat-delay:2s}") Duration evictRepeatDelay
+    ) {
+        // 노드가 여러 대일 때 같은 키의 캐시 미스 적재를 한 노드로 제한 (노드 안에서는 항상 합침)
+        CacheLoadLock loadLock = loadLockEnabled ? new RedisCacheLoadLock(redisTemplate, loadLockTtl) : null;
+
+        return new TwoLevelCacheManager(
+            redisCacheManager(connectionFactory), cacheInvalidationBus, loadLock,
+            new TwoLevelCacheSettings(localMaximumSize, localExpireAfterWrite, loadWaitTimeout, evictRepeatDelay),
+            meterRegistry
+        );
+    }
+
+    @Bean
+    public RedisCacheInvalidationBus cacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        return new RedisCacheInvalidationBus(redisTemplate);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        RedisCacheInvalidationBus cacheInvalidationBus
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(RedisCacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
         PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
             .allowIfBaseType("com.rentify")
             .allowIfBaseType("java")
@@ -39,8 +91,13 @@ public class RedisConfig {
                 .fromSerializer(serializer))
             .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        // 게시글 상세는 변경(수정, 대여 생성/확정/취소) 시 커밋 이후 이벤트로 무효화하고,
+        // 무효화와 겹친 적재는 저장하지 않으므로(TwoLevelCache) TTL 을 길게 둠
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(config)
+            .withCacheConfiguration("posts", config.entryTtl(Duration.ofHours(6)))
             .build();
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
     }
 }
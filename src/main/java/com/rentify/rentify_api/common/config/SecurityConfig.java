@@ -64,7 +64,10 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/auth/refresh").permitAll()
                 .requestMatchers(HttpMethod.POST, "/auth/email-verification/**").permitAll()
                 // Post API
+                // 게시글 이력은 작성자만 (서비스에서 작성자 확인)
+                .requestMatchers(HttpMethod.GET, "/api/posts/*/history", "/api/posts/*/history/*").authenticated()
                 .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/posts/availability").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/posts").authenticated()
                 .requestMatchers(HttpMethod.PUT, "/api/posts/**").authenticated()
                 // Rental API
@@ -18,7 +18,10 @@ public class WebConfig implements WebMvcConfigurer {
             .toAbsolutePath()
             .toString();
 
+        // 해석 결과를 캐시하지 않음 (변형이 생성되면 원본 대신 변형으로 응답해야 하므로)
         registry.addResourceHandler("/images/**")
-            .addResourceLocations("file:" + absolutePath + "/");
+            .addResourceLocations("file:" + absolutePath + "/")
+            .resourceChain(false)
+            .addResolver(new ImageVariantResourceResolver());
     }
 }
@@ -5,10 +5,12 @@ import com.rentify.rentify_api.user.exception.UnauthenticatedException;
 import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
@@ -58,6 +60,27 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             .body(ApiResponse.error(HttpStatus.CONFLICT, ex.getMessage()));
     }
 
+    // 같은 데이터를 동시에 수정해 나중에 커밋한 쪽 (낙관적 잠금)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(
+        OptimisticLockingFailureException ex
+    ) {
+        log.warn("Concurrent modification detected: {}", ex.getMessage());
+
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error(HttpStatus.CONFLICT, "다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 시도해주세요."));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAccessDeniedException(AccessDeniedException ex) {
+        log.warn("Access denied: {}", ex.getMessage());
+
+        return ResponseEntity
+            .status(HttpStatus.FORBIDDEN)
+            .body(ApiResponse.error(HttpStatus.FORBIDDEN, ex.getMessage()));
+    }
+
     @ExceptionHandler(InvalidValueException.class)
     public ResponseEntity<ApiResponse<Void>> handleInvalidValueException(InvalidValueException ex) {
         log.warn("Invalid value: {}", ex.getMessage());
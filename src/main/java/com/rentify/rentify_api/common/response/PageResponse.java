@@ -0,0 +1,29 @@
+package com.rentify.rentify_api.common.response;
+
+import java.util.List;
+import org.springframework.data.domain.Page;
+
+/**
+ * 페이지 기반 조회 응답. Page 직렬화 형식(content, page)에 전체 개수가 정확한 값인지(totalExact)를 더합니다.
+ * 캐시된 개수나 통계 추정값을 사용한 경우 totalExact 는 false 입니다.
+ */
+public record PageResponse<T>(
+    List<T> content,
+    PageInfo page
+) {
+
+    public static <T> PageResponse<T> of(Page<T> page, boolean totalExact) {
+        return new PageResponse<>(
+            page.getContent(),
+            new PageInfo(page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages(), totalExact)
+        );
+    }
+
+    public record PageInfo(
+        int size,
+        int number,
+        long totalElements,
+        int totalPages,
+        boolean totalExact
+    ) {}
+}
@@ -0,0 +1,26 @@
+package com.rentify.rentify_api.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반(무한 스크롤) 조회 응답. 전체 개수를 세지 않고 다음 페이지 존재 여부와 커서만 내려줍니다.
+ */
+public record SliceResponse<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {
+
+    /**
+     * size + 1 건을 조회한 결과로 응답을 만듭니다. 초과분 1건은 다음 페이지 존재 여부 판단에만 사용합니다.
+     */
+    public static <T> SliceResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.getLast()) : null;
+
+        return new SliceResponse<>(List.copyOf(content), size, hasNext, nextCursor);
+    }
+}
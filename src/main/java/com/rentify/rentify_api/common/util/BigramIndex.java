@@ -0,0 +1,340 @@
+package com.rentify.rentify_api.common.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 bigram(연속된 두 글자) 역색인입니다.
+ * <p>
+ * 한국어처럼 띄어쓰기 단위 토큰화가 잘 맞지 않는 텍스트를 부분 문자열로 검색하기 위한 용도로,
+ * bigram 마다 문서 id 를 정렬된 int 배열(postings)로 보관하고 검색어의 bigram postings 를 교집합합니다.
+ * 결과는 "검색어를 포함할 수 있는 문서" 후보이므로(bigram 이 떨어져 있어도 일치) 최종 확인은 호출하는 쪽에서 합니다.
+ * 대소문자는 구분하지 않고, 공백이 포함된 bigram 은 색인하지 않습니다.
+ * <p>
+ * 문서마다 버전(보통 수정 시각)을 두어 더 오래된 내용이 최신 내용을 덮어쓰지 않도록 합니다.
+ * 모든 메서드는 스레드 안전합니다.
+ */
+public class BigramIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x42494758;
+    private static final int SNAPSHOT_FORMAT = 1;
+    private static final int SNAPSHOT_BUFFER_SIZE = 1 << 16;
+
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서를 색인합니다. 이미 더 최신 버전이 색인되어 있으면 무시하고 false 를 반환합니다.
+     */
+    public boolean put(int docId, long version, String... texts) {
+        int[] terms = terms(texts);
+
+        lock.writeLock().lock();
+        try {
+            Document current = documents.get(docId);
+            if (current != null && current.version() > version) {
+                return false;
+            }
+
+            replace(docId, current, new Document(version, terms));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(int docId) {
+        lock.writeLock().lock();
+        try {
+            Document current = documents.get(docId);
+            if (current == null) {
+                return false;
+            }
+
+            replace(docId, current, null);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 bigram 을 가진 문서 id 를 오름차순으로 반환합니다.
+     * 검색어에서 bigram 을 만들 수 없으면(한 글자 등) 색인으로 판단할 수 없으므로 null 을 반환합니다.
+     */
+    public int[] search(String query) {
+        int[] terms = terms(query);
+        if (terms.length == 0) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                lists[i] = postings.get(terms[i]);
+                if (lists[i] == null) {
+                    return new int[0];
+                }
+            }
+
+            // 짧은 postings 부터 교집합해서 비교 횟수를 줄임
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            int[] result = Arrays.copyOf(lists[0].ids, lists[0].size);
+            int length = result.length;
+            for (int i = 1; i < lists.length && length > 0; i++) {
+                length = intersect(result, length, lists[i]);
+            }
+            return Arrays.copyOf(result, length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long version(int docId) {
+        lock.readLock().lock();
+        try {
+            Document document = documents.get(docId);
+            return document != null ? document.version() : -1L;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 문서 id (오름차순)
+    public int[] ids() {
+        lock.readLock().lock();
+        try {
+            return documents.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long maxVersion() {
+        lock.readLock().lock();
+        try {
+            return documents.values().stream().mapToLong(Document::version).max().orElse(-1L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서별 bigram 목록을 파일에 씁니다. postings 는 복원 시 다시 만들어지므로 저장하지 않습니다.
+     * 임시 파일에 쓴 뒤 교체하므로 쓰는 도중 종료되어도 이전 스냅샷은 남습니다.
+     * 파일 크기와 관계없이 버퍼 단위로 순서대로 씁니다 (한 번에 매핑하면 2GB 를 넘는 스냅샷을 쓸 수 없음).
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        lock.readLock().lock();
+        try (FileChannel channel = FileChannel.open(temp,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), SNAPSHOT_BUFFER_SIZE)
+            );
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_FORMAT);
+            out.writeInt(documents.size());
+
+            for (Map.Entry<Integer, Document> entry : documents.entrySet()) {
+                Document document = entry.getValue();
+                out.writeInt(entry.getKey());
+                out.writeLong(document.version());
+                out.writeInt(document.terms().length);
+                for (int term : document.terms()) {
+                    out.writeInt(term);
+                }
+            }
+            out.flush();
+            channel.force(true);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷의 문서를 색인에 추가하고 추가한 문서 수를 반환합니다. 이미 더 최신 버전이 있는 문서는 건너뜁니다.
+     * 파일 형식이 맞지 않으면 IOException 을 던집니다.
+     */
+    public int readSnapshot(Path path) throws IOException {
+        long fileSize = Files.size(path);
+
+        try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(path), SNAPSHOT_BUFFER_SIZE))) {
+            if (fileSize < 3L * Integer.BYTES
+                || in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_FORMAT) {
+                throw new IOException("색인 스냅샷 형식이 올바르지 않습니다: " + path);
+            }
+
+            int count = in.readInt();
+            int restored = 0;
+
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < count; i++) {
+                    int docId = in.readInt();
+                    long version = in.readLong();
+                    int length = in.readInt();
+                    // 손상된 길이로 큰 배열을 만들지 않도록 파일 크기로 먼저 확인
+                    if (length < 0 || (long) length * Integer.BYTES > fileSize) {
+                        throw new IOException("색인 스냅샷을 읽을 수 없습니다: " + path);
+                    }
+
+                    int[] terms = new int[length];
+                    for (int j = 0; j < length; j++) {
+                        terms[j] = in.readInt();
+                    }
+
+                    Document current = documents.get(docId);
+                    if (current == null || current.version() < version) {
+                        replace(docId, current, new Document(version, terms));
+                        restored++;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return restored;
+        } catch (EOFException e) {
+            // 잘린 파일
+            throw new IOException("색인 스냅샷을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    // 호출하는 쪽에서 쓰기 잠금을 잡고 있어야 함
+    private void replace(int docId, Document current, Document next) {
+        if (current != null) {
+            for (int term : current.terms()) {
+                Postings list = postings.get(term);
+                list.remove(docId);
+                if (list.size == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        if (next == null) {
+            documents.remove(docId);
+            return;
+        }
+
+        for (int term : next.terms()) {
+            postings.computeIfAbsent(term, key -> new Postings()).add(docId);
+        }
+        documents.put(docId, next);
+    }
+
+    // result[0..length) 중 list 에도 있는 id 만 앞으로 모으고 새 길이를 반환
+    private static int intersect(int[] result, int length, Postings list) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < length && j < list.size; i++) {
+            while (j < list.size && list.ids[j] < result[i]) {
+                j++;
+            }
+            if (j < list.size && list.ids[j] == result[i]) {
+                result[kept++] = result[i];
+            }
+        }
+        return kept;
+    }
+
+    // 정렬된 중복 없는 bigram 목록. 두 글자를 상위/하위 16비트에 담음
+    static int[] terms(String... texts) {
+        int[] terms = new int[16];
+        int count = 0;
+
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+
+            String normalized = text.toLowerCase(Locale.ROOT);
+            for (int i = 0; i + 1 < normalized.length(); i++) {
+                char first = normalized.charAt(i);
+                char second = normalized.charAt(i + 1);
+                if (Character.isWhitespace(first) || Character.isWhitespace(second)) {
+                    continue;
+                }
+
+                if (count == terms.length) {
+                    terms = Arrays.copyOf(terms, count * 2);
+                }
+                terms[count++] = (first << 16) | second;
+            }
+        }
+
+        int[] sorted = Arrays.copyOf(terms, count);
+        Arrays.sort(sorted);
+        return Arrays.stream(sorted).distinct().toArray();
+    }
+
+    private record Document(long version, int[] terms) {
+    }
+
+    // 오름차순 문서 id 목록. 새 문서는 보통 id 가 가장 크므로 대부분 끝에 추가됨
+    private static final class Postings {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int docId) {
+            int index = Arrays.binarySearch(ids, 0, size, docId);
+            if (index >= 0) {
+                return;
+            }
+
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = docId;
+            size++;
+        }
+
+        void remove(int docId) {
+            int index = Arrays.binarySearch(ids, 0, size, docId);
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.rentify.rentify_api.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * long 값을 담는 Bloom filter 입니다.
+ * <p>
+ * mightContain 이 false 면 추가된 적이 없는 값이고, true 면 추가된 값이거나 오탐(false positive)입니다.
+ * 비트 배열 크기와 해시 수는 예상 원소 수와 목표 오탐률로 정하며, 예상보다 많이 추가하면 오탐률이 올라갑니다.
+ * 값 삭제는 지원하지 않습니다. 모든 메서드는 스레드 안전합니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions 는 0보다 크고, falsePositiveRate 는 0과 1 사이여야 합니다.");
+        }
+
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact((m + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void add(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1, h2, i));
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(h1, h2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // add 호출 수 (같은 값을 여러 번 추가하면 중복해서 셈)
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    // 이중 해싱: h1 + i * h2 로 k 개의 비트 위치를 만듦
+    private long index(int h1, int h2, int i) {
+        long combined = h1 + (long) i * h2;
+        return Math.floorMod(combined, bitSize);
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    // 연속된 id 가 비트 배열에 고르게 퍼지도록 섞음 (SplitMix64 finalizer)
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,43 @@
+package com.rentify.rentify_api.common.util;
+
+import com.rentify.rentify_api.common.exception.InvalidValueException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 문자열 인코딩/디코딩. 클라이언트에는 내부 구조를 알 수 없는 불투명한 문자열로 전달합니다.
+ */
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    public static String encode(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append(DELIMITER);
+            }
+            sb.append(parts[i]);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 마지막 항목에는 구분자가 포함될 수 있으므로 정렬 값처럼 임의 문자열은 마지막에 두어야 합니다.
+     */
+    public static String[] decode(String cursor, int partCount) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", partCount);
+
+            if (parts.length != partCount) {
+                throw new InvalidValueException("유효하지 않은 커서입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueException("유효하지 않은 커서입니다.");
+        }
+    }
+}
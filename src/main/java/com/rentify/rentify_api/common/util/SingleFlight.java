@@ -0,0 +1,68 @@
+package com.rentify.rentify_api.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합칩니다 (request coalescing).
+ * <p>
+ * 키별로 먼저 들어온 호출 하나만 loader 를 실행하고, 실행 중에 들어온 호출은 그 결과(또는 예외)를 함께 받습니다.
+ * 실행이 끝나면 키를 비우므로 결과를 보관하지는 않으며, 캐시 미스가 한꺼번에 몰릴 때 DB 조회를 한 번으로 줄이는 용도입니다.
+ * 같은 노드 안에서만 동작합니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = calls.putIfAbsent(key, call);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    // loader 를 실행한 호출 수
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    // 실행 중인 호출의 결과를 함께 받은 호출 수
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // loader 가 던진 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
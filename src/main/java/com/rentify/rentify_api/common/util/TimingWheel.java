@@ -0,0 +1,107 @@
+package com.rentify.rentify_api.common.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 만료 시각이 있는 키를 관리하는 해시 타이밍 휠입니다.
+ * <p>
+ * 만료 시각을 tick 단위로 나눠 고정 크기 버킷 배열에 담고, advance 시 지나간 tick 의 버킷만 확인합니다.
+ * 등록/취소는 O(1)이며, 휠 한 바퀴보다 먼 만료 시각은 같은 버킷에 남아 다음 바퀴에서 다시 확인됩니다.
+ * 모든 메서드는 동기화되어 있습니다.
+ */
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Map<K, Long>> buckets;
+    private final Map<K, Entry> entries = new HashMap<>();
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis, wheelSize 는 0보다 커야 합니다.");
+        }
+
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = Math.max(size, 1) - 1;
+        this.buckets = new ArrayList<>(mask + 1);
+        for (int i = 0; i <= mask; i++) {
+            buckets.add(new HashMap<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 같은 키를 다시 등록하면 만료 시각이 바뀝니다. 이미 지난 시각이면 다음 advance 에서 만료됩니다.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+
+        long tick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        int slot = (int) (tick & mask);
+
+        buckets.get(slot).put(key, deadlineMillis);
+        entries.put(key, new Entry(slot, deadlineMillis));
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+
+        buckets.get(entry.slot()).remove(key);
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * nowMillis 까지 지나간 tick 의 버킷을 확인해 만료된 키를 꺼냅니다.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick <= currentTick) {
+            return List.of();
+        }
+
+        // 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 확인
+        long ticks = Math.min(targetTick - currentTick, mask + 1L);
+        List<K> expired = new ArrayList<>();
+
+        for (long i = 1; i <= ticks; i++) {
+            int slot = (int) ((currentTick + i) & mask);
+            Iterator<Map.Entry<K, Long>> it = buckets.get(slot).entrySet().iterator();
+
+            while (it.hasNext()) {
+                Map.Entry<K, Long> e = it.next();
+                if (e.getValue() <= nowMillis) {
+                    it.remove();
+                    entries.remove(e.getKey());
+                    expired.add(e.getKey());
+                }
+            }
+        }
+
+        currentTick = targetTick;
+        return expired;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private record Entry(int slot, long deadlineMillis) {
+    }
+}
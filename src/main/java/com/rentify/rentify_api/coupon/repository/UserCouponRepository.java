@@ -1,8 +1,10 @@
 package com.rentify.rentify_api.coupon.repository;
 
 import com.rentify.rentify_api.coupon.entity.UserCoupon;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,4 +15,13 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
     @Query("SELECT uc FROM UserCoupon uc JOIN FETCH uc.coupon WHERE uc.user.id = :userId")
     List<UserCoupon> findAllByUserIdWithCoupon(@Param("userId") Long userId);
+
+    // 사용 가능 상태일 때만 사용 처리 (coupon_version 도 함께 증가)
+    @Modifying
+    @Query(
+        "UPDATE VERSIONED UserCoupon uc " +
+        "SET uc.status = com.rentify.rentify_api.coupon.entity.UserCouponStatus.USED, uc.usedAt = :now " +
+        "WHERE uc.id = :id AND uc.status = com.rentify.rentify_api.coupon.entity.UserCouponStatus.AVAILABLE"
+    )
+    int markAsUsedIfAvailable(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,16 @@
+package com.rentify.rentify_api.image.dto;
+
+import com.rentify.rentify_api.image.service.ImageType;
+import java.nio.file.Path;
+
+/**
+ * 업로드 파일을 저장한 결과. sha256 은 저장한 내용 전체의 해시(hex)이며,
+ * deduplicated 가 true 면 같은 내용의 파일이 이미 있어 새로 쓰지 않았다는 뜻입니다.
+ */
+public record StoredImage(
+    Path path,
+    ImageType type,
+    long size,
+    String sha256,
+    boolean deduplicated
+) {}
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,11 @@ import org.hibernate.annotations.CreationTimestamp;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "post_images")
+@Table(
+    name = "post_images",
+    // 파일 참조 수 확인용 (ImageRepository.countByFilename)
+    indexes = @Index(name = "idx_post_images_file_name", columnList = "file_name")
+)
 public class Image {
 
     @Id
@@ -43,7 +48,21 @@ public class Image {
     @Column(name = "sort_order")
     private Short order;
 
+    // 미리 만든 고정 너비 변형 URL (ImageVariant). 이전 방식(UUID 이름)의 이미지는 원본 URL 과 같음 (V6)
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "card_url")
+    private String cardUrl;
+
+    @Column(name = "full_url")
+    private String fullUrl;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createAt;
+
+    public void changeOrder(short order) {
+        this.order = order;
+    }
 }
@@ -0,0 +1,10 @@
+package com.rentify.rentify_api.image.exception;
+
+import com.rentify.rentify_api.common.exception.FileException;
+
+public class FileExpiredException extends FileException {
+
+    public FileExpiredException() {
+        super("업로드한 이미지가 만료되었습니다. 다시 업로드해 주세요.");
+    }
+}
@@ -0,0 +1,85 @@
+package com.rentify.rentify_api.image.listener;
+
+import com.rentify.rentify_api.image.dto.StoredImage;
+import com.rentify.rentify_api.image.service.ImageFileWriter;
+import com.rentify.rentify_api.image.service.ImageType;
+import com.rentify.rentify_api.image.service.ImageVariant;
+import com.rentify.rentify_api.image.service.ImageVariantGenerator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 변형이 빠진 원본의 변형을 만듭니다.
+ * 변형 도입 이전에 업로드된 원본은 V6 에서 URL 만 변형으로 바뀌고 파일은 없으므로(원본으로 응답됨) 여기서 채웁니다.
+ * 원본보다 넓은 변형은 만들지 않으므로 작은 원본은 매번 헤더만 다시 읽고 넘어갑니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantBackfillListener {
+
+    // {root}/ab/cd/{hash}{ext}
+    private static final int MAX_DEPTH = 3;
+
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    @Value("${file.upload.path}")
+    private String uploadPath;
+
+    @Value("${file.image.variant.backfill-on-startup:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        Path root = Path.of(uploadPath).toAbsolutePath();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        int submitted = 0;
+        try (Stream<Path> paths = Files.walk(root, MAX_DEPTH)) {
+            Iterator<Path> iterator = paths.filter(Files::isRegularFile).iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                String fileName = path.getFileName().toString();
+                Optional<ImageType> type = ImageType.fromFileName(fileName);
+
+                if (!ImageFileWriter.isContentAddressed(fileName) || type.isEmpty() || !hasMissingVariant(path, fileName)) {
+                    continue;
+                }
+
+                String hash = fileName.substring(0, fileName.indexOf('.'));
+                // 대기열이 가득 차면 이 스레드에서 직접 만듦 (CallerRunsPolicy)
+                imageVariantGenerator.generateAsync(new StoredImage(path, type.get(), Files.size(path), hash, true));
+                submitted++;
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("변형 이미지 백필 중 디렉토리 탐색 실패: {}", root, e);
+        }
+
+        if (submitted > 0) {
+            log.info("변형 이미지 백필 요청: {}건", submitted);
+        }
+    }
+
+    private static boolean hasMissingVariant(Path original, String fileName) {
+        return Arrays.stream(ImageVariant.values())
+            .anyMatch(variant -> !Files.exists(original.resolveSibling(variant.fileNameOf(fileName))));
+    }
+}
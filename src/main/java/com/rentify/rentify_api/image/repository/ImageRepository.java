@@ -1,8 +1,25 @@
 package com.rentify.rentify_api.image.repository;
 
 import com.rentify.rentify_api.image.entity.Image;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ImageRepository extends JpaRepository<Image, Long> {
 
+    // 같은 내용의 이미지 파일을 참조하는 게시글 이미지 수
+    long countByFilename(String filename);
+
+    // 주어진 파일 중 게시글 이미지가 참조하는 파일 이름 (ImageOrphanSweeper 가 후보를 먼저 거르는 데 사용)
+    @Query("SELECT DISTINCT i.filename FROM Image i WHERE i.filename IN :filenames")
+    List<String> findReferencedFilenames(@Param("filenames") Collection<String> filenames);
+
+    /**
+     * 파일 단위 트랜잭션 범위 PostgreSQL advisory lock을 획득합니다. 커밋/롤백 시 자동으로 해제됩니다.
+     * 파일을 게시글에 붙이는 트랜잭션과, 참조 수를 세고 파일을 지우는 정리 작업을 직렬화하기 위해 사용합니다.
+     */
+    @Query(value = "SELECT COUNT(*) FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    long acquireFileLock(@Param("key") long key);
 }
@@ -0,0 +1,165 @@
+package com.rentify.rentify_api.image.scheduler;
+
+import com.rentify.rentify_api.image.repository.ImageRepository;
+import com.rentify.rentify_api.image.service.ImageFileWriter;
+import com.rentify.rentify_api.image.service.ImageOrphanCleaner;
+import com.rentify.rentify_api.image.service.ImageVariant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 어떤 게시글에도 붙지 않은 이미지 파일 정리.
+ * 업로드만 하고 게시글 등록이 실패/취소된 파일, 커밋 후 정리(ImageService.release)가 실패한 파일이 대상입니다.
+ * <p>
+ * 업로드 디렉토리를 훑어 orphan-grace 보다 오래된 원본만 모으고, post_images 에서 참조 중인 파일을 한 번에 거른 뒤
+ * 남은 파일만 ImageOrphanCleaner 로 넘깁니다 (lock 을 잡고 참조 수를 다시 센 뒤 지움).
+ * 중단되어 남은 임시 파일(.uploading, .resizing)과 원본 없이 남은 변형도 함께 지웁니다.
+ */
+@Slf4j
+@Component
+public class ImageOrphanSweeper {
+
+    // {root}/ab/cd/{hash}{ext}
+    private static final int MAX_DEPTH = 3;
+
+    private final ImageRepository imageRepository;
+    private final ImageOrphanCleaner imageOrphanCleaner;
+    private final Counter deletedCounter;
+
+    @Value("${file.upload.path}")
+    private String uploadPath;
+
+    @Value("${file.upload.orphan-grace:1h}")
+    private Duration orphanGrace;
+
+    @Value("${file.upload.orphan-sweep.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file.upload.orphan-sweep.batch-size:500}")
+    private int batchSize;
+
+    public ImageOrphanSweeper(
+        ImageRepository imageRepository,
+        ImageOrphanCleaner imageOrphanCleaner,
+        MeterRegistry meterRegistry
+    ) {
+        this.imageRepository = imageRepository;
+        this.imageOrphanCleaner = imageOrphanCleaner;
+        this.deletedCounter = Counter.builder("image.orphan.deleted")
+            .description("참조가 없어 정리된 이미지 파일 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${file.upload.orphan-sweep.interval-ms:3600000}",
+        fixedDelayString = "${file.upload.orphan-sweep.interval-ms:3600000}"
+    )
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+
+        Path root = Path.of(uploadPath).toAbsolutePath();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        Instant graceLimit = Instant.now().minus(orphanGrace);
+        List<String> candidates = new ArrayList<>(batchSize);
+        int deleted = 0;
+
+        try (Stream<Path> paths = Files.walk(root, MAX_DEPTH)) {
+            Iterator<Path> iterator = paths.filter(Files::isRegularFile).iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                String fileName = path.getFileName().toString();
+
+                if (!isOlderThan(path, graceLimit)) {
+                    continue;
+                }
+
+                if (ImageFileWriter.isTemporary(fileName) || isDetachedVariant(path, fileName)) {
+                    deleteQuietly(path);
+                } else if (ImageFileWriter.isContentAddressed(fileName)) {
+                    candidates.add(fileName);
+                    if (candidates.size() >= batchSize) {
+                        deleted += sweep(candidates);
+                        candidates.clear();
+                    }
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("이미지 파일 정리 중 디렉토리 탐색 실패: {}", root, e);
+        }
+
+        if (!candidates.isEmpty()) {
+            deleted += sweep(candidates);
+        }
+
+        if (deleted > 0) {
+            deletedCounter.increment(deleted);
+            log.info("참조가 없는 이미지 파일 정리: {}건", deleted);
+        }
+    }
+
+    private int sweep(List<String> candidates) {
+        Set<String> referenced = new HashSet<>(imageRepository.findReferencedFilenames(candidates));
+        int deleted = 0;
+
+        for (String fileName : candidates) {
+            if (referenced.contains(fileName)) {
+                continue;
+            }
+
+            try {
+                if (imageOrphanCleaner.deleteIfUnreferenced(fileName)) {
+                    deleted++;
+                }
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도
+                log.warn("이미지 파일 정리 실패: {}", fileName, e);
+            }
+        }
+        return deleted;
+    }
+
+    // 원본이 지워진 뒤 늦게 만들어진 변형
+    private static boolean isDetachedVariant(Path path, String fileName) {
+        return ImageVariant.originalFileNameOf(fileName)
+            .map(original -> !Files.exists(path.resolveSibling(original)))
+            .orElse(false);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static boolean isOlderThan(Path path, Instant limit) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(limit);
+        } catch (IOException e) {
+            // 탐색 중에 지워진 파일
+            return false;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.rentify.rentify_api.image.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JPEG 의 EXIF Orientation(0x0112) 태그.
+ * <p>
+ * 휴대폰 사진은 픽셀을 센서 방향 그대로 저장하고 보여줄 방향을 이 태그로 남깁니다. ImageIO 는 태그를 무시하고
+ * 변형은 메타데이터 없이 쓰므로, 디코딩한 이미지를 태그대로 돌린 뒤 줄여야 변형이 원본과 같은 방향으로 보입니다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int SOI = 0xFFD8;
+    private static final int SOS = 0xFFDA;
+    private static final int EOI = 0xFFD9;
+    private static final int APP1 = 0xFFE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * 이미지 데이터(SOS) 전까지의 APP1 세그먼트에서 Orientation 값(1~8)을 읽습니다. 없거나 읽을 수 없으면 NORMAL 입니다.
+     */
+    static int read(Path jpeg) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(jpeg)))) {
+            if (in.readUnsignedShort() != SOI) {
+                return NORMAL;
+            }
+
+            while (true) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == SOS || marker == EOI) {
+                    return NORMAL;
+                }
+
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL;
+                }
+
+                if (marker == APP1) {
+                    byte[] segment = new byte[length];
+                    in.readFully(segment);
+                    if (isExif(segment)) {
+                        return orientation(segment);
+                    }
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        } catch (EOFException e) {
+            // 잘린 파일
+            return NORMAL;
+        }
+    }
+
+    // 90도/270도 회전이 들어가 가로와 세로가 바뀌는 값
+    static boolean swapsAxes(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    /**
+     * Orientation 값대로 돌리거나 뒤집은 이미지. NORMAL 이면 그대로 돌려줍니다.
+     */
+    static BufferedImage apply(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        // (x, y) 를 보여줄 방향의 좌표로 옮기는 변환. new AffineTransform(m00, m10, m01, m11, m02, m12)
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);        // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);       // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);             // 대각선 반전 (transpose)
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);       // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);  // 반대 대각선 반전 (transverse)
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);        // 반시계 방향 90도
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+
+        boolean swap = swapsAxes(orientation);
+        int imageType = source.getTransparency() == Transparency.OPAQUE
+            ? BufferedImage.TYPE_INT_RGB
+            : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage oriented = new BufferedImage(swap ? height : width, swap ? width : height, imageType);
+
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            // 90도 단위 변환이라 보간하지 않음
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private static boolean isExif(byte[] segment) {
+        if (segment.length < EXIF_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < EXIF_HEADER.length; i++) {
+            if (segment[i] != EXIF_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Exif 헤더 뒤의 TIFF 구조에서 IFD0 의 Orientation 항목을 찾음
+    private static int orientation(byte[] segment) {
+        try {
+            ByteBuffer tiff = ByteBuffer.wrap(segment, EXIF_HEADER.length, segment.length - EXIF_HEADER.length).slice();
+            short byteOrder = tiff.getShort(0);
+            if (byteOrder == 0x4949) {
+                tiff.order(ByteOrder.LITTLE_ENDIAN);
+            } else if (byteOrder != 0x4D4D) {
+                return NORMAL;
+            }
+            if (tiff.getShort(2) != 42) {
+                return NORMAL;
+            }
+
+            int ifd = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(ifd));
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return value >= 1 && value <= 8 ? value : NORMAL;
+                }
+            }
+            return NORMAL;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            // 깨진 EXIF
+            return NORMAL;
+        }
+    }
+}
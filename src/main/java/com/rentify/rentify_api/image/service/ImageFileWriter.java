@@ -0,0 +1,198 @@
+package com.rentify.rentify_api.image.service;
+
+import com.rentify.rentify_api.image.dto.StoredImage;
+import com.rentify.rentify_api.image.exception.FileSizeExceededException;
+import com.rentify.rentify_api.image.exception.FileTypeNotAllowedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 파일을 내용의 SHA-256 으로 이름 지어 저장합니다 (content-addressed).
+ * <p>
+ * 경로는 {root}/ab/cd/{hash}{ext} 로, 해시 앞 4자리로 두 단계 디렉토리를 나눠 파일이 수백만 개여도
+ * 디렉토리 하나에 쌓이지 않게 합니다.
+ * <p>
+ * 업로드 스트림은 한 번만 읽습니다.
+ * 1. 앞부분으로 형식을 판별(magic bytes)합니다. 이미지가 아니면 디스크에 쓰지 않습니다.
+ * 2. 나머지를 읽으면서 크기 제한, 해시 계산, 임시 파일 쓰기(FileChannel)를 함께 합니다.
+ * 3. 같은 해시의 파일이 이미 있으면 임시 파일을 버리고 그 파일을 씁니다 (여러 게시글에 같은 사진을 올리는 경우).
+ *    없으면 임시 파일을 최종 경로로 옮깁니다.
+ * <p>
+ * 단계별 소요 시간은 image.upload.stage{stage=sniff|write|commit} 로 기록합니다 (write 는 해시 계산 포함).
+ */
+@Component
+public class ImageFileWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_SUFFIX = ".uploading";
+    private static final Pattern STORED_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z]+");
+
+    private final Timer sniffTimer;
+    private final Timer writeTimer;
+    private final Timer commitTimer;
+    private final Counter rejectedType;
+    private final Counter rejectedSize;
+    private final Counter deduplicated;
+    private final DistributionSummary uploadedBytes;
+
+    public ImageFileWriter(MeterRegistry meterRegistry) {
+        this.sniffTimer = stageTimer(meterRegistry, "sniff");
+        this.writeTimer = stageTimer(meterRegistry, "write");
+        this.commitTimer = stageTimer(meterRegistry, "commit");
+        this.rejectedType = meterRegistry.counter("image.upload.rejected", "reason", "type");
+        this.rejectedSize = meterRegistry.counter("image.upload.rejected", "reason", "size");
+        this.deduplicated = Counter.builder("image.upload.deduplicated")
+            .description("같은 내용의 파일이 이미 있어 쓰지 않은 업로드 수")
+            .register(meterRegistry);
+        this.uploadedBytes = DistributionSummary.builder("image.upload.bytes")
+            .description("저장한 이미지 파일 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 저장된 파일 이름({hash}{ext})의 실제 경로. content-addressed 이름이 아니면(이전 방식의 UUID 이름) root 바로 아래입니다.
+     */
+    public static Path resolve(Path root, String fileName) {
+        return root.resolve(relativePath(fileName));
+    }
+
+    // 업로드 디렉토리(= /images/ URL) 기준 상대 경로
+    public static String relativePath(String fileName) {
+        // 변형 이미지({hash}_{suffix}{ext})는 원본과 같은 디렉토리에 둠
+        if (!isContentAddressed(fileName) && ImageVariant.originalFileNameOf(fileName).isEmpty()) {
+            return fileName;
+        }
+        return fileName.substring(0, 2) + "/" + fileName.substring(2, 4) + "/" + fileName;
+    }
+
+    public static boolean isContentAddressed(String fileName) {
+        return STORED_NAME.matcher(fileName).matches();
+    }
+
+    // 저장/변형 생성 중에 중단되어 남은 임시 파일
+    public static boolean isTemporary(String fileName) {
+        return fileName.endsWith(TEMP_SUFFIX) || fileName.endsWith(ImageVariantGenerator.TEMP_SUFFIX);
+    }
+
+    public StoredImage write(MultipartFile file, Path root, long maxSize) {
+        try (InputStream in = file.getInputStream()) {
+            // 1. 형식 판별 (형식이 맞지 않으면 디스크에 쓰지 않음)
+            long sniffStart = System.nanoTime();
+            byte[] header = in.readNBytes(ImageType.HEADER_LENGTH);
+            ImageType type = ImageType.detect(header, header.length).orElse(null);
+            sniffTimer.record(System.nanoTime() - sniffStart, TimeUnit.NANOSECONDS);
+
+            if (type == null) {
+                rejectedType.increment();
+                throw new FileTypeNotAllowedException();
+            }
+
+            // 2. 임시 파일에 쓰면서 크기 확인과 해시를 함께 함. 해시가 정해지기 전이라 root 바로 아래에 둠 (같은 파일 시스템)
+            Files.createDirectories(root);
+            Path temp = root.resolve(UUID.randomUUID() + TEMP_SUFFIX);
+            try {
+                long writeStart = System.nanoTime();
+                MessageDigest digest = sha256();
+                long size;
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                    size = copy(in, header, channel, digest, maxSize);
+                }
+                String hash = HexFormat.of().formatHex(digest.digest());
+                writeTimer.record(System.nanoTime() - writeStart, TimeUnit.NANOSECONDS);
+
+                Path target = resolve(root, hash + type.extension());
+
+                // 3. 이미 있는 내용이면 임시 파일은 버림. 수정 시각을 갱신해 참조가 붙기 전에 정리되지 않도록 함
+                if (Files.exists(target)) {
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                    deduplicated.increment();
+                    return new StoredImage(target, type, size, hash, true);
+                }
+
+                // 같은 내용을 동시에 올려도 결과 파일은 같으므로 덮어써도 됨 (같은 파일 시스템 안이라 원자적)
+                long commitStart = System.nanoTime();
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                commitTimer.record(System.nanoTime() - commitStart, TimeUnit.NANOSECONDS);
+
+                uploadedBytes.record(size);
+                return new StoredImage(target, type, size, hash, false);
+            } finally {
+                deleteQuietly(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 저장에 실패했습니다.", e);
+        }
+    }
+
+    // 읽은 바이트를 그대로 해시하고 쓰므로 저장된 내용과 파일 이름(해시)이 항상 일치함
+    private long copy(InputStream in, byte[] header, FileChannel channel, MessageDigest digest, long maxSize)
+        throws IOException {
+        byte[] chunk = new byte[BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+
+        System.arraycopy(header, 0, chunk, 0, header.length);
+        int read = header.length;
+        long size = 0;
+
+        do {
+            size += read;
+            if (size > maxSize) {
+                rejectedSize.increment();
+                throw new FileSizeExceededException();
+            }
+            digest.update(chunk, 0, read);
+            buffer.clear().limit(read);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } while ((read = in.read(chunk)) != -1);
+
+        return size;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 남은 임시 파일은 이름(.uploading)으로 구분해 ImageOrphanSweeper 가 정리함
+        }
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("image.upload.stage")
+            .description("이미지 업로드 단계별 소요 시간")
+            .tag("stage", stage)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.rentify.rentify_api.image.service;
+
+import com.rentify.rentify_api.image.repository.ImageRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 어떤 게시글도 참조하지 않는 content-addressed 이미지 파일과 그 변형을 지웁니다.
+ * <p>
+ * 파일 이름 단위 advisory lock 을 잡은 채로 참조 수를 세고 파일을 지웁니다. 파일을 게시글에 붙이는 쪽도
+ * 같은 lock 을 잡으므로(ImageService.lockFiles), 아직 커밋되지 않은 참조가 있는 파일은 그 트랜잭션이 끝난 뒤에
+ * 다시 세게 되어 지워지지 않습니다. 최근에 업로드된 파일은 아직 게시글에 붙기 전일 수 있으므로
+ * orphan-grace 가 지나기 전에는 지우지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageOrphanCleaner {
+
+    private final ImageRepository imageRepository;
+
+    @Value("${file.upload.path}")
+    private String uploadPath;
+
+    @Value("${file.upload.orphan-grace:1h}")
+    private Duration orphanGrace;
+
+    /**
+     * 커밋 후(afterCommit)에도 호출되므로 항상 새 트랜잭션에서 lock 을 잡습니다.
+     *
+     * @return 파일을 지웠으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean deleteIfUnreferenced(String fileName) {
+        // 이전 방식(UUID 이름)의 파일은 공유되지 않으므로 대상이 아님
+        if (!ImageFileWriter.isContentAddressed(fileName)) {
+            return false;
+        }
+
+        imageRepository.acquireFileLock(lockKey(fileName));
+        if (imageRepository.countByFilename(fileName) > 0) {
+            return false;
+        }
+
+        Path path = ImageFileWriter.resolve(Path.of(uploadPath).toAbsolutePath(), fileName);
+        Instant graceLimit = Instant.now().minus(orphanGrace);
+        try {
+            if (!Files.exists(path) || !Files.getLastModifiedTime(path).toInstant().isBefore(graceLimit)) {
+                return false;
+            }
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                Files.deleteIfExists(path.resolveSibling(variant.fileNameOf(fileName)));
+            }
+            Files.delete(path);
+            log.info("참조가 없는 이미지 파일 삭제: {}", fileName);
+            return true;
+        } catch (IOException e) {
+            log.warn("이미지 파일 정리 실패: {}", path, e);
+            return false;
+        }
+    }
+
+    /**
+     * 파일 이름의 advisory lock 키. content-addressed 이름은 SHA-256 hex 이므로 앞 16자리를 그대로 씁니다.
+     */
+    public static long lockKey(String fileName) {
+        return Long.parseUnsignedLong(fileName.substring(0, 16), 16);
+    }
+}
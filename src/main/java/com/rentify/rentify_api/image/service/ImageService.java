@@ -1,21 +1,44 @@
 package com.rentify.rentify_api.image.service;
 
+import com.rentify.rentify_api.image.dto.StoredImage;
 import com.rentify.rentify_api.image.entity.Image;
+import com.rentify.rentify_api.image.exception.FileExpiredException;
 import com.rentify.rentify_api.image.exception.FileLimitExceededException;
 import com.rentify.rentify_api.image.exception.FileSizeExceededException;
 import com.rentify.rentify_api.image.exception.FileTypeNotAllowedException;
 import com.rentify.rentify_api.image.repository.ImageRepository;
 import com.rentify.rentify_api.post.entity.Post;
-import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -23,7 +46,13 @@ import org.springframework.web.multipart.MultipartFile;
 @Slf4j
 public class ImageService {
 
+    private static final int MAX_FILE_COUNT = 5;
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
     private final ImageRepository imageRepository;
+    private final ImageFileWriter imageFileWriter;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageOrphanCleaner imageOrphanCleaner;
 
     @Value("${file.upload.path}")
     private String uploadPath;
@@ -31,41 +60,56 @@ public class ImageService {
     @Value("${file.base.url:http://localhost:8080}")
     private String baseUrl;
 
-    @Transactional
+    /**
+     * 한 요청의 파일들을 가상 스레드에서 동시에 저장합니다.
+     * 하나라도 실패하면 나머지 작업을 중단하고 예외를 던집니다.
+     */
     public List<String> uploadImages(List<MultipartFile> files) {
         validateFiles(files);
 
-        File uploadDir = new File(uploadPath).getAbsoluteFile();
-        if (!uploadDir.exists()) {
-            boolean created = uploadDir.mkdirs();
-            if (!created) {
-                throw new RuntimeException("업로드 디렉토리 생성 실패: " + uploadDir.getAbsolutePath());
-            }
-            log.info("Upload directory created: {}", uploadPath);
-        }
+        Path uploadDir = createUploadDirectory();
+        StoredImage[] stored = new StoredImage[files.size()];
+        RuntimeException failure = null;
 
-        List<String> imageUrls = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<Integer> completion = new ExecutorCompletionService<>(executor);
+            List<Future<Integer>> futures = new ArrayList<>(files.size());
 
-        for (MultipartFile file : files) {
-            try {
-                String originalFilename = file.getOriginalFilename();
-                String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-                String savedFileName = UUID.randomUUID() + extension;
+            for (int i = 0; i < files.size(); i++) {
+                int index = i;
+                futures.add(completion.submit(() -> {
+                    stored[index] = imageFileWriter.write(files.get(index), uploadDir, MAX_FILE_SIZE);
+                    return index;
+                }));
+            }
 
-                File dest = new File(uploadDir, savedFileName);
-                file.transferTo(dest);
+            // 끝나는 순서대로 확인해 하나라도 실패하면 나머지를 바로 중단
+            try {
+                for (int i = 0; i < files.size(); i++) {
+                    awaitNext(completion);
+                }
+            } catch (RuntimeException e) {
+                futures.forEach(future -> future.cancel(true));
+                failure = e;
+            }
+        }
 
-                String imageUrl = baseUrl + "/images/" + savedFileName;
-                imageUrls.add(imageUrl);
+        // 이미 저장된 파일은 다른 업로드와 같은 내용(같은 파일)일 수 있으므로 지우지 않음.
+        // 어떤 게시글에도 붙지 않은 파일은 orphan-grace 가 지난 뒤 ImageOrphanSweeper 가 정리함
+        if (failure != null) {
+            throw failure;
+        }
 
-                log.info("파일 저장 완료: {} -> {}, URL: {}", originalFilename, savedFileName, imageUrl);
+        List<String> imageUrls = new ArrayList<>(files.size());
+        for (int i = 0; i < stored.length; i++) {
+            String savedFileName = stored[i].path().getFileName().toString();
+            imageUrls.add(baseUrl + "/images/" + ImageFileWriter.relativePath(savedFileName));
 
-            } catch (IOException e) {
-                log.error("파일 저장 실패: {}", file.getOriginalFilename(), e);
-                throw new RuntimeException("파일 저장에 실패했습니다.", e);
-            }
+            log.info("파일 저장 완료: {} -> {} ({} bytes, 중복 {})",
+                files.get(i).getOriginalFilename(), savedFileName, stored[i].size(), stored[i].deduplicated());
+            // 중복 업로드여도 변형이 빠져 있으면 채움
+            imageVariantGenerator.generateAsync(stored[i]);
         }
-
         return imageUrls;
     }
 
@@ -78,38 +122,184 @@ public class ImageService {
         List<Image> images = new ArrayList<>();
 
         for (int i = 0; i < imageUrls.size(); i++) {
-            String url = imageUrls.get(i);
-            String filename = url.substring(url.lastIndexOf("/") + 1);
+            images.add(newImage(post, imageUrls.get(i), (short) i));
+        }
 
-            Image image = Image.builder()
-                .post(post)
-                .url(url)
-                .filename(filename)
-                .order((short) i)
-                .build();
+        lockFiles(images.stream().map(Image::getFilename).toList());
+        imageRepository.saveAll(images);
+    }
 
-            images.add(image);
+    /**
+     * 게시글의 이미지 목록을 요청한 URL 순서에 맞춥니다.
+     * URL 이 같은 기존 이미지는 그대로 두고(순서만 바뀌면 sort_order 만 수정), 새 URL 만 추가하고 빠진 URL 만 삭제합니다.
+     *
+     * @return 이미지 목록이 바뀌었으면 true
+     */
+    @Transactional
+    public boolean syncImages(Post post, List<String> imageUrls) {
+        List<String> requested = imageUrls == null ? List.of() : imageUrls;
+        List<Image> current = post.getImages();
+
+        if (current.stream().map(Image::getUrl).toList().equals(requested)) {
+            return false;
         }
 
-        imageRepository.saveAll(images);
+        // 같은 URL 이 여러 번 있을 수 있으므로 URL 별로 기존 이미지를 순서대로 꺼내 씀
+        Map<String, Deque<Image>> reusable = new HashMap<>();
+        for (Image image : current) {
+            reusable.computeIfAbsent(image.getUrl(), url -> new ArrayDeque<>()).add(image);
+        }
+
+        List<Image> synced = new ArrayList<>(requested.size());
+        for (int i = 0; i < requested.size(); i++) {
+            String url = requested.get(i);
+            short order = (short) i;
+
+            Deque<Image> candidates = reusable.get(url);
+            Image image = candidates == null ? null : candidates.poll();
+
+            if (image == null) {
+                image = newImage(post, url, order);
+            } else if (image.getOrder() == null || image.getOrder() != order) {
+                image.changeOrder(order);
+            }
+            synced.add(image);
+        }
+
+        Set<String> released = new HashSet<>();
+        reusable.values().forEach(left -> left.forEach(image -> released.add(image.getFilename())));
+
+        lockFiles(synced.stream().filter(image -> image.getId() == null).map(Image::getFilename).toList());
+
+        // 컬렉션을 교체하면 빠진 이미지는 orphanRemoval 로 삭제, 새 이미지는 cascade 로 저장됨
+        current.retainAll(synced);
+        for (Image image : synced) {
+            if (image.getId() == null) {
+                current.add(image);
+            }
+        }
+        current.sort(Comparator.comparing(Image::getOrder));
+
+        releaseAfterCommit(released);
+        return true;
+    }
+
+    private static Image newImage(Post post, String url, short order) {
+        return Image.builder()
+            .post(post)
+            .url(url)
+            .filename(url.substring(url.lastIndexOf("/") + 1))
+            .order(order)
+            .thumbnailUrl(ImageVariant.THUMB.urlOf(url))
+            .cardUrl(ImageVariant.CARD.urlOf(url))
+            .fullUrl(ImageVariant.FULL.urlOf(url))
+            .build();
     }
 
+    /**
+     * 새로 붙이는 파일마다 ImageOrphanCleaner 와 같은 advisory lock 을 잡습니다. lock 은 커밋까지 유지되므로
+     * 정리 작업은 이 트랜잭션의 참조가 커밋된 뒤에 참조 수를 세게 됩니다.
+     * lock 을 잡은 뒤에도 파일이 없으면 이미 정리된 것이므로 다시 업로드하도록 합니다.
+     * 여러 요청이 같은 파일들을 붙일 때 교착되지 않도록 이름 순서로 잡습니다.
+     */
+    private void lockFiles(Collection<String> fileNames) {
+        for (String fileName : new TreeSet<>(fileNames)) {
+            // 이전 방식(UUID 이름)의 파일은 공유되지 않고 정리 대상도 아님
+            if (!ImageFileWriter.isContentAddressed(fileName)) {
+                continue;
+            }
+
+            imageRepository.acquireFileLock(ImageOrphanCleaner.lockKey(fileName));
+
+            Path path = ImageFileWriter.resolve(Path.of(uploadPath).toAbsolutePath(), fileName);
+            try {
+                // 참조가 커밋되기 전에 롤백되더라도 orphan-grace 동안은 남도록 수정 시각을 갱신
+                Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            } catch (NoSuchFileException e) {
+                throw new FileExpiredException();
+            } catch (IOException e) {
+                throw new UncheckedIOException("이미지 파일 확인에 실패했습니다: " + fileName, e);
+            }
+        }
+    }
+
+    // 요청에 적힌 개수/크기/형식으로 먼저 거름. 실제 형식과 크기는 저장하면서 다시 확인
     private void validateFiles(List<MultipartFile> files) {
-        if (files.size() > 5) {
+        if (files.size() > MAX_FILE_COUNT) {
             throw new FileLimitExceededException();
         }
 
         files.forEach(file -> {
-            if (file.getSize() > 10 * 1024 * 1024) {
+            if (file.getSize() > MAX_FILE_SIZE) {
                 throw new FileSizeExceededException();
             }
 
-            String contentType = file.getContentType();
-            if (contentType == null ||
-                (!contentType.equals("image/jpeg") && !contentType.equals("image/png"))) {
+            if (!ImageType.isAllowedContentType(file.getContentType())) {
                 throw new FileTypeNotAllowedException();
             }
         });
     }
 
+    private Path createUploadDirectory() {
+        Path uploadDir = Path.of(uploadPath).toAbsolutePath();
+        if (Files.isDirectory(uploadDir)) {
+            return uploadDir;
+        }
+
+        try {
+            Files.createDirectories(uploadDir);
+            log.info("Upload directory created: {}", uploadDir);
+            return uploadDir;
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 디렉토리 생성 실패: " + uploadDir, e);
+        }
+    }
+
+    private static void awaitNext(CompletionService<Integer> completion) {
+        try {
+            completion.take().get();
+        } catch (ExecutionException e) {
+            // FileException 등은 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("파일 저장에 실패했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파일 저장이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 게시글에서 빠진 이미지 파일 중 더 이상 어떤 게시글도 참조하지 않는 파일을 커밋 후 지웁니다.
+     * 파일마다 ImageOrphanCleaner 가 새 트랜잭션에서 lock 을 잡고 참조 수를 다시 셉니다.
+     */
+    private void releaseAfterCommit(Set<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(fileNames);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(fileNames);
+            }
+        });
+    }
+
+    private void release(Set<String> fileNames) {
+        for (String fileName : fileNames) {
+            try {
+                imageOrphanCleaner.deleteIfUnreferenced(fileName);
+            } catch (RuntimeException e) {
+                // 남은 파일은 ImageOrphanSweeper 가 다시 정리함
+                log.warn("이미지 파일 정리 실패: {}", fileName, e);
+            }
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.rentify.rentify_api.image.service;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 업로드를 허용하는 이미지 형식. 클라이언트가 보낸 Content-Type 이 아닌 파일 앞부분(magic bytes)으로 판별합니다.
+ */
+public enum ImageType {
+
+    JPEG("image/jpeg", ".jpg", new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG("image/png", ".png", new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+
+    // 판별에 필요한 최대 헤더 길이
+    public static final int HEADER_LENGTH = 8;
+
+    private final String contentType;
+    private final String extension;
+    private final byte[] signature;
+
+    ImageType(String contentType, String extension, byte[] signature) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.signature = signature;
+    }
+
+    public static Optional<ImageType> detect(byte[] header, int length) {
+        return Arrays.stream(values())
+            .filter(type -> type.matches(header, length))
+            .findFirst();
+    }
+
+    // 저장된 파일 이름({hash}{ext})의 형식
+    public static Optional<ImageType> fromFileName(String fileName) {
+        return Arrays.stream(values())
+            .filter(type -> fileName.endsWith(type.extension))
+            .findFirst();
+    }
+
+    public static boolean isAllowedContentType(String contentType) {
+        return Arrays.stream(values()).anyMatch(type -> type.contentType.equals(contentType));
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    private boolean matches(byte[] header, int length) {
+        return length >= signature.length
+            && Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+}
@@ -0,0 +1,74 @@
+package com.rentify.rentify_api.image.service;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 시 미리 만들어 두는 고정 너비 이미지.
+ * 원본 {hash}{ext} 옆에 {hash}_{suffix}{ext} 로 저장하며, 원본이 이 너비보다 작으면 만들지 않고 원본을 그대로 씁니다.
+ */
+public enum ImageVariant {
+
+    // 게시글 상세의 이미지 목록 등 작은 썸네일 (Image.thumbnailUrl)
+    THUMB("thumb", 240),
+    // 게시글 목록 카드와 대여 목록. 게시글 대표 이미지(Post.thumbnailUrl)를 대여 목록(RentalView)도 그대로 씀
+    CARD("card", 640),
+    // 게시글 상세
+    FULL("full", 1280);
+
+    private static final Pattern ORIGINAL = Pattern.compile("([0-9a-f]{64})(\\.[a-z]+)");
+    private static final Pattern VARIANT = Pattern.compile("([0-9a-f]{64})_([a-z]+)(\\.[a-z]+)");
+
+    private final String suffix;
+    private final int width;
+
+    ImageVariant(String suffix, int width) {
+        this.suffix = suffix;
+        this.width = width;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    /**
+     * 원본 파일 이름의 변형 파일 이름. content-addressed 원본이 아니면(이전 방식의 UUID 이름) 그대로 돌려줍니다.
+     */
+    public String fileNameOf(String originalFileName) {
+        Matcher matcher = ORIGINAL.matcher(originalFileName);
+        if (!matcher.matches()) {
+            return originalFileName;
+        }
+        return matcher.group(1) + "_" + suffix + matcher.group(2);
+    }
+
+    /**
+     * 원본 URL 의 변형 URL. 변형이 없는 원본(이전 방식)이면 원본 URL 을 그대로 돌려줍니다.
+     */
+    public String urlOf(String originalUrl) {
+        if (originalUrl == null) {
+            return null;
+        }
+
+        int slash = originalUrl.lastIndexOf('/');
+        String fileName = originalUrl.substring(slash + 1);
+        String variantName = fileNameOf(fileName);
+        return variantName.equals(fileName) ? originalUrl : originalUrl.substring(0, slash + 1) + variantName;
+    }
+
+    /**
+     * 변형 파일 이름이면 원본 파일 이름. 변형이 아직 없을 때 원본으로 대신 응답하는 데 사용합니다.
+     */
+    public static Optional<String> originalFileNameOf(String fileName) {
+        Matcher matcher = VARIANT.matcher(fileName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        String suffix = matcher.group(2);
+        boolean known = Arrays.stream(values()).anyMatch(variant -> variant.suffix.equals(suffix));
+        return known ? Optional.of(matcher.group(1) + matcher.group(3)) : Optional.empty();
+    }
+}
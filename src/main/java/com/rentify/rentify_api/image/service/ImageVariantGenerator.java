@@ -0,0 +1,231 @@
+package com.rentify.rentify_api.image.service;
+
+import com.rentify.rentify_api.image.dto.StoredImage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.FileImageOutputStream;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드된 원본으로 고정 너비 변형(ImageVariant)을 만듭니다. JDK ImageIO 만 사용합니다.
+ * <p>
+ * 디코딩한 원본은 수십 MB 의 메모리를 쓰므로 스레드 수와 대기열이 제한된 전용 executor 에서 실행합니다
+ * (AsyncConfig.imageVariantExecutor). 변형이 만들어지기 전에 요청된 변형 URL 은 원본으로 응답합니다 (WebConfig).
+ * <p>
+ * 파일 크기 제한(10MB)은 디코딩 후 크기를 막지 못하므로(작은 PNG 가 수억 픽셀일 수 있음) 디코딩 전에 헤더에서
+ * 가로/세로만 읽어 max-pixels 를 넘으면 만들지 않습니다. 큰 원본은 필요한 변형 너비의 2배 이상만 남도록
+ * 행/열을 건너뛰며(subsampling) 디코딩해 메모리를 줄입니다. executor 가 가득 차면 요청 스레드에서
+ * 실행되므로(CallerRunsPolicy) OutOfMemoryError 도 여기서 잡아 요청이 실패하지 않게 합니다.
+ * <p>
+ * JPEG 는 EXIF Orientation 대로 돌린 뒤 줄입니다 (ExifOrientation). 변형에는 메타데이터를 남기지 않습니다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    static final String TEMP_SUFFIX = ".resizing";
+
+    private final Executor executor;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final Timer generateTimer;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public ImageVariantGenerator(
+        @Qualifier("imageVariantExecutor") Executor executor,
+        MeterRegistry meterRegistry,
+        @Value("${file.image.variant.jpeg-quality:0.82}") float jpegQuality,
+        @Value("${file.image.variant.max-pixels:40000000}") long maxPixels
+    ) {
+        this.executor = executor;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.generateTimer = Timer.builder("image.variant.generate")
+            .description("원본 하나의 변형 이미지 생성 시간")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("image.variant.failed")
+            .description("변형 이미지 생성 실패 수")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("image.variant.rejected")
+            .description("픽셀 수가 max-pixels 를 넘어 변형을 만들지 않은 원본 수")
+            .register(meterRegistry);
+    }
+
+    public void generateAsync(StoredImage stored) {
+        executor.execute(() -> generateTimer.record(() -> generate(stored)));
+    }
+
+    void generate(StoredImage stored) {
+        Path original = stored.path();
+        String fileName = original.getFileName().toString();
+
+        // 파일 기반 스트림은 ImageIO 의 임시 파일 캐시(ImageIO.setUseCache)를 쓰지 않음
+        try (ImageInputStream in = new FileImageInputStream(original.toFile())) {
+            ImageReader reader = readerFor(in);
+            if (reader == null) {
+                failedCounter.increment();
+                log.warn("변형 이미지 생성 실패 (읽을 수 없는 이미지): {}", original);
+                return;
+            }
+
+            try {
+                reader.setInput(in, true, true);
+                generate(reader, stored, fileName);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("변형 이미지 생성 실패: {}", original, e);
+        } catch (OutOfMemoryError e) {
+            failedCounter.increment();
+            log.error("변형 이미지 생성 중 메모리 부족: {}", original);
+        }
+    }
+
+    private void generate(ImageReader reader, StoredImage stored, String fileName) throws IOException {
+        Path original = stored.path();
+
+        // 헤더만 읽음 (픽셀은 아직 디코딩하지 않음)
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxPixels) {
+            rejectedCounter.increment();
+            log.warn("변형 이미지를 만들지 않음 (픽셀 수 초과 {}x{}): {}", width, height, original);
+            return;
+        }
+
+        // 변형 너비는 보여줄 방향(EXIF Orientation 적용 후) 기준
+        int orientation = stored.type() == ImageType.JPEG ? ExifOrientation.read(original) : ExifOrientation.NORMAL;
+        int displayWidth = ExifOrientation.swapsAxes(orientation) ? height : width;
+
+        // 원본이 더 작은 변형은 만들지 않음 (변형 URL 은 원본으로 응답됨). 이미 있는 변형도 건너뜀
+        List<ImageVariant> missing = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (displayWidth > variant.width() && !Files.exists(original.resolveSibling(variant.fileNameOf(fileName)))) {
+                missing.add(variant);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        int widest = missing.stream().mapToInt(ImageVariant::width).max().orElseThrow();
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = subsampling(displayWidth, widest);
+        if (subsampling > 1) {
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        }
+
+        // 줄이기 전에 돌려 둠 (변형에는 메타데이터를 쓰지 않으므로 픽셀 방향이 곧 보이는 방향)
+        BufferedImage source = ExifOrientation.apply(reader.read(0, param), orientation);
+        for (ImageVariant variant : missing) {
+            BufferedImage scaled = scale(source, variant.width());
+            write(scaled, stored.type(), original.resolveSibling(variant.fileNameOf(fileName)));
+        }
+    }
+
+    private static ImageReader readerFor(ImageInputStream in) {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        return readers.hasNext() ? readers.next() : null;
+    }
+
+    // 디코딩 결과가 가장 큰 변형 너비의 2배 이상은 남도록 건너뛸 간격 (절반씩 줄이는 단계를 한 번 이상 거치도록)
+    static int subsampling(int sourceWidth, int widestVariant) {
+        return Math.max(1, sourceWidth / (widestVariant * 2));
+    }
+
+    // 한 번에 크게 줄이면 bilinear 보간에서 계단 현상이 생기므로 절반씩 줄임
+    private static BufferedImage scale(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        int imageType = source.getTransparency() == Transparency.OPAQUE
+            ? BufferedImage.TYPE_INT_RGB
+            : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = source;
+        for (Dimension step : steps(source.getWidth(), source.getHeight(), targetWidth, targetHeight)) {
+            int width = step.width;
+            int height = step.height;
+
+            BufferedImage next = new BufferedImage(width, height, imageType);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        }
+
+        return current;
+    }
+
+    // 목표 크기에 닿을 때까지 절반씩 줄인 중간 크기들 (마지막이 목표 크기)
+    static List<Dimension> steps(int width, int height, int targetWidth, int targetHeight) {
+        List<Dimension> steps = new ArrayList<>();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            steps.add(new Dimension(width, height));
+        } while (width != targetWidth || height != targetHeight);
+        return steps;
+    }
+
+    private void write(BufferedImage image, ImageType type, Path target) throws IOException {
+        Path temp = target.resolveSibling(UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            if (type == ImageType.JPEG) {
+                writeJpeg(image, temp);
+            } else {
+                ImageIO.write(image, "png", temp.toFile());
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path path) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = new FileImageOutputStream(path.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -9,7 +9,8 @@ public enum PaymentFailReason {
     PG_REJECTED("PG사 결제 승인 실패"),
     INSUFFICIENT_POINT("포인트 잔액 부족"),
     CONCURRENCY_CONFLICT("재고 선점 실패"),
-    INTERNAL_SYSTEM_ERROR("내부 시스템 오류");
+    INTERNAL_SYSTEM_ERROR("내부 시스템 오류"),
+    PAYMENT_TIMEOUT("결제 시간 초과");
 
     private final String description;
 }
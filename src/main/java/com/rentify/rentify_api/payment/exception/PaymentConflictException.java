@@ -0,0 +1,13 @@
+package com.rentify.rentify_api.payment.exception;
+
+import com.rentify.rentify_api.common.exception.DuplicateException;
+
+/**
+ * 결제 확정 중 조건부 UPDATE 가 0건이 된 경우 (다른 요청이 먼저 상태를 바꿈).
+ */
+public class PaymentConflictException extends DuplicateException {
+
+    public PaymentConflictException(String message) {
+        super(message);
+    }
+}
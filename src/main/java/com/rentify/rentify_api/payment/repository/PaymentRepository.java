@@ -1,9 +1,14 @@
 package com.rentify.rentify_api.payment.repository;
 
 import com.rentify.rentify_api.payment.entity.Payment;
+import com.rentify.rentify_api.payment.entity.PaymentFailReason;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,4 +24,32 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
             "WHERE p.user.id = :userId"
     )
     Page<Payment> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 결제 대기(PENDING)일 때만 결제 완료로 변경
+    @Modifying
+    @Query(
+        "UPDATE Payment p SET p.status = com.rentify.rentify_api.payment.entity.PaymentStatus.PAID, " +
+        "p.paidAt = :now, p.updateAt = :now, p.version = p.version + 1 " +
+        "WHERE p.id = :id AND p.status = com.rentify.rentify_api.payment.entity.PaymentStatus.PENDING"
+    )
+    int markAsPaidIfPending(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query(
+        "SELECT p.id FROM Payment p " +
+        "WHERE p.rental.id IN :rentalIds AND p.status = com.rentify.rentify_api.payment.entity.PaymentStatus.PENDING"
+    )
+    List<Long> findPendingIdsByRentalIds(@Param("rentalIds") Collection<Long> rentalIds);
+
+    // 결제 대기(PENDING)일 때만 실패로 변경 (끝나지 않은 결제 정리용)
+    @Modifying
+    @Query(
+        "UPDATE Payment p SET p.status = com.rentify.rentify_api.payment.entity.PaymentStatus.FAILED, " +
+        "p.failReason = :reason, p.cancelAt = :now, p.updateAt = :now, p.version = p.version + 1 " +
+        "WHERE p.id IN :ids AND p.status = com.rentify.rentify_api.payment.entity.PaymentStatus.PENDING"
+    )
+    int markAsFailedIfPending(
+        @Param("ids") Collection<Long> ids,
+        @Param("reason") PaymentFailReason reason,
+        @Param("now") LocalDateTime now
+    );
 }
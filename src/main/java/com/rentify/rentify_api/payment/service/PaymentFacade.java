@@ -4,6 +4,7 @@ import com.rentify.rentify_api.common.exception.DuplicateException;
 import com.rentify.rentify_api.payment.dto.PaymentRequest;
 import com.rentify.rentify_api.payment.entity.Payment;
 import com.rentify.rentify_api.payment.entity.PaymentFailReason;
+import com.rentify.rentify_api.payment.exception.PaymentConflictException;
 import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.PessimisticLockException;
 import jakarta.validation.Valid;
@@ -34,7 +35,7 @@ public class PaymentFacade {
         try {
             paymentService.completePayment(paymentId, userId, request);
             return paymentId;
-        } catch (OptimisticLockException | PessimisticLockException e) {
+        } catch (PaymentConflictException | OptimisticLockException | PessimisticLockException e) {
             log.error("내부 처리 중 에러 발생, PG 결제를 취소합니다.", e);
 
             mockPgClient.cancelPayment(paymentId);
@@ -16,6 +16,7 @@ import com.rentify.rentify_api.payment.entity.PaymentEvent;
 import com.rentify.rentify_api.payment.entity.PaymentEventType;
 import com.rentify.rentify_api.payment.entity.PaymentFailReason;
 import com.rentify.rentify_api.payment.entity.PaymentStatus;
+import com.rentify.rentify_api.payment.exception.PaymentConflictException;
 import com.rentify.rentify_api.payment.exception.PaymentNotFoundException;
 import com.rentify.rentify_api.payment.repository.PaymentEventRepository;
 import com.rentify.rentify_api.payment.repository.PaymentRepository;
@@ -23,23 +24,29 @@ import com.rentify.rentify_api.point.entity.PointHistory;
 import com.rentify.rentify_api.point.entity.PointHistoryType;
 import com.rentify.rentify_api.point.repository.PointHistoryRepository;
 import com.rentify.rentify_api.post.entity.Post;
-import com.rentify.rentify_api.post.entity.PostStatus;
-import com.rentify.rentify_api.post.exception.PostNotFoundException;
-import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.rental.dto.RentalChangedEvent;
 import com.rentify.rentify_api.rental.entity.Rental;
 import com.rentify.rentify_api.rental.entity.RentalStatus;
 import com.rentify.rentify_api.rental.exception.RentalNotAvailableException;
 import com.rentify.rentify_api.rental.exception.RentalNotFoundException;
 import com.rentify.rentify_api.rental.repository.RentalRepository;
+import com.rentify.rentify_api.rental.service.RentalAvailabilityIndex;
+import com.rentify.rentify_api.rental.service.RentalViewProjector;
 import com.rentify.rentify_api.user.entity.User;
 import com.rentify.rentify_api.user.exception.UnauthenticatedException;
 import com.rentify.rentify_api.user.exception.UserNotFoundException;
 import com.rentify.rentify_api.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.IntSupplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -55,10 +62,18 @@ public class PaymentService {
     private final UserRepository userRepository;
     private final RentalRepository rentalRepository;
     private final UserCouponRepository userCouponRepository;
-    private final PostRepository postRepository;
     private final PaymentEventRepository paymentEventRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final PointHistoryRepository pointHistoryRepository;
+    private final RentalAvailabilityIndex rentalAvailabilityIndex;
+    private final RentalViewProjector rentalViewProjector;
+    private final MeterRegistry meterRegistry;
+
+    private static final List<RentalStatus> CONFIRMED_STATUSES =
+        List.of(RentalStatus.CONFIRMED, RentalStatus.IN_USE);
+
+    // 확정된 대여 기간 겹침 방지 제약 (V7)
+    private static final String CONFIRMED_PERIOD_CONSTRAINT = "ex_rentals_confirmed_period";
 
     @Transactional
     public Payment createPendingPayment(Long userId, PaymentRequest request) {
@@ -96,50 +111,71 @@ public class PaymentService {
 
         Payment savedPayment = paymentRepository.save(payment);
         paymentEventRepository.save(paymentEvent);
+        rentalViewProjector.onPaymentChanged(savedPayment);
 
         return savedPayment;
     }
 
+    /**
+     * 검증(읽기)을 먼저 끝낸 뒤 상태 변경은 조건부 UPDATE(CAS)로 처리합니다.
+     * 각 조건은 UPDATE 결과 행 수로 확인하며, 하나라도 0건이면 전체 롤백됩니다.
+     * <p>
+     * 기간 중복은 먼저 잠금 없이 확인해 이미 확정된 기간이면 바로 거절하고,
+     * 동시에 확인을 통과한 겹치는 두 결제는 rentals 의 배타 제약(ex_rentals_confirmed_period)이 막습니다.
+     * 제약은 겹치는 기간의 확정끼리만 대기/충돌하므로 같은 게시글이라도 기간이 다르면 동시에 확정됩니다.
+     */
     @Transactional
     public void completePayment(Long paymentId, Long userId, PaymentRequest request) {
         Payment payment = paymentRepository.findById(paymentId)
             .orElseThrow(PaymentNotFoundException::new);
+        Rental rental = payment.getRental();
+        Post post = rental.getPost();
 
-        Rental rental = rentalRepository.findByIdWithPessimisticLock(payment.getRental().getId())
-            .orElseThrow(RentalNotFoundException::new);
+        if (rentalRepository.existsOverlappingRentalExcept(
+            post.getId(), rental.getStartDate(), rental.getEndDate(), CONFIRMED_STATUSES, rental.getId())) {
+            throw new RentalNotAvailableException();
+        }
 
-        Post post = postRepository.findByIdWithPessimisticLock(rental.getPost().getId())
-            .orElseThrow(PostNotFoundException::new);
+        LocalDateTime now = LocalDateTime.now();
 
-        if (post.getStatus() != PostStatus.AVAILABLE) {
-            throw new RentalNotAvailableException();
+        // 겹치는 기간을 확정 중인 다른 트랜잭션이 있으면 이 UPDATE 가 배타 제약에서 대기하므로 그 시간도 여기에 기록됨
+        if (confirmRental(rental.getId(), now) == 0) {
+            throw new PaymentConflictException("이미 처리되었거나 취소된 대여입니다.");
         }
 
-        if (request.getPointAmount() > 0) {
-            User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-            user.usePoint(request.getPointAmount());
+        if (timed("payment", () -> paymentRepository.markAsPaidIfPending(paymentId, now)) == 0) {
+            throw new PaymentConflictException("이미 처리된 결제입니다.");
+        }
+
+        if (payment.getUserCoupon() != null) {
+            Long userCouponId = payment.getUserCoupon().getId();
+            if (timed("coupon", () -> userCouponRepository.markAsUsedIfAvailable(userCouponId, now)) == 0) {
+                throw new CouponAlreadyUsedException();
+            }
+        }
+
+        int pointAmount = request.getPointAmount();
+        if (pointAmount > 0) {
+            if (timed("point", () -> userRepository.deductPointIfEnough(userId, pointAmount)) == 0) {
+                throw new InvalidValueException("사용 가능한 포인트를 초과했습니다.");
+            }
 
             String description = "[" + post.getTitle() + "] 대여 시 사용";
 
             PointHistory pointHistory = PointHistory.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .rental(rental)
                 .payment(payment)
                 .type(PointHistoryType.SPEND)
-                .amount(request.getPointAmount())
-                .finalBalance(user.getPoint())
+                .amount(pointAmount)
+                .finalBalance(userRepository.findPointById(userId))
                 .description(description)
                 .build();
             pointHistoryRepository.save(pointHistory);
         }
 
-        if (payment.getUserCoupon() != null) {
-            payment.getUserCoupon().markAsUsed();
-        }
-
-        rental.confirm();
-        payment.updateAsPaid();
-        post.markAsRented();
+        rentalAvailabilityIndex.reserve(rental);
+        rentalViewProjector.onPaymentConfirmed(payment);
 
         PaymentEvent paymentEvent = PaymentEvent.builder()
             .payment(payment)
@@ -150,6 +186,9 @@ public class PaymentService {
         eventPublisher.publishEvent(
             new PaymentCompletedEvent(userId, paymentId, payment.getFinalAmount())
         );
+        eventPublisher.publishEvent(
+            new RentalChangedEvent(post.getId(), rental.getId(), RentalStatus.CONFIRMED)
+        );
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -158,6 +197,7 @@ public class PaymentService {
             .orElseThrow(PaymentNotFoundException::new);
 
         payment.updateAsFailed(reason);
+        rentalViewProjector.onPaymentChanged(payment);
 
         PaymentEvent paymentEvent = PaymentEvent.builder()
             .payment(payment)
@@ -196,8 +236,13 @@ public class PaymentService {
         paymentEventRepository.save(refundRequest);
 
         payment.updateAsCanceled();
-        payment.getRental().cancel();
-        payment.getRental().getPost().updateStatus(PostStatus.AVAILABLE);
+        Rental rental = payment.getRental();
+        // 가용성 인덱스는 RentalChangedEvent(CANCELED) 커밋 후 해제
+        rental.cancel();
+        rentalViewProjector.onPaymentChanged(payment);
+        eventPublisher.publishEvent(
+            new RentalChangedEvent(rental.getPost().getId(), rental.getId(), rental.getStatus())
+        );
 
         User user = payment.getUser();
 
@@ -253,6 +298,29 @@ public class PaymentService {
     public void getPaymentEvents(Long paymentId) {
     }
 
+    private int confirmRental(Long rentalId, LocalDateTime now) {
+        try {
+            return timed("rental", () -> rentalRepository.compareAndSetStatus(
+                rentalId, RentalStatus.REQUESTED, RentalStatus.CONFIRMED, now));
+        } catch (DataIntegrityViolationException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message != null && message.contains(CONFIRMED_PERIOD_CONSTRAINT)) {
+                throw new PaymentConflictException("이미 확정된 대여와 기간이 겹칩니다.");
+            }
+            throw e;
+        }
+    }
+
+    // 조건부 UPDATE 1건의 소요 시간 (행 잠금, 배타 제약 대기 시간 포함)
+    private int timed(String statement, IntSupplier update) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return update.getAsInt();
+        } finally {
+            sample.stop(meterRegistry.timer("payment.commit.statement", "statement", statement));
+        }
+    }
+
     private void validateRental(Long userId, Rental rental) {
         if (!Objects.equals(rental.getUser().getId(), userId)) {
             throw new UnauthenticatedException("대여자와 결제 요청자가 일치하지 않습니다.");
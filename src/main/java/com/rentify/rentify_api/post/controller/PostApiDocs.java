@@ -1,8 +1,15 @@
 package com.rentify.rentify_api.post.controller;
 
+import com.rentify.rentify_api.common.response.PageResponse;
+import com.rentify.rentify_api.common.response.SliceResponse;
+import com.rentify.rentify_api.post.dto.PostAvailabilityRequest;
+import com.rentify.rentify_api.post.dto.PostAvailabilityResponse;
 import com.rentify.rentify_api.post.dto.PostDetailResponse;
 import com.rentify.rentify_api.post.dto.PostFormRequest;
 import com.rentify.rentify_api.post.dto.PostFormResponse;
+import com.rentify.rentify_api.post.dto.PostHistoryResponse;
+import com.rentify.rentify_api.post.dto.PostSummary;
+import com.rentify.rentify_api.post.dto.PostVersionResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -16,10 +23,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import java.time.LocalDate;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -32,7 +41,13 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Tag(name = "Post API", description = "게시글 조회, 생성, 수정 관련 API")
 public interface PostApiDocs {
 
-    @Operation(summary = "전체 게시글 조회", description = "카테고리, 게시상태, 키워드에 따라 게시글을 조회합니다.")
+    @Operation(
+        summary = "전체 게시글 조회",
+        description = "카테고리, 게시상태, 키워드에 따라 게시글을 조회합니다.<br/>"
+            + "availableFrom, availableTo 를 함께 전달하면 해당 기간에 예약이 없는 게시글만 조회합니다.<br/>"
+            + "목록에는 카드 표시용 요약만 포함되며, 본문과 전체 이미지는 상세 조회에서 제공합니다.<br/>"
+            + "전체 개수는 잠시 캐시되거나 통계로 추정될 수 있으며, 이 경우 <code>page.totalExact</code>가 false 입니다."
+    )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
@@ -48,30 +63,25 @@ public interface PostApiDocs {
                           "data": {
                             "content": [
                               {
-                                "categoryName": "DSLR",
-                                "createAt": "2026-02-01T15:49:40.686305",
-                                "description": "DSLR 800D 대여합니다.",
-                                "imageUrls": [
-                                  "http://unirental.duckdns.org/images/dabdd601-72de-41b3-974d-f9e84f09a3dd.jpg",
-                                  "http://unirental.duckdns.org/images/519a66a4-9927-4434-80ed-8e656fa4ed0a.jpg"
-                                ],
-                                "isMeetup": true,
-                                "isParcel": false,
-                                "maxRentalDays": 10,
                                 "postId": 3,
+                                "userId": 2,
+                                "userName": "서성민굴",
+                                "categoryName": "DSLR",
+                                "title": "DSLR 800D 대여",
+                                "thumbnailUrl": "http://unirental.duckdns.org/images/dabdd601-72de-41b3-974d-f9e84f09a3dd.jpg",
                                 "pricePerDay": 8000,
+                                "isParcel": false,
+                                "isMeetup": true,
                                 "status": "RESERVED",
-                                "title": "DSLR 800D 대여",
-                                "updateAt": "2026-02-01T15:51:45.984886",
-                                "userId": 2,
-                                "userName": "서성민굴"
+                                "createAt": "2026-02-01T15:49:40.686305"
                               }
                             ],
                             "page": {
                               "size": 10,
                               "number": 0,
                               "totalElements": 1,
-                              "totalPages": 1
+                              "totalPages": 1,
+                              "totalExact": true
                             }
                           }
                         }
@@ -96,6 +106,17 @@ public interface PostApiDocs {
                             }
                             """
                     ),
+                    @ExampleObject(
+                        name = "대여 가능 기간 중 하나만 전달",
+                        value = """
+                            {
+                                "success": false,
+                                "code": "400",
+                                "message": "대여 가능 기간은 시작일과 종료일을 함께 입력해야 합니다.",
+                                "data": null
+                            }
+                            """
+                    ),
                     @ExampleObject(
                         name = "올바르지 않은 정렬기준 전달",
                         value = """
@@ -131,10 +152,10 @@ public interface PostApiDocs {
     @Parameters({
         @Parameter(name = "page", description = "페이지 번호 (0부터 시작)", example = "0", in = ParameterIn.QUERY),
         @Parameter(name = "size", description = "한 페이지당 개수", example = "10", in = ParameterIn.QUERY),
-        @Parameter(name = "sort", description = "정렬 기준 (형식: 필드명,정렬방향). 예: createAt,desc / pricePerDay,asc", example = "createAt,desc", in = ParameterIn.QUERY)
+        @Parameter(name = "sort", description = "정렬 기준 (형식: 필드명,정렬방향). 예: createAt,desc / pricePerDay,asc / relevance (검색어 관련도순, keyword 필수)", example = "createAt,desc", in = ParameterIn.QUERY)
     })
     @GetMapping
-    ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<Page<PostDetailResponse>>> getPosts(
+    ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<PageResponse<PostSummary>>> getPosts(
         @RequestParam(required = false) Long categoryId,
         @RequestParam(required = false) String status,
 
@@ -144,10 +165,124 @@ public interface PostApiDocs {
         )
         @RequestParam(required = false) String keyword,
 
+        @Parameter(description = "대여 희망 시작일 (availableTo 와 함께 전달)", example = "2026-10-20")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+
+        @Parameter(description = "대여 희망 종료일 (availableFrom 과 함께 전달)", example = "2026-10-25")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo,
+
+        @Parameter(description = "일일 대여료 최솟값", example = "5000")
+        @RequestParam(required = false) Integer minPrice,
+
+        @Parameter(description = "일일 대여료 최댓값", example = "20000")
+        @RequestParam(required = false) Integer maxPrice,
+
+        @Parameter(description = "택배 거래 가능 여부", example = "true")
+        @RequestParam(required = false) Boolean isParcel,
+
+        @Parameter(description = "직거래 가능 여부", example = "true")
+        @RequestParam(required = false) Boolean isMeetup,
+
+        @Parameter(description = "작성자(빌려주는 사람) ID", example = "1")
+        @RequestParam(required = false) Long ownerId,
+
         @Parameter(hidden = true)
         @PageableDefault(sort = "createAt", direction = Sort.Direction.DESC) Pageable pageable
     );
 
+    @Operation(
+        summary = "전체 게시글 조회 (커서)",
+        description = "전체 게시글 조회와 같은 조건으로 커서 기반 조회를 합니다. 전체 개수를 세지 않으므로 무한 스크롤에 사용합니다.<br/>"
+            + "첫 페이지는 <code>cursor=</code>(빈 값)와 sort 로 요청하고, 이후에는 응답의 <code>nextCursor</code>를 그대로 전달합니다.<br/>"
+            + "커서에 정렬 기준이 포함되어 있으므로 두 번째 페이지부터 sort 는 무시됩니다. 관련도순 정렬은 지원하지 않습니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "success": true,
+                          "code": "200",
+                          "message": "요청이 성공적으로 처리되었습니다.",
+                          "data": {
+                            "content": [
+                              {
+                                "postId": 3,
+                                "userId": 2,
+                                "userName": "서성민굴",
+                                "categoryName": "DSLR",
+                                "title": "DSLR 800D 대여",
+                                "thumbnailUrl": "http://unirental.duckdns.org/images/dabdd601-72de-41b3-974d-f9e84f09a3dd.jpg",
+                                "pricePerDay": 8000,
+                                "isParcel": false,
+                                "isMeetup": true,
+                                "status": "RESERVED",
+                                "createAt": "2026-02-01T15:49:40.686305"
+                              }
+                            ],
+                            "size": 1,
+                            "hasNext": true,
+                            "nextCursor": "Y3JlYXRlQXR8REVTQ3wzfDIwMjYtMDItMDFUMTU6NDk6NDAuNjg2MzA1"
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "유효하지 않은 커서 또는 부적절한 파라미터<br/>정렬 기준의 경우 <strong>[createAt, pricePerDay, title, id]</strong> 지원",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = "{\"success\": false, \"code\": \"400\", \"message\": \"유효하지 않은 커서입니다.\", \"data\": null}"
+                )
+            )
+        )
+    })
+    @GetMapping(params = "cursor")
+    ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<SliceResponse<PostSummary>>> getPostsByCursor(
+        @RequestParam(required = false) Long categoryId,
+        @RequestParam(required = false) String status,
+
+        @Parameter(description = "검색어 (제목 또는 내용)", example = "갤럭시")
+        @RequestParam(required = false) String keyword,
+
+        @Parameter(description = "대여 희망 시작일 (availableTo 와 함께 전달)", example = "2026-10-20")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+
+        @Parameter(description = "대여 희망 종료일 (availableFrom 과 함께 전달)", example = "2026-10-25")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo,
+
+        @Parameter(description = "일일 대여료 최솟값", example = "5000")
+        @RequestParam(required = false) Integer minPrice,
+
+        @Parameter(description = "일일 대여료 최댓값", example = "20000")
+        @RequestParam(required = false) Integer maxPrice,
+
+        @Parameter(description = "택배 거래 가능 여부", example = "true")
+        @RequestParam(required = false) Boolean isParcel,
+
+        @Parameter(description = "직거래 가능 여부", example = "true")
+        @RequestParam(required = false) Boolean isMeetup,
+
+        @Parameter(description = "작성자(빌려주는 사람) ID", example = "1")
+        @RequestParam(required = false) Long ownerId,
+
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)", example = "")
+        @RequestParam String cursor,
+
+        @Parameter(description = "정렬 기준 (형식: 필드명,정렬방향). 첫 페이지에만 적용", example = "createAt,desc")
+        @RequestParam(defaultValue = "createAt,desc") String sort,
+
+        @Parameter(description = "한 번에 조회할 개수 (최대 100)", example = "20")
+        @RequestParam(defaultValue = "20") int size
+    );
+
     @Operation(summary = "게시글 상세 조회", description = "게시글을 상세 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(
@@ -214,6 +349,92 @@ public interface PostApiDocs {
     ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<PostDetailResponse>> getPost(
         @PathVariable Long id);
 
+    @Operation(
+        summary = "게시글 예약 현황 일괄 조회",
+        description = "여러 게시글의 기간 내 예약 현황을 한 번에 조회합니다. (최대 300개, 최대 180일)<br/>"
+            + "bitmaps 값은 base64 로 인코딩된 일 단위 비트셋입니다. i번째 비트(바이트 i / 8 의 하위 i % 8 번째 비트)가 1이면 "
+            + "from + i 일에 예약이 있어 대여할 수 없습니다. 뒤쪽의 0 바이트는 생략되며, 빈 문자열은 전 기간 대여 가능을 뜻합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": true,
+                            "code": "200",
+                            "message": "요청이 성공적으로 처리되었습니다.",
+                            "data": {
+                                "from": "2026-10-01",
+                                "to": "2026-10-31",
+                                "days": 31,
+                                "bitmaps": {
+                                    "11": "AA4=",
+                                    "12": ""
+                                }
+                            }
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "요청 데이터 검증 실패",
+            content = @Content(
+                mediaType = "application/json",
+                examples = {
+                    @ExampleObject(
+                        name = "게시글 개수 초과",
+                        value = """
+                            {
+                                "success": false,
+                                "code": "400",
+                                "message": "postIds : 한 번에 최대 300개의 게시글까지 조회할 수 있습니다.",
+                                "data": null
+                            }
+                            """
+                    ),
+                    @ExampleObject(
+                        name = "조회 기간 초과",
+                        value = """
+                            {
+                                "success": false,
+                                "code": "400",
+                                "message": "예약 현황은 최대 180일까지 조회할 수 있습니다.",
+                                "data": null
+                            }
+                            """
+                    )
+                }
+            )
+        )
+    })
+    @PostMapping("/availability")
+    ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<PostAvailabilityResponse>> getAvailability(
+        @RequestBody(
+            description = "예약 현황 조회 요청 데이터",
+            required = true,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PostAvailabilityRequest.class),
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "postIds": [11, 12],
+                            "from": "2026-10-01",
+                            "to": "2026-10-31"
+                        }
+                        """
+                )
+            )
+        )
+        @Valid PostAvailabilityRequest request
+    );
+
     @Operation(summary = "게시글 생성", description = "<strong>멱등성 키(UUID) 헤더 필수</strong><br/>게시글을 등록합니다.")
     @ApiResponses(value = {
         @ApiResponse(
@@ -509,4 +730,163 @@ public interface PostApiDocs {
         )
         @Valid @org.springframework.web.bind.annotation.RequestBody PostFormRequest request
     );
+
+    @Operation(
+        summary = "게시글 변경 이력 조회",
+        description = "게시글의 버전 목록과 버전별로 바뀐 필드를 조회합니다. 버전 1은 등록 시점입니다.<br/>"
+            + "이력은 비동기로 저장되므로 방금 수정한 내용은 잠시 뒤에 나타날 수 있습니다.<br/>"
+            + "게시글 작성자만 조회할 수 있습니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": true,
+                            "code": "200",
+                            "message": "요청이 성공적으로 처리되었습니다.",
+                            "data": [
+                                {
+                                    "version": 1,
+                                    "changedAt": "2026-10-01T10:00:00",
+                                    "changedFields": ["id", "title", "pricePerDay", "maxRentalDays", "isParcel", "isMeetup", "status", "userId", "categoryId"]
+                                },
+                                {
+                                    "version": 2,
+                                    "changedAt": "2026-10-03T18:30:00",
+                                    "changedFields": ["pricePerDay"]
+                                }
+                            ]
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "작성자가 아님",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": false,
+                            "code": "403",
+                            "message": "이력 조회 권한이 없습니다.",
+                            "data": null
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "이력이 없는 게시글",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": false,
+                            "code": "404",
+                            "message": "게시글 이력을 찾을 수 없습니다.",
+                            "data": null
+                        }
+                        """
+                )
+            )
+        )
+    })
+    @GetMapping("{id}/history")
+    ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<List<PostHistoryResponse>>> getPostHistory(
+        @Parameter(description = "게시글 ID", required = true, in = ParameterIn.PATH, example = "1")
+        @PathVariable Long id,
+        @AuthenticationPrincipal Long userId
+    );
+
+    @Operation(
+        summary = "게시글 특정 버전 조회",
+        description = "변경 이력을 처음부터 적용해 해당 버전 시점의 게시글 필드 값을 복원합니다. 값이 없는 필드는 생략됩니다.<br/>"
+            + "게시글 작성자만 조회할 수 있습니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": true,
+                            "code": "200",
+                            "message": "요청이 성공적으로 처리되었습니다.",
+                            "data": {
+                                "postId": 1,
+                                "version": 2,
+                                "changedAt": "2026-10-03T18:30:00",
+                                "snapshot": {
+                                    "id": 1,
+                                    "title": "갤럭시 S25엣지 대여",
+                                    "pricePerDay": 45000,
+                                    "maxRentalDays": 30,
+                                    "isParcel": true,
+                                    "isMeetup": false,
+                                    "status": "AVAILABLE",
+                                    "userId": 1,
+                                    "categoryId": 1
+                                }
+                            }
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "작성자가 아님",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": false,
+                            "code": "403",
+                            "message": "이력 조회 권한이 없습니다.",
+                            "data": null
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "존재하지 않는 버전",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": false,
+                            "code": "404",
+                            "message": "게시글 이력을 찾을 수 없습니다.",
+                            "data": null
+                        }
+                        """
+                )
+            )
+        )
+    })
+    @GetMapping("{id}/history/{version}")
+    ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<PostVersionResponse>> getPostVersion(
+        @Parameter(description = "게시글 ID", required = true, in = ParameterIn.PATH, example = "1")
+        @PathVariable Long id,
+        @AuthenticationPrincipal Long userId,
+        @Parameter(description = "버전 (1부터)", required = true, in = ParameterIn.PATH, example = "2")
+        @PathVariable int version
+    );
 }
@@ -2,17 +2,28 @@ package com.rentify.rentify_api.post.controller;
 
 import com.rentify.rentify_api.common.idempotency.Idempotent;
 import com.rentify.rentify_api.common.response.ApiResponse;
+import com.rentify.rentify_api.common.response.PageResponse;
+import com.rentify.rentify_api.common.response.SliceResponse;
+import com.rentify.rentify_api.post.dto.PostAvailabilityRequest;
+import com.rentify.rentify_api.post.dto.PostAvailabilityResponse;
 import com.rentify.rentify_api.post.dto.PostDetailResponse;
 import com.rentify.rentify_api.post.dto.PostFormRequest;
 import com.rentify.rentify_api.post.dto.PostFormResponse;
+import com.rentify.rentify_api.post.dto.PostHistoryResponse;
+import com.rentify.rentify_api.post.dto.PostSearchCondition;
+import com.rentify.rentify_api.post.dto.PostSummary;
+import com.rentify.rentify_api.post.dto.PostVersionResponse;
+import com.rentify.rentify_api.post.service.PostHistoryService;
 import com.rentify.rentify_api.post.service.PostService;
 import jakarta.validation.Valid;
 import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,21 +41,78 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/posts")
 public class PostController implements PostApiDocs {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostService postService;
+    private final PostHistoryService postHistoryService;
 
     @Override
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<PostDetailResponse>>> getPosts(
+    public ResponseEntity<ApiResponse<PageResponse<PostSummary>>> getPosts(
         @RequestParam(required = false) Long categoryId,
         @RequestParam(required = false) String status,
         @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo,
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(required = false) Boolean isParcel,
+        @RequestParam(required = false) Boolean isMeetup,
+        @RequestParam(required = false) Long ownerId,
         @PageableDefault(sort = "createAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        Page<PostDetailResponse> postPage =
-            postService.getPosts(categoryId, status, keyword, pageable);
+        PostSearchCondition condition = PostSearchCondition.builder()
+            .categoryId(categoryId)
+            .status(status)
+            .keyword(keyword)
+            .availableFrom(availableFrom)
+            .availableTo(availableTo)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .isParcel(isParcel)
+            .isMeetup(isMeetup)
+            .ownerId(ownerId)
+            .build();
+
+        PageResponse<PostSummary> postPage = postService.getPosts(condition, pageable);
         return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, postPage));
     }
 
+    @Override
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<SliceResponse<PostSummary>>> getPostsByCursor(
+        @RequestParam(required = false) Long categoryId,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo,
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(required = false) Boolean isParcel,
+        @RequestParam(required = false) Boolean isMeetup,
+        @RequestParam(required = false) Long ownerId,
+        @RequestParam String cursor,
+        @RequestParam(defaultValue = "createAt,desc") String sort,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        PostSearchCondition condition = PostSearchCondition.builder()
+            .categoryId(categoryId)
+            .status(status)
+            .keyword(keyword)
+            .availableFrom(availableFrom)
+            .availableTo(availableTo)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .isParcel(isParcel)
+            .isMeetup(isMeetup)
+            .ownerId(ownerId)
+            .build();
+
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        SliceResponse<PostSummary> posts = postService.getPosts(condition, cursor, sort, pageSize);
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, posts));
+    }
+
     @Override
     @GetMapping("{id}")
     public ResponseEntity<ApiResponse<PostDetailResponse>> getPost(@PathVariable Long id) {
@@ -52,6 +120,36 @@ public class PostController implements PostApiDocs {
         return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, response));
     }
 
+    @Override
+    @GetMapping("{id}/history")
+    public ResponseEntity<ApiResponse<List<PostHistoryResponse>>> getPostHistory(
+        @PathVariable Long id,
+        @AuthenticationPrincipal Long userId
+    ) {
+        List<PostHistoryResponse> response = postHistoryService.getHistory(id, userId);
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, response));
+    }
+
+    @Override
+    @GetMapping("{id}/history/{version}")
+    public ResponseEntity<ApiResponse<PostVersionResponse>> getPostVersion(
+        @PathVariable Long id,
+        @AuthenticationPrincipal Long userId,
+        @PathVariable int version
+    ) {
+        PostVersionResponse response = postHistoryService.getVersion(id, userId, version);
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, response));
+    }
+
+    @Override
+    @PostMapping("/availability")
+    public ResponseEntity<ApiResponse<PostAvailabilityResponse>> getAvailability(
+        @Valid @RequestBody PostAvailabilityRequest request
+    ) {
+        PostAvailabilityResponse response = postService.getAvailability(request);
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, response));
+    }
+
     @Override
     @Idempotent
     @PostMapping
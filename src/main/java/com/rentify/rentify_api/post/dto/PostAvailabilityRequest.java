@@ -0,0 +1,13 @@
+package com.rentify.rentify_api.post.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+public record PostAvailabilityRequest(
+    @NotEmpty @Size(max = 300, message = "한 번에 최대 300개의 게시글까지 조회할 수 있습니다.") List<Long> postIds,
+    @NotNull LocalDate from,
+    @NotNull LocalDate to
+) {}
@@ -0,0 +1,16 @@
+package com.rentify.rentify_api.post.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 게시글별 예약 현황 비트맵.
+ * bitmaps 값은 base64 로 인코딩된 일 단위 비트셋이며, i번째 비트(바이트 i / 8 의 하위 i % 8 번째 비트)가
+ * 1이면 from + i 일에 예약이 있어 대여할 수 없다는 뜻입니다. 뒤쪽의 0 바이트는 생략되므로 빈 문자열은 전 기간 대여 가능입니다.
+ */
+public record PostAvailabilityResponse(
+    LocalDate from,
+    LocalDate to,
+    int days,
+    Map<Long, String> bitmaps
+) {}
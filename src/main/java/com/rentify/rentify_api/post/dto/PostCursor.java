@@ -0,0 +1,95 @@
+package com.rentify.rentify_api.post.dto;
+
+import com.rentify.rentify_api.common.exception.InvalidValueException;
+import com.rentify.rentify_api.common.util.CursorUtil;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 게시글 목록 커서. 정렬 기준(property, direction)과 마지막으로 내려준 행의 (정렬 값, postId)를 담습니다.
+ * 정렬 기준을 커서에 함께 넣어서 다음 페이지 요청의 sort 값과 어긋나지 않도록 합니다.
+ * 첫 페이지 커서는 위치(postId, value)가 비어 있습니다.
+ */
+public record PostCursor(String property, Sort.Direction direction, Long postId, Object value) {
+
+    // 목록 정렬 허용 필드 (offset 조회 PostService 와 커서 조회가 함께 사용)
+    public static final Set<String> SORT_PROPERTIES = Set.of("createAt", "pricePerDay", "title", "id");
+
+    /**
+     * cursor 가 비어 있으면 sort("필드,방향") 기준의 첫 페이지, 아니면 커서에 담긴 위치부터 조회합니다.
+     */
+    public static PostCursor of(String cursor, String sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(sort);
+        }
+
+        // 정렬 값(제목)에 구분자가 들어갈 수 있으므로 마지막에 둠
+        String[] parts = CursorUtil.decode(cursor, 4);
+        try {
+            String property = validateProperty(parts[0]);
+            Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+            Long postId = Long.parseLong(parts[2]);
+
+            return new PostCursor(property, direction, postId, parseValue(property, parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidValueException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String next(PostSummary last) {
+        return CursorUtil.encode(property, direction, last.postId(), valueOf(last));
+    }
+
+    public boolean isFirst() {
+        return postId == null;
+    }
+
+    // 정렬 값이 같은 행은 postId 로 순서를 정함 (같은 방향)
+    public Sort toSort() {
+        if ("id".equals(property)) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+
+    private static PostCursor first(String sort) {
+        String[] parts = (sort == null || sort.isBlank() ? "createAt,desc" : sort).split(",");
+        String property = validateProperty(parts[0].strip());
+
+        Sort.Direction direction = Sort.Direction.DESC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].strip())
+                .orElseThrow(() -> new InvalidValueException("정렬 방향은 asc 또는 desc 만 가능합니다."));
+        }
+        return new PostCursor(property, direction, null, null);
+    }
+
+    private static String validateProperty(String property) {
+        if (!SORT_PROPERTIES.contains(property)) {
+            throw new InvalidValueException(
+                String.format("정렬 기준 '%s'은(는) 지원하지 않습니다. (허용 필드: %s)", property, SORT_PROPERTIES)
+            );
+        }
+        return property;
+    }
+
+    private static Object parseValue(String property, String value) {
+        return switch (property) {
+            case "createAt" -> LocalDateTime.parse(value);
+            case "pricePerDay" -> Integer.valueOf(value);
+            case "title" -> value;
+            default -> null;
+        };
+    }
+
+    private Object valueOf(PostSummary last) {
+        return switch (property) {
+            case "createAt" -> last.createAt();
+            case "pricePerDay" -> last.pricePerDay();
+            case "title" -> last.title();
+            default -> "";
+        };
+    }
+}
@@ -7,6 +7,7 @@ import com.rentify.rentify_api.post.entity.PostStatus;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.rentify.rentify_api.rental.entity.Rental;
@@ -33,7 +34,10 @@ public class PostDetailResponse {
     private Boolean isParcel;
     private Boolean isMeetup;
     private PostStatus status;
+    // 원본 URL (게시글 수정 요청에 그대로 사용)
     private List<String> imageUrls;
+    // 화면 크기별 변형 URL
+    private List<ImageVariants> images;
     private LocalDateTime createAt;
     private LocalDateTime updateAt;
     private List<RentalPeriod> rentalPeriods;
@@ -55,6 +59,10 @@ public class PostDetailResponse {
                         .stream()
                         .map(Image::getUrl)
                         .collect(Collectors.toList()))
+                .images(post.getImages()
+                        .stream()
+                        .map(ImageVariants::from)
+                        .collect(Collectors.toList()))
                 .createAt(post.getCreateAt())
                 .updateAt(post.getUpdateAt())
                 .rentalPeriods(rentals.stream()
@@ -68,6 +76,27 @@ public class PostDetailResponse {
         return from(post, List.of());
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ImageVariants {
+        private String url;
+        private String thumbnailUrl;
+        private String cardUrl;
+        private String fullUrl;
+
+        // 변형 URL 이 없는 이전 이미지는 원본 URL 로 채움
+        public static ImageVariants from(Image image) {
+            return ImageVariants.builder()
+                    .url(image.getUrl())
+                    .thumbnailUrl(Objects.requireNonNullElse(image.getThumbnailUrl(), image.getUrl()))
+                    .cardUrl(Objects.requireNonNullElse(image.getCardUrl(), image.getUrl()))
+                    .fullUrl(Objects.requireNonNullElse(image.getFullUrl(), image.getUrl()))
+                    .build();
+        }
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,13 @@
+package com.rentify.rentify_api.post.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 게시글 이력 목록의 한 버전. version 은 1(등록)부터 변경 순서대로 매겨집니다.
+ */
+public record PostHistoryResponse(
+    int version,
+    LocalDateTime changedAt,
+    Set<String> changedFields
+) {}
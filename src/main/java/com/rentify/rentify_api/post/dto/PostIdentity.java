@@ -0,0 +1,8 @@
+package com.rentify.rentify_api.post.dto;
+
+import java.time.LocalDateTime;
+
+public record PostIdentity(
+    Long postId,
+    LocalDateTime createAt
+) {}
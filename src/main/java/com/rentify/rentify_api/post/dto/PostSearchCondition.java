@@ -0,0 +1,21 @@
+package com.rentify.rentify_api.post.dto;
+
+import java.time.LocalDate;
+import lombok.Builder;
+
+/**
+ * 게시글 목록 검색 조건. null 인 항목은 조건에서 제외됩니다.
+ */
+@Builder
+public record PostSearchCondition(
+    Long categoryId,
+    String status,
+    String keyword,
+    LocalDate availableFrom,
+    LocalDate availableTo,
+    Integer minPrice,
+    Integer maxPrice,
+    Boolean isParcel,
+    Boolean isMeetup,
+    Long ownerId
+) {}
@@ -0,0 +1,10 @@
+package com.rentify.rentify_api.post.dto;
+
+import java.time.LocalDateTime;
+
+public record PostSearchDocument(
+    Long postId,
+    String title,
+    String description,
+    LocalDateTime updateAt
+) {}
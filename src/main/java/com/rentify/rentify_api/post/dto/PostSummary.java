@@ -0,0 +1,22 @@
+package com.rentify.rentify_api.post.dto;
+
+import com.rentify.rentify_api.post.entity.PostStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 카드용 요약. 목록 쿼리에서 이 컬럼만 직접 조회하므로
+ * 엔티티, 이미지 목록, 본문(description)을 읽지 않습니다. 상세 정보는 게시글 상세 조회를 사용합니다.
+ */
+public record PostSummary(
+    Long postId,
+    Long userId,
+    String userName,
+    String categoryName,
+    String title,
+    String thumbnailUrl,
+    Integer pricePerDay,
+    Boolean isParcel,
+    Boolean isMeetup,
+    PostStatus status,
+    LocalDateTime createAt
+) {}
@@ -0,0 +1,9 @@
+package com.rentify.rentify_api.post.dto;
+
+/**
+ * 게시글이 수정되었음을 알리는 이벤트입니다.
+ * 커밋 이후 게시글 상세 캐시 무효화에 사용합니다.
+ */
+public record PostUpdatedEvent(
+    Long postId
+) {}
@@ -0,0 +1,14 @@
+package com.rentify.rentify_api.post.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 이력을 처음부터 적용해 복원한 특정 버전의 게시글 필드 값. 값이 없는(null) 필드는 생략됩니다.
+ */
+public record PostVersionResponse(
+    Long postId,
+    int version,
+    LocalDateTime changedAt,
+    Map<String, Object> snapshot
+) {}
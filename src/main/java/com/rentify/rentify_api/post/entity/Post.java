@@ -1,8 +1,5 @@
 package com.rentify.rentify_api.post.entity;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.rentify.rentify_api.category.entity.Category;
 import com.rentify.rentify_api.image.entity.Image;
 import com.rentify.rentify_api.user.entity.User;
@@ -15,14 +12,16 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.AllArgsConstructor;
@@ -30,6 +29,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLOrder;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
@@ -37,7 +37,16 @@ import org.hibernate.annotations.UpdateTimestamp;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "posts")
+@Table(
+    name = "posts",
+    indexes = {
+        // 목록 검색 조건 조합별 인덱스 (PostSpecifications 참고). 운영 DB 에는 V4__post_search_indexes.sql 로 생성
+        @Index(name = "idx_posts_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_posts_category_status_created", columnList = "category_id, status, created_at"),
+        @Index(name = "idx_posts_status_price", columnList = "status, price_per_day"),
+        @Index(name = "idx_posts_user_created", columnList = "user_id, created_at")
+    }
+)
 public class Post {
 
     @Id
@@ -76,6 +85,7 @@ public class Post {
     @Builder.Default
     private PostStatus status = PostStatus.AVAILABLE;
 
+    // 대표 이미지의 CARD 변형 URL (ImageVariant). 게시글 목록과 대여 목록(RentalView)에서 씀
     @Column(name = "thumbnail_url")
     private String thumbnailUrl;
 
@@ -87,32 +97,32 @@ public class Post {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updateAt;
 
+    // 동시 수정은 나중에 커밋하는 쪽이 실패하므로, 수정 전 스냅샷이 항상 직전에 커밋된 상태와 같음 (이력 delta 기준)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 수정 시 행을 지우지 않고 sort_order 만 바꾸므로 항상 순서대로 읽음
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @SQLOrder("sort_order ASC")
     @Builder.Default
     private List<Image> images = new ArrayList<>();
 
-    public String toJson() {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-
-            Map<String, Object> data = new HashMap<>();
-            data.put("id", this.id);
-            data.put("title", this.title);
-            data.put("description", this.description);
-            data.put("pricePerDay", this.pricePerDay);
-            data.put("maxRentalDays", this.maxRentalDays);
-            data.put("isParcel", this.isParcel);
-            data.put("isMeetup", this.isMeetup);
-            data.put("status", this.status);
-            data.put("thumbnailUrl", this.thumbnailUrl);
-            data.put("userId", this.user != null ? this.user.getId() : null);
-            data.put("categoryId", this.category != null ? this.category.getId() : null);
-
-            return mapper.writeValueAsString(data);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("JSON 변환 실패", e);
-        }
+    // 이력(PostHistory) 비교용 필드 값. 직렬화는 PostHistoryDelta 에서 한 번만 함
+    public Map<String, Object> toSnapshot() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", this.id);
+        data.put("title", this.title);
+        data.put("description", this.description);
+        data.put("pricePerDay", this.pricePerDay);
+        data.put("maxRentalDays", this.maxRentalDays);
+        data.put("isParcel", this.isParcel);
+        data.put("isMeetup", this.isMeetup);
+        data.put("status", this.status != null ? this.status.name() : null);
+        data.put("thumbnailUrl", this.thumbnailUrl);
+        data.put("userId", this.user != null ? this.user.getId() : null);
+        data.put("categoryId", this.category != null ? this.category.getId() : null);
+        return data;
     }
 
     public void update(Category category, String title, String description,
@@ -138,8 +148,4 @@ public class Post {
     public void updateStatus(PostStatus status) {
         this.status = status;
     }
-
-    public void markAsRented() {
-        this.status = PostStatus.RESERVED;
-    }
 }
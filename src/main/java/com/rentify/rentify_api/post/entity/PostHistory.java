@@ -5,20 +5,29 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
+/**
+ * 게시글 변경 이력. 전체 스냅샷 대신 직전 상태와 달라진 필드만 JSON Merge Patch 로 저장합니다.
+ * 등록 이력은 빈 상태에 대한 patch(= 전체 필드)이므로, 처음부터 순서대로 적용하면 어느 버전이든 복원할 수 있습니다.
+ * 쓰기는 PostHistoryRecorder 가 JDBC 배치로 하므로 이 엔티티는 조회에만 사용합니다.
+ * 순서는 저장 시각이 아닌 변경이 커밋된 게시글 버전(post_version)으로 정합니다.
+ */
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
-@Table(name = "post_history")
+@Table(
+    name = "post_history",
+    indexes = @Index(name = "idx_post_history_post_version", columnList = "post_id, post_version, post_history_id")
+)
 public class PostHistory {
 
     @Id
@@ -29,13 +38,14 @@ public class PostHistory {
     @Column(name = "post_id", nullable = false)
     private Long postId;
 
-    @Column(name = "before_value", columnDefinition = "TEXT")
-    private String beforeValue;
+    // 이 변경이 커밋된 게시글 버전 (Post.version)
+    @Column(name = "post_version", nullable = false)
+    private Long postVersion;
 
-    @Column(name = "after_value", nullable = false, columnDefinition = "TEXT")
-    private String afterValue;
+    @Column(name = "delta", nullable = false, columnDefinition = "TEXT")
+    private String delta;
 
-    @CreationTimestamp
-    @Column(name = "created_at")
+    // 비동기로 저장되므로 저장 시각이 아닌 변경이 커밋된 시각
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createAt;
 }
@@ -0,0 +1,10 @@
+package com.rentify.rentify_api.post.exception;
+
+import com.rentify.rentify_api.common.exception.NotFoundException;
+
+public class PostHistoryNotFoundException extends NotFoundException {
+
+    public PostHistoryNotFoundException() {
+        super("게시글 이력을 찾을 수 없습니다.");
+    }
+}
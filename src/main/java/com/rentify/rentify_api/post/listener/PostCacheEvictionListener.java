@@ -0,0 +1,76 @@
+package com.rentify.rentify_api.post.listener;
+
+import com.rentify.rentify_api.post.dto.PostUpdatedEvent;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.rental.dto.RentalChangedEvent;
+import com.rentify.rentify_api.user.dto.UserRenamedEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 상세 캐시에 담긴 내용이 바뀌면 커밋 이후에 해당 게시글의 캐시를 무효화합니다.
+ * - 게시글 수정
+ * - 대여 생성/확정/취소: 상세 응답의 예약 기간(rentalPeriods)
+ * - 작성자 이름 변경: 상세 응답의 작성자 이름(userName)
+ * 커밋 이후에 비우므로 커밋 전 내용이 다시 캐시되지 않습니다.
+ * (커밋 전에 시작한 조회가 늦게 저장하는 경우는 TwoLevelCache 가 무효화 횟수로 막습니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCacheEvictionListener {
+
+    private static final String POSTS_CACHE = "posts";
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final PostRepository postRepository;
+
+    // 트랜잭션 밖에서 발행된 경우(fallbackExecution)에도 바로 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event) {
+        evict(List.of(event.postId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        evict(List.of(event.postId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserRenamed(UserRenamedEvent event) {
+        // 캐시를 쓰지 않으면 게시글 id 조회도 생략
+        if (postsCache() == null) {
+            return;
+        }
+
+        evict(postRepository.findIdsByUserId(event.userId()));
+    }
+
+    private void evict(List<Long> postIds) {
+        Cache cache = postsCache();
+        if (cache == null) {
+            return;
+        }
+
+        for (Long postId : postIds) {
+            try {
+                cache.evict(postId);
+            } catch (RuntimeException e) {
+                // 캐시 장애로 이미 커밋된 요청을 실패시키지 않음 (TTL 이후 반영)
+                log.warn("게시글 캐시 무효화 실패 (postId: {}): {}", postId, e.getMessage());
+            }
+        }
+    }
+
+    private Cache postsCache() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        return cacheManager != null ? cacheManager.getCache(POSTS_CACHE) : null;
+    }
+}
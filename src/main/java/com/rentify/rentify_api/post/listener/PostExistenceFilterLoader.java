@@ -0,0 +1,92 @@
+package com.rentify.rentify_api.post.listener;
+
+import com.rentify.rentify_api.post.dto.PostIdentity;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.post.service.PostExistenceFilter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 게시글 존재 필터를 채우고, 주기적으로 watermark 이후의 게시글을 추가합니다.
+ * <p>
+ * 이 노드의 등록은 커밋 직후 바로 추가되지만, 다른 노드에서 등록된 게시글은 여기서 읽어야 반영됩니다.
+ * watermark 아래의 id 는 모두 확인했다고 보고 필터가 거르므로, 최근(grace-period 이내) 등록된 게시글부터는
+ * watermark 에 넣지 않고 다음 주기에 다시 읽습니다. 더 작은 id 가 아직 커밋 전일 수 있기 때문입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostExistenceFilterLoader {
+
+    private final PostRepository postRepository;
+    private final PostExistenceFilter postExistenceFilter;
+
+    @Value("${post.existence-filter.load-chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${post.existence-filter.grace-period:1m}")
+    private Duration gracePeriod;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!postExistenceFilter.isEnabled()) {
+            return;
+        }
+
+        int loaded = scan();
+        postExistenceFilter.markReady();
+        log.info("게시글 존재 필터 적재 완료: {}건 (watermark {})", loaded, postExistenceFilter.watermark());
+    }
+
+    @Scheduled(fixedDelayString = "${post.existence-filter.refresh-ms:60000}")
+    public void refresh() {
+        // 기동 적재가 끝나기 전에는 건너뜀
+        if (!postExistenceFilter.isEnabled() || !postExistenceFilter.isReady()) {
+            return;
+        }
+
+        scan();
+    }
+
+    private int scan() {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(gracePeriod);
+        long lastId = postExistenceFilter.watermark();
+        long settledUpTo = lastId;
+        boolean settled = true;
+        int scanned = 0;
+
+        while (true) {
+            List<PostIdentity> identities =
+                postRepository.findIdentitiesAfter(lastId, PageRequest.of(0, chunkSize));
+            if (identities.isEmpty()) {
+                break;
+            }
+
+            for (PostIdentity identity : identities) {
+                postExistenceFilter.add(identity.postId());
+
+                // 처음 만난 최근 게시글 앞까지만 watermark 로 인정
+                if (settled && identity.createAt().isBefore(settledBefore)) {
+                    settledUpTo = identity.postId();
+                } else {
+                    settled = false;
+                }
+            }
+
+            scanned += identities.size();
+            lastId = identities.getLast().postId();
+        }
+
+        postExistenceFilter.advanceWatermark(settledUpTo);
+        return scanned;
+    }
+}
@@ -0,0 +1,121 @@
+package com.rentify.rentify_api.post.listener;
+
+import com.rentify.rentify_api.post.dto.PostSearchDocument;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.post.service.PostSearchIndex;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 게시글 검색 색인을 채우고, 종료 시 스냅샷으로 저장합니다.
+ * 스냅샷이 있으면 스냅샷을 읽은 뒤 그 이후 수정된 게시글만 DB 에서 다시 읽으므로 전체 재색인을 피할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexLoader {
+
+    // 스냅샷 직전에 커밋된 수정이 빠지지 않도록 기준 시각을 조금 앞당김 (버전 비교로 중복 반영은 무시됨)
+    private static final long CATCH_UP_MARGIN_MINUTES = 5;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+
+    @Value("${post.search.index.snapshot-path:data/post-search-index.snapshot}")
+    private Path snapshotPath;
+
+    @Value("${post.search.index.load-chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!postSearchIndex.isEnabled()) {
+            return;
+        }
+
+        int restored = restoreSnapshot();
+        int pruned = restored > 0 ? pruneDeleted() : 0;
+        LocalDateTime since = restored > 0 && postSearchIndex.lastModifiedAt() != null
+            ? postSearchIndex.lastModifiedAt().minusMinutes(CATCH_UP_MARGIN_MINUTES)
+            : null;
+
+        long lastId = 0L;
+        int loaded = 0;
+
+        while (true) {
+            List<PostSearchDocument> documents =
+                postRepository.findSearchDocuments(lastId, since, PageRequest.of(0, chunkSize));
+            if (documents.isEmpty()) {
+                break;
+            }
+
+            documents.forEach(postSearchIndex::index);
+            loaded += documents.size();
+            lastId = documents.getLast().postId();
+        }
+
+        postSearchIndex.markReady();
+        log.info("게시글 검색 색인 적재 완료: 스냅샷 {}건(삭제 {}건), DB {}건 (전체 {}건)",
+            restored, pruned, loaded, postSearchIndex.size());
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void save() {
+        // 적재가 끝나지 않은 색인은 저장하지 않음 (다음 기동 때 빠진 게시글이 생기지 않도록)
+        if (!postSearchIndex.isReady() || postSearchIndex.size() == 0) {
+            return;
+        }
+
+        try {
+            postSearchIndex.save(snapshotPath);
+        } catch (IOException e) {
+            log.warn("게시글 검색 색인 스냅샷 저장 실패: {}", snapshotPath, e);
+        }
+    }
+
+    // 스냅샷을 만든 뒤 삭제된 게시글은 DB 에 없으므로 색인에서 뺌
+    private int pruneDeleted() {
+        List<Long> postIds = postSearchIndex.postIds();
+        int pruned = 0;
+
+        for (int from = 0; from < postIds.size(); from += chunkSize) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + chunkSize, postIds.size()));
+            Set<Long> existing = new HashSet<>(postRepository.findExistingIds(chunk));
+
+            for (Long postId : chunk) {
+                if (!existing.contains(postId)) {
+                    postSearchIndex.remove(postId);
+                    pruned++;
+                }
+            }
+        }
+        return pruned;
+    }
+
+    private int restoreSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return 0;
+        }
+
+        try {
+            return postSearchIndex.restore(snapshotPath);
+        } catch (IOException e) {
+            // 깨진 스냅샷은 버리고 DB 에서 전체 적재
+            log.warn("게시글 검색 색인 스냅샷을 읽지 못해 전체 적재합니다: {}", snapshotPath, e);
+            return 0;
+        }
+    }
+}
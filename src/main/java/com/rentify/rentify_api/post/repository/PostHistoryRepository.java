@@ -1,8 +1,10 @@
 package com.rentify.rentify_api.post.repository;
 
 import com.rentify.rentify_api.post.entity.PostHistory;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PostHistoryRepository extends JpaRepository<PostHistory, Long> {
 
+    List<PostHistory> findByPostIdOrderByPostVersionAscIdAsc(Long postId);
 }
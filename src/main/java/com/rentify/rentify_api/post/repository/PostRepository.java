@@ -1,53 +1,94 @@
 package com.rentify.rentify_api.post.repository;
 
+import com.rentify.rentify_api.post.dto.PostIdentity;
+import com.rentify.rentify_api.post.dto.PostSearchDocument;
+import com.rentify.rentify_api.post.dto.PostSummary;
 import com.rentify.rentify_api.post.entity.Post;
 import com.rentify.rentify_api.post.entity.PostStatus;
-import jakarta.persistence.LockModeType;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository
+    extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>, PostSummaryRepository {
+
+    // 검색 색인 적재용. since 가 있으면 그 이후 수정된 게시글만 (id 순 청크)
+    @Query("SELECT new com.rentify.rentify_api.post.dto.PostSearchDocument(p.id, p.title, p.description, p.updateAt) " +
+           "FROM Post p " +
+           "WHERE p.id > :lastId AND (:since IS NULL OR p.updateAt >= :since) " +
+           "ORDER BY p.id")
+    List<PostSearchDocument> findSearchDocuments(
+        @Param("lastId") Long lastId,
+        @Param("since") LocalDateTime since,
+        Pageable pageable
+    );
+
+    @Query("SELECT new com.rentify.rentify_api.post.dto.PostSearchDocument(p.id, p.title, p.description, p.updateAt) " +
+           "FROM Post p WHERE p.id = :postId")
+    Optional<PostSearchDocument> findSearchDocument(@Param("postId") Long postId);
+
+    // 스냅샷에만 남은(삭제된) 게시글을 색인에서 빼기 위한 존재 확인
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 존재 필터 적재용 (id 순 청크)
+    @Query("SELECT new com.rentify.rentify_api.post.dto.PostIdentity(p.id, p.createAt) " +
+           "FROM Post p " +
+           "WHERE p.id > :lastId " +
+           "ORDER BY p.id")
+    List<PostIdentity> findIdentitiesAfter(@Param("lastId") Long lastId, Pageable pageable);
 
     @Query(
         value =
-            "SELECT p FROM Post p " +
-            "JOIN FETCH p.user " +
-            "JOIN FETCH p.category " +
-            "WHERE (:categoryId IS NULL OR p.category.id = :categoryId) " +
-            "AND (:status IS NULL OR p.status = :status) " +
-            "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.description LIKE %:keyword%)",
+            "SELECT new com.rentify.rentify_api.post.dto.PostSummary(" +
+            "p.id, u.id, u.name, c.name, p.title, p.thumbnailUrl, p.pricePerDay, " +
+            "p.isParcel, p.isMeetup, p.status, p.createAt) " +
+            "FROM Post p JOIN p.user u JOIN p.category c " +
+            "WHERE u.id = :userId " +
+            "AND (:includeHidden = true OR p.status != 'HIDDEN')",
         countQuery =
             "SELECT count(p) FROM Post p " +
-            "WHERE (:categoryId IS NULL OR p.category.id = :categoryId) " +
-            "AND (:status IS NULL OR p.status = :status) " +
-            "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.description LIKE %:keyword%)"
+            "WHERE p.user.id = :userId " +
+            "AND (:includeHidden = true OR p.status != 'HIDDEN')"
     )
-    Page<Post> findAllSearch(
-        @Param("categoryId") Long categoryId,
-        @Param("status") PostStatus status,
-        @Param("keyword") String keyword,
+    Page<PostSummary> findSummariesByUserId(
+        @Param("userId") Long userId,
+        @Param("includeHidden") boolean includeHidden,
         Pageable pageable
     );
 
+    // 남은 확정/대여중 대여가 없어 다시 대여 가능으로 돌릴 수 있는 예약 게시글
     @Query(
-        "SELECT p FROM Post p " +
-        "WHERE p.user.id = :userId " +
-        "AND (:includeHidden = true OR p.status != 'HIDDEN')"
+        "SELECT p.id FROM Post p " +
+        "WHERE p.id IN :postIds " +
+        "AND p.status = com.rentify.rentify_api.post.entity.PostStatus.RESERVED " +
+        "AND NOT EXISTS (" +
+        "SELECT 1 FROM Rental r WHERE r.post = p AND r.status IN :activeStatuses)"
     )
-    Page<Post> findByUserIdWithHiddenOption(
-        @Param("userId") Long userId,
-        @Param("includeHidden") boolean includeHidden,
-        Pageable pageable
+    List<Long> findReleasableIds(
+        @Param("postIds") Collection<Long> postIds,
+        @Param("activeStatuses") List<RentalStatus> activeStatuses
+    );
+
+    @Modifying
+    @Query("UPDATE Post p SET p.status = :status, p.updateAt = :now, p.version = p.version + 1 WHERE p.id IN :ids")
+    int updateStatusByIds(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") PostStatus status,
+        @Param("now") LocalDateTime now
     );
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT p FROM Post p WHERE p.id = :id")
-    Optional<Post> findByIdWithPessimisticLock(@Param("id") Long id);
+    @Query("SELECT p.id FROM Post p WHERE p.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
 
     @Query("SELECT COUNT(p) FROM Post p WHERE p.user.id = :userId")
     Long countByUserId(@Param("userId") Long userId);
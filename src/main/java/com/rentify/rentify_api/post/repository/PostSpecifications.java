@@ -0,0 +1,154 @@
+package com.rentify.rentify_api.post.repository;
+
+import com.rentify.rentify_api.post.dto.PostCursor;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.post.entity.PostStatus;
+import com.rentify.rentify_api.rental.entity.Rental;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 게시글 목록 검색 조건입니다. 서비스는 요청에 실제로 들어온 조건만 골라 조합하므로
+ * "(:param IS NULL OR ...)" 없이 필터 조합마다 다른 SQL 이 만들어지고, 조합별로 맞는 인덱스를 탈 수 있습니다.
+ * <p>
+ * 조합별 권장 인덱스 (posts):
+ * <ul>
+ *   <li>상태 + 최신순: (status, created_at) - idx_posts_status_created</li>
+ *   <li>카테고리 (+ 상태) + 최신순: (category_id, status, created_at) - idx_posts_category_status_created</li>
+ *   <li>가격 범위 (+ 상태): (status, price_per_day) - idx_posts_status_price</li>
+ *   <li>작성자: (user_id, created_at) - idx_posts_user_created</li>
+ *   <li>검색어: title, description 의 pg_trgm GIN 인덱스 (V8 마이그레이션)</li>
+ *   <li>대여 가능 기간: rentals(post_id, status, start_date, end_date) - idx_rentals_post_status_period</li>
+ * </ul>
+ * 택배/직거래 여부는 선택도가 낮아 별도 인덱스 없이 위 인덱스로 좁힌 행에서 거릅니다.
+ */
+public final class PostSpecifications {
+
+    // 검색어의 %, _ 는 서비스에서 이 문자로 이스케이프해서 전달
+    public static final char LIKE_ESCAPE = '!';
+
+    private PostSpecifications() {
+    }
+
+    public static Specification<Post> categoryIs(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Post> statusIs(PostStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Post> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Post> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Post> pricePerDayAtLeast(int minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("pricePerDay"), minPrice);
+    }
+
+    public static Specification<Post> pricePerDayAtMost(int maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("pricePerDay"), maxPrice);
+    }
+
+    public static Specification<Post> parcelAvailable(boolean isParcel) {
+        return (root, query, cb) -> cb.equal(root.get("isParcel"), isParcel);
+    }
+
+    public static Specification<Post> meetupAvailable(boolean isMeetup) {
+        return (root, query, cb) -> cb.equal(root.get("isMeetup"), isMeetup);
+    }
+
+    /**
+     * 제목 또는 내용에 검색어(이스케이프된 값)가 포함된 게시글. ILIKE 로 비교해 trigram 인덱스를 사용합니다.
+     */
+    public static Specification<Post> keywordContains(String escapedKeyword) {
+        return (root, query, cb) -> {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            String pattern = "%" + escapedKeyword + "%";
+
+            return cb.or(
+                hcb.ilike(root.get("title"), pattern, LIKE_ESCAPE),
+                hcb.ilike(root.get("description"), pattern, LIKE_ESCAPE)
+            );
+        };
+    }
+
+    /**
+     * 기간 [from, to] 에 겹치는 활성 대여가 없는 게시글. NOT EXISTS(anti-join)로 판정합니다.
+     */
+    public static Specification<Post> availableBetween(
+        LocalDate from, LocalDate to, List<RentalStatus> blockingStatuses
+    ) {
+        return (root, query, cb) -> {
+            Subquery<Integer> overlapping = query.subquery(Integer.class);
+            Root<Rental> rental = overlapping.from(Rental.class);
+
+            overlapping.select(cb.literal(1)).where(
+                cb.equal(rental.get("post"), root),
+                rental.get("status").in(blockingStatuses),
+                cb.lessThanOrEqualTo(rental.get("startDate"), to),
+                cb.greaterThanOrEqualTo(rental.get("endDate"), from)
+            );
+            return cb.not(cb.exists(overlapping));
+        };
+    }
+
+    /**
+     * 커서 위치 이후의 행 (keyset). 정렬 값이 같으면 postId 로 이어서 비교합니다.
+     * 조건이 정렬 방향과 같은 인덱스 순서를 따르므로 페이지가 깊어져도 앞 행을 건너뛰며 읽지 않습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public static Specification<Post> after(PostCursor cursor) {
+        return (root, query, cb) -> {
+            boolean desc = cursor.direction().isDescending();
+            Path<Long> id = root.get("id");
+            Predicate afterId = desc ? cb.lessThan(id, cursor.postId()) : cb.greaterThan(id, cursor.postId());
+
+            if ("id".equals(cursor.property())) {
+                return afterId;
+            }
+
+            Path<Comparable<Object>> sortValue = root.get(cursor.property());
+            Comparable<Object> value = (Comparable<Object>) cursor.value();
+            Predicate afterValue = desc ? cb.lessThan(sortValue, value) : cb.greaterThan(sortValue, value);
+
+            return cb.or(afterValue, cb.and(cb.equal(sortValue, value), afterId));
+        };
+    }
+
+    /**
+     * 관련도순 정렬: 제목 일치 > 제목 접두 일치 > 제목 포함 > 내용만 포함, 같은 순위는 최신순.
+     * 조건을 추가하지 않고 정렬만 지정하며, count 쿼리에는 적용하지 않습니다.
+     */
+    public static Specification<Post> orderByRelevance(String escapedKeyword) {
+        return (root, query, cb) -> {
+            if (Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType())) {
+                return null;
+            }
+
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            Expression<String> title = root.get("title");
+            Expression<Integer> rank = cb.<Integer>selectCase()
+                .when(hcb.ilike(title, escapedKeyword, LIKE_ESCAPE), 3)
+                .when(hcb.ilike(title, escapedKeyword + "%", LIKE_ESCAPE), 2)
+                .when(hcb.ilike(title, "%" + escapedKeyword + "%", LIKE_ESCAPE), 1)
+                .otherwise(0);
+
+            query.orderBy(cb.desc(rank), cb.desc(root.get("createAt")), cb.desc(root.get("id")));
+            return null;
+        };
+    }
+}
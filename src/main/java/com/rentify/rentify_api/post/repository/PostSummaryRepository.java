@@ -0,0 +1,28 @@
+package com.rentify.rentify_api.post.repository;
+
+import com.rentify.rentify_api.post.dto.PostSummary;
+import com.rentify.rentify_api.post.entity.Post;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface PostSummaryRepository {
+
+    /**
+     * Specification 조건으로 게시글 요약(PostSummary)만 조회합니다.
+     */
+    Page<PostSummary> findSummaries(Specification<Post> spec, Pageable pageable);
+
+    /**
+     * 전체 개수를 total 로 구합니다. 마지막 페이지처럼 내용만으로 개수를 알 수 있으면 호출하지 않습니다.
+     */
+    Page<PostSummary> findSummaries(Specification<Post> spec, Pageable pageable, LongSupplier total);
+
+    /**
+     * count 없이 정렬 순서대로 최대 limit 건만 조회합니다 (커서 페이지용).
+     */
+    List<PostSummary> findSummaries(Specification<Post> spec, Sort sort, int limit);
+}
@@ -0,0 +1,108 @@
+package com.rentify.rentify_api.post.repository;
+
+import com.rentify.rentify_api.category.entity.Category;
+import com.rentify.rentify_api.post.dto.PostSummary;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * 목록 조회는 필요한 컬럼만 생성자 표현식으로 선택합니다 (엔티티 생성/영속성 컨텍스트 등록 없음).
+ * 페이지 조회의 count 는 같은 조건으로 따로 실행하며, 첫 페이지가 다 차지 않으면 생략됩니다.
+ * 커서 조회는 count 없이 limit 건만 읽습니다.
+ */
+@RequiredArgsConstructor
+public class PostSummaryRepositoryImpl implements PostSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<PostSummary> findSummaries(Specification<Post> spec, Pageable pageable) {
+        return findSummaries(spec, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Page<PostSummary> findSummaries(Specification<Post> spec, Pageable pageable, LongSupplier total) {
+        TypedQuery<PostSummary> query = createQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<PostSummary> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    @Override
+    public List<PostSummary> findSummaries(Specification<Post> spec, Sort sort, int limit) {
+        return createQuery(spec, sort)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    private TypedQuery<PostSummary> createQuery(Specification<Post> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<PostSummary> query = cb.createQuery(PostSummary.class);
+        Root<Post> root = query.from(Post.class);
+        Join<Post, User> user = root.join("user");
+        Join<Post, Category> category = root.join("category");
+
+        query.select(cb.construct(
+            PostSummary.class,
+            root.get("id"),
+            user.get("id"),
+            user.get("name"),
+            category.get("name"),
+            root.get("title"),
+            root.get("thumbnailUrl"),
+            root.get("pricePerDay"),
+            root.get("isParcel"),
+            root.get("isMeetup"),
+            root.get("status"),
+            root.get("createAt")
+        ));
+
+        // Specification 이 정렬을 지정할 수 있으므로(관련도순) 조건을 먼저 적용하고, 요청 정렬이 있으면 덮어씀
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Post> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Post> root = query.from(Post.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(List.of());
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
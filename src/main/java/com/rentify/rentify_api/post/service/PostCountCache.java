@@ -0,0 +1,210 @@
+package com.rentify.rentify_api.post.service;
+
+import com.rentify.rentify_api.post.dto.PostSearchCondition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 목록의 전체 개수(count)를 검색 조건별로 잠시 보관합니다.
+ * 페이지를 넘길 때마다 같은 조건으로 전체 스캔하는 count 쿼리를 반복하지 않기 위한 용도로,
+ * 캐시된 값은 TTL 동안 다른 변경을 반영하지 못할 수 있어 근사값으로 취급합니다.
+ * <p>
+ * 조건이 없는 전체 개수는 게시글이 많으면 PostgreSQL 통계(pg_class.reltuples)의 추정값을 사용합니다.
+ * 대여 가능 기간 조건은 대여 변경에 따라 결과가 달라지므로 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class PostCountCache {
+
+    private static final String ESTIMATE_SQL =
+        "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('posts' AS regclass)";
+
+    private final Map<CountKey, Entry> entries = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long estimateThreshold;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter estimates;
+    private volatile Boolean postgreSql;
+
+    public PostCountCache(
+        JdbcTemplate jdbcTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${post.search.count.ttl-seconds:30}") long ttlSeconds,
+        @Value("${post.search.count.max-entries:10000}") int maxEntries,
+        @Value("${post.search.count.estimate-threshold:100000}") long estimateThreshold
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxEntries = maxEntries;
+        this.estimateThreshold = estimateThreshold;
+        this.hits = meterRegistry.counter("post.search.count", "result", "hit");
+        this.misses = meterRegistry.counter("post.search.count", "result", "miss");
+        this.estimates = meterRegistry.counter("post.search.count", "result", "estimate");
+    }
+
+    /**
+     * 캐시된 개수 또는 추정값. 없으면 비어 있으며, 이때는 호출하는 쪽에서 count 후 put 합니다.
+     */
+    public OptionalLong find(PostSearchCondition condition) {
+        CountKey key = keyOf(condition);
+        if (key == null) {
+            return OptionalLong.empty();
+        }
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+            hits.increment();
+            return OptionalLong.of(entry.total());
+        }
+
+        if (key.isUnfiltered()) {
+            OptionalLong estimate = estimate();
+            if (estimate.isPresent()) {
+                estimates.increment();
+                return estimate;
+            }
+        }
+
+        misses.increment();
+        return OptionalLong.empty();
+    }
+
+    public void put(PostSearchCondition condition, long total) {
+        CountKey key = keyOf(condition);
+        if (key == null) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (entries.size() >= maxEntries) {
+                // 조건 조합이 너무 많으면 모두 비우고 다시 채움
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(total, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * 해당 카테고리의 게시글이 바뀌었을 때 호출합니다. 카테고리 조건이 없는 개수도 함께 무효화합니다.
+     * 트랜잭션 안이면 커밋 이후에 무효화해서 커밋 전 값이 다시 캐시되지 않도록 합니다.
+     */
+    public void evictCategoryAfterCommit(Long... categoryIds) {
+        afterCommit(() -> entries.keySet().removeIf(key ->
+            key.categoryId() == null || containsCategory(categoryIds, key.categoryId())
+        ));
+    }
+
+    // 여러 카테고리에 걸친 일괄 상태 변경 등
+    public void evictAllAfterCommit() {
+        afterCommit(entries::clear);
+    }
+
+    private OptionalLong estimate() {
+        if (!isPostgreSql()) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            Long estimated = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class);
+            // 통계가 없으면(ANALYZE 전) -1 또는 0
+            return estimated != null && estimated >= estimateThreshold
+                ? OptionalLong.of(estimated)
+                : OptionalLong.empty();
+        } catch (DataAccessException e) {
+            log.warn("게시글 개수 추정 실패: {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    private boolean isPostgreSql() {
+        if (postgreSql == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+            );
+            postgreSql = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgreSql;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static boolean containsCategory(Long[] categoryIds, Long categoryId) {
+        for (Long id : categoryIds) {
+            if (Objects.equals(id, categoryId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 같은 결과를 내는 조건이 같은 키가 되도록 정규화 (검색은 대소문자를 구분하지 않음)
+    private static CountKey keyOf(PostSearchCondition condition) {
+        if (condition.availableFrom() != null || condition.availableTo() != null) {
+            return null;
+        }
+
+        String status = condition.status() == null || condition.status().isBlank()
+            ? null
+            : condition.status().strip().toUpperCase(Locale.ROOT);
+        String keyword = condition.keyword() == null || condition.keyword().isBlank()
+            ? null
+            : condition.keyword().strip().toLowerCase(Locale.ROOT);
+
+        return new CountKey(
+            condition.categoryId(), status, keyword,
+            condition.minPrice(), condition.maxPrice(),
+            condition.isParcel(), condition.isMeetup(), condition.ownerId()
+        );
+    }
+
+    private record CountKey(
+        Long categoryId,
+        String status,
+        String keyword,
+        Integer minPrice,
+        Integer maxPrice,
+        Boolean isParcel,
+        Boolean isMeetup,
+        Long ownerId
+    ) {
+
+        boolean isUnfiltered() {
+            return categoryId == null && status == null && keyword == null
+                && minPrice == null && maxPrice == null
+                && isParcel == null && isMeetup == null && ownerId == null;
+        }
+    }
+
+    private record Entry(long total, long expiresAt) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.rentify.rentify_api.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rentify.rentify_api.common.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 존재하지 않는 게시글 id 를 DB 조회 없이 걸러냅니다.
+ * id 범위를 차례로 조회하는 요청(스크래핑)은 대부분 없는 id 이고, 예외는 캐시되지 않아 매번 DB 로 가기 때문입니다.
+ * <p>
+ * - Bloom filter: 기동 시 모든 게시글 id 를 담고(PostExistenceFilterLoader), 이후 등록과 주기적인 DB 확인으로 추가합니다.
+ *   DB 에서 확인한 범위(watermark) 안의 id 만 거르므로, 다른 노드에서 방금 등록된 게시글을 잘못 거르지 않습니다.
+ * - 음성 캐시: DB 에서 없다고 확인한 watermark 이하의 id(Bloom filter 오탐)를 잠시 기억합니다.
+ *   watermark 밖의 id 는 다른 노드에서 곧 등록될 수 있으므로 기억하지 않습니다. 음성 캐시는 노드마다 따로 있어서
+ *   기억해 두면 다른 노드에서 등록된 게시글을 TTL 동안 없다고 응답하게 됩니다.
+ */
+@Component
+public class PostExistenceFilter {
+
+    private final BloomFilter bloomFilter;
+    private final Cache<Long, Boolean> missingIds;
+    private final boolean enabled;
+    private final Counter rejectedByFilter;
+    private final Counter rejectedByNegativeCache;
+    private final Counter falsePositives;
+    private volatile long watermark;
+    private volatile boolean ready;
+
+    public PostExistenceFilter(
+        MeterRegistry meterRegistry,
+        @Value("${post.existence-filter.enabled:true}") boolean enabled,
+        @Value("${post.existence-filter.expected-insertions:1000000}") long expectedInsertions,
+        @Value("${post.existence-filter.false-positive-rate:0.01}") double falsePositiveRate,
+        @Value("${post.existence-filter.negative-cache-ttl:30s}") Duration negativeCacheTtl,
+        @Value("${post.existence-filter.negative-cache-size:100000}") long negativeCacheSize
+    ) {
+        this.enabled = enabled;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.missingIds = Caffeine.newBuilder()
+            .maximumSize(negativeCacheSize)
+            .expireAfterWrite(negativeCacheTtl)
+            .build();
+
+        this.rejectedByFilter = meterRegistry.counter("post.existence.rejected", "by", "bloom");
+        this.rejectedByNegativeCache = meterRegistry.counter("post.existence.rejected", "by", "negative_cache");
+        this.falsePositives = meterRegistry.counter("post.existence.false_positive");
+        Gauge.builder("post.existence.filter.insertions", bloomFilter, BloomFilter::insertions)
+            .register(meterRegistry);
+    }
+
+    /**
+     * DB 를 조회하지 않아도 없는 게시글임이 확실하면 true. 적재 전이거나 확실하지 않으면 false 입니다.
+     */
+    public boolean isDefinitelyMissing(Long postId) {
+        if (!enabled || !ready) {
+            return false;
+        }
+
+        if (missingIds.getIfPresent(postId) != null) {
+            rejectedByNegativeCache.increment();
+            return true;
+        }
+
+        if (postId <= watermark && !bloomFilter.mightContain(postId)) {
+            rejectedByFilter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * DB 에서 게시글이 없다고 확인된 경우 호출합니다. watermark 이하의 id 는 Bloom filter 오탐이므로 기록하고 음성 캐시에 넣습니다.
+     * watermark 는 등록이 끝난 범위이므로 그 안의 id 가 나중에 생기지 않아 캐시해도 안전합니다.
+     */
+    public void markMissing(Long postId) {
+        if (!enabled || !ready || postId > watermark) {
+            return;
+        }
+
+        falsePositives.increment();
+        missingIds.put(postId, Boolean.TRUE);
+    }
+
+    // 등록 트랜잭션이 커밋된 뒤에 추가 (롤백된 id 는 넣지 않음)
+    public void addAfterCommit(Long postId) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(postId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(postId);
+            }
+        });
+    }
+
+    public void add(Long postId) {
+        bloomFilter.add(postId);
+        missingIds.invalidate(postId);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long watermark() {
+        return watermark;
+    }
+
+    /**
+     * DB 에서 watermark 이하의 모든 게시글 id 를 추가했음을 표시합니다. watermark 는 줄어들지 않습니다.
+     */
+    public void advanceWatermark(long checkedUpTo) {
+        if (checkedUpTo > watermark) {
+            this.watermark = checkedUpTo;
+        }
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+}
@@ -0,0 +1,65 @@
+package com.rentify.rentify_api.post.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 게시글 이력의 delta(JSON Merge Patch, RFC 7386) 계산과 직렬화를 담당합니다.
+ * 값이 null 인 필드는 "없음"으로 취급하므로, null 로 바뀐 필드는 patch 에 null 로 담기고 적용 시 제거됩니다.
+ */
+public final class PostHistoryDelta {
+
+    // 스레드 안전하므로 요청마다 만들지 않고 공유
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private PostHistoryDelta() {
+    }
+
+    // before -> after 로 바뀐 필드만 담은 patch. 바뀐 게 없으면 빈 Map
+    public static Map<String, Object> diff(Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+
+        after.forEach((field, value) -> {
+            if (!Objects.equals(before.get(field), value)) {
+                delta.put(field, value);
+            }
+        });
+        before.forEach((field, value) -> {
+            if (value != null && !after.containsKey(field)) {
+                delta.put(field, null);
+            }
+        });
+        return delta;
+    }
+
+    public static void apply(Map<String, Object> state, Map<String, Object> delta) {
+        delta.forEach((field, value) -> {
+            if (value == null) {
+                state.remove(field);
+            } else {
+                state.put(field, value);
+            }
+        });
+    }
+
+    public static String write(Map<String, Object> delta) {
+        try {
+            return MAPPER.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 이력 JSON 변환 실패", e);
+        }
+    }
+
+    public static Map<String, Object> read(String json) {
+        try {
+            return MAPPER.readValue(json, MAP_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 이력 JSON 해석 실패", e);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.rentify.rentify_api.post.service;
+
+import com.rentify.rentify_api.post.entity.Post;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 변경 이력을 요청 트랜잭션 밖에서 모아 저장합니다.
+ * <p>
+ * - 변경이 커밋된 뒤에만 큐에 넣으므로 롤백된 수정은 이력에 남지 않습니다.
+ *   게시글 버전과 변경 시각도 커밋 시점의 값으로 기록하며, 이력 순서는 게시글 버전을 따릅니다.
+ * - delta 는 요청이 읽은 수정 전 상태와 비교해 만듭니다. 게시글은 낙관적 잠금(Post.version)으로 동시 수정 중 하나만 커밋되므로
+ *   커밋된 수정의 수정 전 상태는 항상 직전 버전과 같습니다.
+ * - 전용 스레드가 큐에서 batch-size 만큼 꺼내 JDBC 배치 INSERT 로 저장합니다.
+ *   (post_history 는 IDENTITY 키라 JPA saveAll 로는 배치가 되지 않음)
+ * - 큐가 가득 차 enqueue-timeout 안에 넣지 못하면 요청 스레드에서 바로 저장합니다 (이력을 버리지 않음).
+ * - 종료 시 새 이력은 바로 저장하고, 큐에 남은 이력은 모두 저장한 뒤 멈춥니다.
+ *   프로세스가 강제 종료되면 큐에 있던 이력(최대 queue-capacity 건)은 유실될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PostHistoryRecorder implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO post_history (post_id, post_version, delta, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingHistory> queue;
+    private final int batchSize;
+    private final Duration enqueueTimeout;
+    private final Duration shutdownTimeout;
+    private final Counter writtenCounter;
+    private final Counter directWriteCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizes;
+    private volatile boolean running;
+    private Thread writer;
+
+    public PostHistoryRecorder(
+        JdbcTemplate jdbcTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${post.history.queue-capacity:10000}") int queueCapacity,
+        @Value("${post.history.batch-size:200}") int batchSize,
+        @Value("${post.history.enqueue-timeout:50ms}") Duration enqueueTimeout,
+        @Value("${post.history.shutdown-timeout:10s}") Duration shutdownTimeout
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.enqueueTimeout = enqueueTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+
+        this.writtenCounter = Counter.builder("post.history.written")
+            .description("저장된 게시글 이력 수")
+            .register(meterRegistry);
+        this.directWriteCounter = Counter.builder("post.history.direct_write")
+            .description("큐에 넣지 못해 요청 스레드에서 바로 저장한 이력 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("post.history.failed")
+            .description("저장에 실패한 이력 수")
+            .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("post.history.batch.size")
+            .description("한 번에 저장한 이력 수")
+            .register(meterRegistry);
+        Gauge.builder("post.history.queue.size", queue, BlockingQueue::size)
+            .description("저장 대기 중인 이력 수")
+            .register(meterRegistry);
+    }
+
+    public void recordCreated(Post post) {
+        enqueueAfterCommit(post, PostHistoryDelta.diff(Map.of(), post.toSnapshot()));
+    }
+
+    public void recordUpdated(Post post, Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> delta = PostHistoryDelta.diff(before, after);
+        // 바뀐 필드가 없으면 이력을 남기지 않음
+        if (!delta.isEmpty()) {
+            enqueueAfterCommit(post, delta);
+        }
+    }
+
+    // 버전은 flush 때 올라가므로 커밋 이후에 읽음
+    private void enqueueAfterCommit(Post post, Map<String, Object> delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(new PendingHistory(post.getId(), post.getVersion(), delta, LocalDateTime.now()));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(new PendingHistory(post.getId(), post.getVersion(), delta, LocalDateTime.now()));
+            }
+        });
+    }
+
+    private void enqueue(PendingHistory history) {
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queue.offer(history, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // 넣은 직후 종료가 시작되어 writer 가 이미 큐를 비웠을 수 있으므로 되찾아 직접 저장
+        if (queued && (running || !queue.remove(history))) {
+            return;
+        }
+
+        directWriteCounter.increment();
+        write(List.of(history));
+    }
+
+    private void drain() {
+        List<PendingHistory> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingHistory first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingHistory> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, history) -> {
+                ps.setLong(1, history.postId());
+                ps.setLong(2, history.postVersion());
+                ps.setString(3, PostHistoryDelta.write(history.delta()));
+                ps.setTimestamp(4, Timestamp.valueOf(history.changedAt()));
+            });
+            writtenCounter.increment(batch.size());
+            batchSizes.record(batch.size());
+        } catch (DataAccessException e) {
+            // 복구할 수 있도록 내용을 남김
+            failedCounter.increment(batch.size());
+            log.error("게시글 이력 저장 실패 {}건: {}", batch.size(), batch, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform()
+            .name("post-history-writer")
+            .daemon(true)
+            .start(this::drain);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // writer 가 제시간에 끝나지 않았으면 남은 이력을 여기서 저장
+        List<PendingHistory> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record PendingHistory(Long postId, Long postVersion, Map<String, Object> delta, LocalDateTime changedAt) {}
+}
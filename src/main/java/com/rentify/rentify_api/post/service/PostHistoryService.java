@@ -0,0 +1,78 @@
+package com.rentify.rentify_api.post.service;
+
+import com.rentify.rentify_api.post.dto.PostHistoryResponse;
+import com.rentify.rentify_api.post.dto.PostVersionResponse;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.post.entity.PostHistory;
+import com.rentify.rentify_api.post.exception.PostHistoryNotFoundException;
+import com.rentify.rentify_api.post.exception.PostNotFoundException;
+import com.rentify.rentify_api.post.repository.PostHistoryRepository;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 이력 조회. 이력은 비동기로 저장되므로 방금 커밋된 변경은 잠시 뒤에 보일 수 있습니다.
+ * 숨김 처리 전 내용 등이 담겨 있으므로 게시글 작성자만 조회할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostHistoryService {
+
+    private final PostHistoryRepository postHistoryRepository;
+    private final PostRepository postRepository;
+
+    @Transactional(readOnly = true)
+    public List<PostHistoryResponse> getHistory(Long postId, Long userId) {
+        validateOwner(postId, userId);
+        List<PostHistory> histories = findHistories(postId);
+
+        return IntStream.range(0, histories.size())
+            .mapToObj(i -> new PostHistoryResponse(
+                i + 1,
+                histories.get(i).getCreateAt(),
+                PostHistoryDelta.read(histories.get(i).getDelta()).keySet()
+            ))
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public PostVersionResponse getVersion(Long postId, Long userId, int version) {
+        validateOwner(postId, userId);
+        List<PostHistory> histories = findHistories(postId);
+        if (version < 1 || version > histories.size()) {
+            throw new PostHistoryNotFoundException();
+        }
+
+        // 등록 이력(전체 필드)부터 해당 버전까지 순서대로 적용
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        for (PostHistory history : histories.subList(0, version)) {
+            PostHistoryDelta.apply(snapshot, PostHistoryDelta.read(history.getDelta()));
+        }
+
+        return new PostVersionResponse(postId, version, histories.get(version - 1).getCreateAt(), snapshot);
+    }
+
+    private void validateOwner(Long postId, Long userId) {
+        Post post = postRepository.findById(postId)
+            .orElseThrow(PostNotFoundException::new);
+
+        if (!post.getUser().getId().equals(userId)) {
+            throw new AccessDeniedException("이력 조회 권한이 없습니다.");
+        }
+    }
+
+    private List<PostHistory> findHistories(Long postId) {
+        List<PostHistory> histories = postHistoryRepository.findByPostIdOrderByPostVersionAscIdAsc(postId);
+        if (histories.isEmpty()) {
+            throw new PostHistoryNotFoundException();
+        }
+        return histories;
+    }
+}
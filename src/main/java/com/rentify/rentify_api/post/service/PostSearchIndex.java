@@ -0,0 +1,209 @@
+package com.rentify.rentify_api.post.service;
+
+import com.rentify.rentify_api.common.cache.CacheInvalidation;
+import com.rentify.rentify_api.common.cache.CacheInvalidationBus;
+import com.rentify.rentify_api.common.util.BigramIndex;
+import com.rentify.rentify_api.post.dto.PostSearchDocument;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 제목/내용의 메모리 bigram 색인입니다.
+ * 검색어를 포함할 수 있는 게시글 id 후보를 DB 없이 찾고, 최종 확인과 페이징은 후보 id 안에서 DB 가 처리합니다.
+ * 기동 시 스냅샷과 DB 로 채우며(PostSearchIndexLoader), 이후에는 게시글 등록/수정/삭제 커밋마다 갱신됩니다.
+ * <p>
+ * 색인은 노드마다 따로 있습니다. 노드 간 무효화 채널(CacheInvalidationBus)이 있으면 바뀐 게시글 id 를 알리고,
+ * 받은 노드는 해당 게시글을 DB 에서 다시 읽어 색인합니다(없으면 색인에서 뺌).
+ * 채널이 없으면 다른 노드의 변경을 알 수 없으므로 여러 노드로 운영할 때는 post.search.index.enabled 를 꺼야 합니다.
+ * 메시지를 놓쳐도 후보 id 는 DB 에서 다시 확인하므로 잘못된 결과가 나오지는 않지만, 빠진 게시글은 다음 기동 전까지 검색되지 않을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    static final String INVALIDATION_NAME = "post-search-index";
+
+    private final BigramIndex index = new BigramIndex();
+    private final PostRepository postRepository;
+    private final CacheInvalidationBus invalidationBus;
+    // 자기가 보낸 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Timer searchTimer;
+    private final boolean enabled;
+    private final int maxCandidates;
+    private volatile boolean ready;
+
+    public PostSearchIndex(
+        PostRepository postRepository,
+        ObjectProvider<CacheInvalidationBus> invalidationBusProvider,
+        MeterRegistry meterRegistry,
+        @Value("${post.search.index.enabled:true}") boolean enabled,
+        @Value("${post.search.index.max-candidates:2000}") int maxCandidates
+    ) {
+        this.postRepository = postRepository;
+        this.invalidationBus = invalidationBusProvider.getIfAvailable();
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.searchTimer = meterRegistry.timer("post.search.index.query");
+        Gauge.builder("post.search.index.documents", index, BigramIndex::size)
+            .register(meterRegistry);
+
+        if (enabled && invalidationBus != null) {
+            invalidationBus.subscribe(this::onInvalidation);
+        }
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 게시글 id 후보를 반환합니다.
+     * 적재 전이거나, 검색어가 너무 짧거나, 후보가 너무 많아 IN 조회가 오히려 느린 경우에는 비어 있으며
+     * 이때는 DB 검색으로 처리합니다.
+     */
+    public Optional<List<Long>> findCandidates(String keyword) {
+        if (!enabled || !ready || keyword == null) {
+            return Optional.empty();
+        }
+
+        int[] ids = searchTimer.record(() -> index.search(keyword.strip()));
+        if (ids == null || ids.length > maxCandidates) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Arrays.stream(ids).mapToObj(Long::valueOf).toList());
+    }
+
+    /**
+     * 등록/수정 트랜잭션이 커밋된 뒤에 색인합니다. 롤백된 내용은 색인에 남지 않습니다.
+     */
+    public void indexAfterCommit(Post post) {
+        runAfterCommit(() -> {
+            index(post);
+            broadcast(post.getId());
+        });
+    }
+
+    /**
+     * 삭제 트랜잭션이 커밋된 뒤에 색인에서 뺍니다.
+     */
+    public void removeAfterCommit(Long postId) {
+        runAfterCommit(() -> {
+            remove(postId);
+            broadcast(postId);
+        });
+    }
+
+    public void remove(Long postId) {
+        index.remove(Math.toIntExact(postId));
+    }
+
+    // 색인된 게시글 id (스냅샷 복원 후 삭제된 게시글 정리용)
+    public List<Long> postIds() {
+        return Arrays.stream(index.ids()).mapToObj(Long::valueOf).toList();
+    }
+
+    public void index(PostSearchDocument document) {
+        index.put(
+            Math.toIntExact(document.postId()), toVersion(document.updateAt()),
+            document.title(), document.description()
+        );
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    // 스냅샷 이후 변경분만 DB 에서 다시 읽을 기준 시각 (스냅샷이 비어 있으면 null)
+    public LocalDateTime lastModifiedAt() {
+        long version = index.maxVersion();
+        return version < 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(version), ZoneId.systemDefault());
+    }
+
+    public int restore(Path snapshot) throws IOException {
+        return index.readSnapshot(snapshot);
+    }
+
+    public void save(Path snapshot) throws IOException {
+        index.writeSnapshot(snapshot);
+    }
+
+    // 다른 노드에서 바뀐 게시글은 DB 에서 다시 읽어 색인 (없으면 삭제된 것이므로 뺌)
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (!INVALIDATION_NAME.equals(invalidation.cacheName())
+            || nodeId.equals(invalidation.origin())
+            || invalidation.isClear()) {
+            return;
+        }
+
+        Long postId = Long.valueOf(invalidation.key());
+        try {
+            postRepository.findSearchDocument(postId)
+                .ifPresentOrElse(this::index, () -> remove(postId));
+        } catch (RuntimeException e) {
+            log.warn("게시글 검색 색인 갱신 실패 - postId: {}", postId, e);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void broadcast(Long postId) {
+        if (invalidationBus != null) {
+            invalidationBus.publish(CacheInvalidation.evict(nodeId, INVALIDATION_NAME, String.valueOf(postId)));
+        }
+    }
+
+    private void index(Post post) {
+        // 수정 시각은 flush 시점에 채워지므로 커밋 이후에 읽음
+        index(new PostSearchDocument(post.getId(), post.getTitle(), post.getDescription(), post.getUpdateAt()));
+    }
+
+    private static long toVersion(LocalDateTime updateAt) {
+        return updateAt != null
+            ? updateAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : System.currentTimeMillis();
+    }
+}
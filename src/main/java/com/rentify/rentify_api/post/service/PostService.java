@@ -4,31 +4,56 @@ import com.rentify.rentify_api.category.entity.Category;
 import com.rentify.rentify_api.category.exception.CategoryNotFoundException;
 import com.rentify.rentify_api.category.repository.CategoryRepository;
 import com.rentify.rentify_api.common.exception.InvalidValueException;
+import com.rentify.rentify_api.common.response.PageResponse;
+import com.rentify.rentify_api.common.response.SliceResponse;
+import com.rentify.rentify_api.common.util.SingleFlight;
 import com.rentify.rentify_api.image.service.ImageService;
+import com.rentify.rentify_api.image.service.ImageVariant;
+import com.rentify.rentify_api.post.dto.PostAvailabilityRequest;
+import com.rentify.rentify_api.post.dto.PostAvailabilityResponse;
+import com.rentify.rentify_api.post.dto.PostCursor;
 import com.rentify.rentify_api.post.dto.PostDetailResponse;
 import com.rentify.rentify_api.post.dto.PostFormRequest;
+import com.rentify.rentify_api.post.dto.PostSearchCondition;
+import com.rentify.rentify_api.post.dto.PostSummary;
+import com.rentify.rentify_api.post.dto.PostUpdatedEvent;
 import com.rentify.rentify_api.post.entity.Post;
-import com.rentify.rentify_api.post.entity.PostHistory;
 import com.rentify.rentify_api.post.entity.PostStatus;
 import com.rentify.rentify_api.post.exception.PostNotFoundException;
-import com.rentify.rentify_api.post.repository.PostHistoryRepository;
 import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.post.repository.PostSpecifications;
+import com.rentify.rentify_api.rental.dto.RentalPeriodInfo;
 import com.rentify.rentify_api.rental.entity.Rental;
 import com.rentify.rentify_api.rental.repository.RentalRepository;
+import com.rentify.rentify_api.rental.service.RentalAvailabilityIndex;
+import com.rentify.rentify_api.rental.service.RentalViewProjector;
 import com.rentify.rentify_api.user.entity.User;
 import com.rentify.rentify_api.user.exception.UserNotFoundException;
 import com.rentify.rentify_api.user.repository.UserRepository;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,44 +66,132 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final PostHistoryRepository postHistoryRepository;
+    private final PostHistoryRecorder postHistoryRecorder;
     private final ImageService imageService;
 
-    private static final Set<String> ALLOWED_SORT_FILTERS = Set.of(
-        "createAt", "pricePerDay", "title", "id"
-    );
+    private static final int MAX_AVAILABILITY_DAYS = 180;
+    // 정렬 필드가 아닌 검색 관련도순 (sort=relevance)
+    private static final String RELEVANCE_SORT = "relevance";
     private final RentalRepository rentalRepository;
+    private final RentalViewProjector rentalViewProjector;
+    private final PostSearchIndex postSearchIndex;
+    private final PostCountCache postCountCache;
+    private final PostExistenceFilter postExistenceFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    // 같은 검색 조건/페이지의 동시 요청 합치기
+    private final SingleFlight<SearchKey, PageResponse<PostSummary>> searches = new SingleFlight<>();
 
-    @Transactional(readOnly = true)
-    public Page<PostDetailResponse> getPosts(
+    public PageResponse<PostSummary> getPosts(
         Long categoryId, String statusStr, String keyword, Pageable pageable
     ) {
-        if (categoryId != null) {
-            categoryRepository.findById(categoryId)
-                .orElseThrow(CategoryNotFoundException::new);
+        return getPosts(categoryId, statusStr, keyword, null, null, pageable);
+    }
+
+    public PageResponse<PostSummary> getPosts(
+        Long categoryId, String statusStr, String keyword,
+        LocalDate availableFrom, LocalDate availableTo, Pageable pageable
+    ) {
+        return getPosts(
+            PostSearchCondition.builder()
+                .categoryId(categoryId)
+                .status(statusStr)
+                .keyword(keyword)
+                .availableFrom(availableFrom)
+                .availableTo(availableTo)
+                .build(),
+            pageable
+        );
+    }
+
+    /**
+     * 요청에 들어온 조건만 Specification 으로 조합해 조회합니다.
+     * 사용하지 않는 조건은 SQL 에 나타나지 않으므로 조건 조합마다 맞는 인덱스를 사용할 수 있습니다.
+     * 전체 개수는 같은 조건의 캐시 값(또는 통계 추정값)이 있으면 count 쿼리 없이 사용하고 totalExact=false 로 표시합니다.
+     * <p>
+     * 같은 조건/페이지의 동시 요청은 하나로 합쳐 한 번만 조회합니다. 기다리는 요청이 커넥션을 잡고 있지 않도록
+     * 트랜잭션 없이 합치고, 각 조회는 리포지토리의 읽기 트랜잭션으로 실행됩니다.
+     */
+    public PageResponse<PostSummary> getPosts(PostSearchCondition condition, Pageable pageable) {
+        return searches.execute(new SearchKey(condition, pageable), () -> searchPosts(condition, pageable));
+    }
+
+    private PageResponse<PostSummary> searchPosts(PostSearchCondition condition, Pageable pageable) {
+        validateSort(pageable);
+
+        List<Specification<Post>> specs = toSpecifications(condition);
+        if (specs == null) {
+            return PageResponse.of(Page.empty(pageable), true);
         }
 
-        PostStatus status = null;
+        Pageable page = pageable;
+        if (pageable.getSort().getOrderFor(RELEVANCE_SORT) != null) {
+            String searchKeyword = escapeKeyword(condition.keyword());
+            if (searchKeyword == null) {
+                throw new InvalidValueException("관련도순 정렬은 검색어와 함께 사용해야 합니다.");
+            }
 
-        if (statusStr != null && !statusStr.isBlank()) {
-            try {
-                status = PostStatus.valueOf(statusStr.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new InvalidValueException("유효하지 않은 게시글 상태입니다.");
+            // 정렬은 Specification 에서 지정하므로 페이지 정보만 전달
+            specs.add(PostSpecifications.orderByRelevance(searchKeyword));
+            page = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                : Pageable.unpaged();
+        }
+
+        Specification<Post> spec = Specification.allOf(specs);
+        AtomicBoolean totalExact = new AtomicBoolean(true);
+
+        Page<PostSummary> posts = postRepository.findSummaries(spec, page, () -> {
+            OptionalLong known = postCountCache.find(condition);
+            if (known.isPresent()) {
+                totalExact.set(false);
+                return known.getAsLong();
             }
+
+            long total = postRepository.count(spec);
+            postCountCache.put(condition, total);
+            return total;
+        });
+        return PageResponse.of(posts, totalExact.get());
+    }
+
+    /**
+     * 커서(keyset) 기반 목록 조회. OFFSET 과 count 쿼리 없이 커서 위치 이후의 size 건만 읽습니다.
+     * 정렬은 (sort 필드, postId) 순서이며, 첫 페이지 이후에는 커서에 담긴 정렬 기준을 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<PostSummary> getPosts(PostSearchCondition condition, String cursor, String sort, int size) {
+        PostCursor position = PostCursor.of(cursor, sort);
+
+        List<Specification<Post>> specs = toSpecifications(condition);
+        if (specs == null) {
+            return SliceResponse.of(List.of(), size, position::next);
         }
 
-        validateSort(pageable);
+        if (!position.isFirst()) {
+            specs.add(PostSpecifications.after(position));
+        }
 
-        Page<Post> posts = postRepository.findAllSearch(categoryId, status, keyword, pageable);
-        return posts.map(PostDetailResponse::from);
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<PostSummary> rows = postRepository.findSummaries(
+            Specification.allOf(specs), position.toSort(), size + 1
+        );
+        return SliceResponse.of(rows, size, position::next);
     }
 
-    @Cacheable(value = "posts", key = "#postId")
+    // 캐시 미스가 몰려도 같은 게시글은 한 요청만 DB 에서 읽고 나머지는 그 결과를 받음 (sync)
+    @Cacheable(value = "posts", key = "#postId", sync = true)
     @Transactional(readOnly = true)
     public PostDetailResponse getPost(Long postId) {
+        // 없는 id 로 훑는 요청은 DB 까지 가지 않도록 먼저 거름
+        if (postExistenceFilter.isDefinitelyMissing(postId)) {
+            throw new PostNotFoundException();
+        }
+
         Post post = postRepository.findById(postId)
-            .orElseThrow(PostNotFoundException::new);
+            .orElseThrow(() -> {
+                postExistenceFilter.markMissing(postId);
+                return new PostNotFoundException();
+            });
 
         // 현재 게시글에 적용되어있는 rental 조회
         List<Rental> rentals = rentalRepository
@@ -87,6 +200,48 @@ public class PostService {
         return PostDetailResponse.from(post, rentals);
     }
 
+    @Transactional(readOnly = true)
+    public PostAvailabilityResponse getAvailability(PostAvailabilityRequest request) {
+        LocalDate from = request.from();
+        LocalDate to = request.to();
+
+        if (to.isBefore(from)) {
+            throw new InvalidValueException("조회 종료일은 시작일 이후여야 합니다.");
+        }
+
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_AVAILABILITY_DAYS) {
+            throw new InvalidValueException(
+                String.format("예약 현황은 최대 %d일까지 조회할 수 있습니다.", MAX_AVAILABILITY_DAYS)
+            );
+        }
+
+        Set<Long> postIds = new LinkedHashSet<>(request.postIds());
+        Map<Long, BitSet> bitsets = new HashMap<>();
+        for (Long postId : postIds) {
+            bitsets.put(postId, new BitSet(days));
+        }
+
+        List<RentalPeriodInfo> periods = rentalRepository.findActivePeriodsByPostIds(
+            postIds, from, to, RentalAvailabilityIndex.BLOCKING_STATUSES
+        );
+
+        for (RentalPeriodInfo period : periods) {
+            // 조회 기간 밖으로 걸친 부분은 잘라서 표시
+            int startIndex = (int) Math.max(0, ChronoUnit.DAYS.between(from, period.startDate()));
+            int endIndex = (int) Math.min(days - 1, ChronoUnit.DAYS.between(from, period.endDate()));
+            bitsets.get(period.postId()).set(startIndex, endIndex + 1);
+        }
+
+        Map<Long, String> bitmaps = new LinkedHashMap<>();
+        Base64.Encoder encoder = Base64.getEncoder();
+        for (Long postId : postIds) {
+            bitmaps.put(postId, encoder.encodeToString(bitsets.get(postId).toByteArray()));
+        }
+
+        return new PostAvailabilityResponse(from, to, days, bitmaps);
+    }
+
     @Transactional
     public Long createPost(Long userId, PostFormRequest request) {
         User user = userRepository.findById(userId)
@@ -104,23 +259,22 @@ public class PostService {
             .maxRentalDays(request.getMaxRentalDays())
             .isParcel(request.getIsParcel())
             .isMeetup(request.getIsMeetup())
-            .thumbnailUrl(request.getImageUrls().getFirst())
+            // 목록 카드는 원본 대신 카드 너비 변형을 사용
+            .thumbnailUrl(ImageVariant.CARD.urlOf(request.getImageUrls().getFirst()))
             .build();
 
         Post savedPost = postRepository.save(post);
-        postHistoryRepository.save(
-            PostHistory.builder()
-                .postId(savedPost.getId())
-                .afterValue(savedPost.toJson())
-                .build()
-        );
+        postHistoryRecorder.recordCreated(savedPost);
 
         imageService.saveImages(savedPost, request.getImageUrls());
+        postSearchIndex.indexAfterCommit(savedPost);
+        postExistenceFilter.addAfterCommit(savedPost.getId());
+        postCountCache.evictCategoryAfterCommit(category.getId());
 
         return savedPost.getId();
     }
 
-    @CacheEvict(value = "posts", key = "#postId")
+    // 상세 캐시는 커밋 이후 PostCacheEvictionListener 가 비움 (커밋 전에 비우면 이전 내용이 다시 캐시될 수 있음)
     @Transactional
     public Long updatePost(Long postId, Long userId, PostFormRequest request) {
         Post post = postRepository.findById(postId)
@@ -133,7 +287,8 @@ public class PostService {
         Category category = categoryRepository.findById(request.getCategoryId())
             .orElseThrow(CategoryNotFoundException::new);
 
-        String beforePost = post.toJson();
+        Map<String, Object> beforeSnapshot = post.toSnapshot();
+        Long beforeCategoryId = post.getCategory().getId();
 
         post.update(
             category,
@@ -146,36 +301,130 @@ public class PostService {
             request.getStatus()
         );
 
-        post.getImages().clear();
-        imageService.saveImages(post, request.getImageUrls());
+        // 이미지가 그대로면 이미지 행은 건드리지 않음
+        if (imageService.syncImages(post, request.getImageUrls())) {
+            String newThumbnail = request.getImageUrls().isEmpty()
+                ? null
+                : ImageVariant.CARD.urlOf(request.getImageUrls().getFirst());
+            post.updateThumbnail(newThumbnail);
+        }
+        rentalViewProjector.onPostChanged(post);
+        postSearchIndex.indexAfterCommit(post);
+        postCountCache.evictCategoryAfterCommit(beforeCategoryId, category.getId());
+        postHistoryRecorder.recordUpdated(post, beforeSnapshot, post.toSnapshot());
+        eventPublisher.publishEvent(new PostUpdatedEvent(post.getId()));
 
-        String newThumbnail =
-            request.getImageUrls().isEmpty() ? null : request.getImageUrls().getFirst();
-        post.updateThumbnail(newThumbnail);
+        return post.getId();
+    }
 
-        postHistoryRepository.save(
-            PostHistory.builder()
-                .postId(post.getId())
-                .beforeValue(beforePost)
-                .afterValue(post.toJson())
-                .build()
-        );
+    // 검색 조건을 Specification 목록으로 변환. 검색 색인으로 결과가 없다는 것이 확정되면 null
+    private List<Specification<Post>> toSpecifications(PostSearchCondition condition) {
+        List<Specification<Post>> specs = new ArrayList<>();
 
-        return post.getId();
+        if (condition.categoryId() != null) {
+            categoryRepository.findById(condition.categoryId())
+                .orElseThrow(CategoryNotFoundException::new);
+            specs.add(PostSpecifications.categoryIs(condition.categoryId()));
+        }
+
+        String statusStr = condition.status();
+        if (statusStr != null && !statusStr.isBlank()) {
+            try {
+                specs.add(PostSpecifications.statusIs(PostStatus.valueOf(statusStr.toUpperCase())));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidValueException("유효하지 않은 게시글 상태입니다.");
+            }
+        }
+
+        validatePriceRange(condition.minPrice(), condition.maxPrice());
+
+        if (condition.minPrice() != null) {
+            specs.add(PostSpecifications.pricePerDayAtLeast(condition.minPrice()));
+        }
+        if (condition.maxPrice() != null) {
+            specs.add(PostSpecifications.pricePerDayAtMost(condition.maxPrice()));
+        }
+        if (condition.isParcel() != null) {
+            specs.add(PostSpecifications.parcelAvailable(condition.isParcel()));
+        }
+        if (condition.isMeetup() != null) {
+            specs.add(PostSpecifications.meetupAvailable(condition.isMeetup()));
+        }
+        if (condition.ownerId() != null) {
+            specs.add(PostSpecifications.ownedBy(condition.ownerId()));
+        }
+
+        if (condition.availableFrom() != null || condition.availableTo() != null) {
+            validateAvailablePeriod(condition.availableFrom(), condition.availableTo());
+            specs.add(PostSpecifications.availableBetween(
+                condition.availableFrom(), condition.availableTo(), RentalAvailabilityIndex.BLOCKING_STATUSES
+            ));
+        }
+
+        String searchKeyword = escapeKeyword(condition.keyword());
+        if (searchKeyword != null) {
+            // 메모리 색인으로 후보를 좁힐 수 있으면 후보 id 안에서만 확인
+            Optional<List<Long>> candidates = postSearchIndex.findCandidates(condition.keyword());
+            if (candidates.isPresent()) {
+                if (candidates.get().isEmpty()) {
+                    return null;
+                }
+                specs.add(PostSpecifications.idIn(candidates.get()));
+            }
+            specs.add(PostSpecifications.keywordContains(searchKeyword));
+        }
+
+        return specs;
+    }
+
+    private static void validatePriceRange(Integer minPrice, Integer maxPrice) {
+        if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)) {
+            throw new InvalidValueException("가격은 0 이상이어야 합니다.");
+        }
+
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new InvalidValueException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+    }
+
+    private static void validateAvailablePeriod(LocalDate availableFrom, LocalDate availableTo) {
+        if (availableFrom == null || availableTo == null) {
+            throw new InvalidValueException("대여 가능 기간은 시작일과 종료일을 함께 입력해야 합니다.");
+        }
+
+        if (availableTo.isBefore(availableFrom)) {
+            throw new InvalidValueException("대여 가능 기간의 종료일은 시작일 이후여야 합니다.");
+        }
+    }
+
+    // 빈 검색어는 조건 없음으로 보고, LIKE 와일드카드(%, _)는 문자 그대로 검색되도록 '!' 로 이스케이프
+    private static String escapeKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        return keyword.strip()
+            .replace("!", "!!")
+            .replace("%", "!%")
+            .replace("_", "!_");
     }
 
     private void validateSort(Pageable pageable) {
         if (pageable.getSort().isSorted()) {
             for (Sort.Order order : pageable.getSort()) {
-                if (!ALLOWED_SORT_FILTERS.contains(order.getProperty())) {
+                if (!RELEVANCE_SORT.equals(order.getProperty())
+                    && !PostCursor.SORT_PROPERTIES.contains(order.getProperty())) {
                     throw new InvalidValueException(
                         String.format(
                             "정렬 기준 '%s'은(는) 지원하지 않습니다. (허용 필드: %s)",
-                            order.getProperty(), ALLOWED_SORT_FILTERS
+                            order.getProperty(), PostCursor.SORT_PROPERTIES
                         )
                     );
                 }
             }
         }
     }
+
+    private record SearchKey(PostSearchCondition condition, Pageable pageable) {
+    }
 }
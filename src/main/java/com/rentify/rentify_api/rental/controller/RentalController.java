@@ -3,6 +3,7 @@ package com.rentify.rentify_api.rental.controller;
 import com.rentify.rentify_api.common.response.ApiResponse;
 import com.rentify.rentify_api.rental.dto.RentalRequest;
 import com.rentify.rentify_api.rental.dto.RentalResponse;
+import com.rentify.rentify_api.rental.service.RentalFacade;
 import com.rentify.rentify_api.rental.service.RentalService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/rentals")
 public class RentalController implements RentalApiDocs {
 
+    private final RentalFacade rentalFacade;
     private final RentalService rentalService;
 
     @Override
@@ -24,7 +26,7 @@ public class RentalController implements RentalApiDocs {
         @AuthenticationPrincipal Long userId,
         @Valid @RequestBody RentalRequest request
     ) {
-        RentalResponse response = rentalService.createRental(userId, request);
+        RentalResponse response = rentalFacade.createRental(userId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(HttpStatus.CREATED, response));
     }
 
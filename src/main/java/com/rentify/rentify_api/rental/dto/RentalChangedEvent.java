@@ -0,0 +1,13 @@
+package com.rentify.rentify_api.rental.dto;
+
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+
+/**
+ * 대여가 생성되거나 상태가 바뀌어 게시글의 예약 기간이 달라졌음을 알리는 이벤트입니다.
+ * 게시글 상세 캐시(rentalPeriods 포함) 무효화에 사용합니다.
+ */
+public record RentalChangedEvent(
+    Long postId,
+    Long rentalId,
+    RentalStatus status
+) {}
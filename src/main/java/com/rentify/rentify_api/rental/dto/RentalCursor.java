@@ -0,0 +1,33 @@
+package com.rentify.rentify_api.rental.dto;
+
+import com.rentify.rentify_api.common.exception.InvalidValueException;
+import com.rentify.rentify_api.common.util.CursorUtil;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 내 대여 목록 커서. (createdAt DESC, rentalId DESC) 순서에서 마지막으로 내려준 행의 위치입니다.
+ */
+public record RentalCursor(LocalDateTime createdAt, Long rentalId) {
+
+    // 첫 페이지: 모든 행보다 뒤에 있는 가상의 위치
+    private static final RentalCursor FIRST =
+        new RentalCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static RentalCursor from(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        String[] parts = CursorUtil.decode(cursor, 2);
+        try {
+            return new RentalCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[0]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidValueException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static String encode(RentalResponse last) {
+        return CursorUtil.encode(last.getRentalId(), last.getCreatedAt());
+    }
+}
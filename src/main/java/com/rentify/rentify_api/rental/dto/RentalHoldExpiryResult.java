@@ -0,0 +1,9 @@
+package com.rentify.rentify_api.rental.dto;
+
+import java.util.List;
+
+/**
+ * 결제 대기 만료 처리 결과. stillHeldIds 는 이번에 취소하지 못했지만 아직 결제 대기 중인 대여입니다.
+ */
+public record RentalHoldExpiryResult(List<Long> expiredIds, List<Long> stillHeldIds) {
+}
@@ -0,0 +1,9 @@
+package com.rentify.rentify_api.rental.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대기(REQUESTED) 대여의 만료 타이머 복구용 정보.
+ */
+public record RentalHoldInfo(Long rentalId, LocalDateTime createdAt) {
+}
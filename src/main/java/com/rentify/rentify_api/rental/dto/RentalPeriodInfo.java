@@ -0,0 +1,10 @@
+package com.rentify.rentify_api.rental.dto;
+
+import java.time.LocalDate;
+
+public record RentalPeriodInfo(
+    Long rentalId,
+    Long postId,
+    LocalDate startDate,
+    LocalDate endDate
+) {}
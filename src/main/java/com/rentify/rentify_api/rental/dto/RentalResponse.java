@@ -6,6 +6,7 @@ import com.rentify.rentify_api.post.entity.PostStatus;
 import com.rentify.rentify_api.rental.entity.ReceiveMethod;
 import com.rentify.rentify_api.rental.entity.Rental;
 import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.entity.RentalView;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -64,4 +65,31 @@ public class RentalResponse {
             .updatedAt(rental.getUpdatedAt())
             .build();
     }
+
+    public static RentalResponse from(RentalView view) {
+        boolean canPay = (view.getPaymentStatus() == null || view.getPaymentStatus() == PaymentStatus.FAILED)
+            && (view.getRentalStatus() == RentalStatus.REQUESTED);
+        boolean canCancel = (view.getPaymentStatus() == PaymentStatus.PAID)
+            && (view.getRentalStatus() == RentalStatus.REQUESTED || view.getRentalStatus() == RentalStatus.CONFIRMED);
+
+        return RentalResponse.builder()
+            .rentalId(view.getRentalId())
+            .userId(view.getBorrowerId())
+            .paymentId(view.getPaymentId())
+            .lenderName(view.getLenderName())
+            .postId(view.getPostId())
+            .title(view.getTitle())
+            .startDate(view.getStartDate())
+            .endDate(view.getEndDate())
+            .receiveMethod(view.getReceiveMethod())
+            .postStatus(view.getPostStatus())
+            .rentalStatus(view.getRentalStatus())
+            .thumbnailUrl(view.getThumbnailUrl())
+            .totalPrice(view.getTotalPrice())
+            .canPay(canPay)
+            .canCancel(canCancel)
+            .createdAt(view.getCreatedAt())
+            .updatedAt(view.getUpdatedAt())
+            .build();
+    }
 }
@@ -0,0 +1,11 @@
+package com.rentify.rentify_api.rental.dto;
+
+import java.util.List;
+
+/**
+ * 상태 전이 한 청크의 결과. postIds 는 캐시 무효화 대상 게시글입니다.
+ */
+public record RentalTransitionResult(int moved, List<Long> postIds) {
+
+    public static final RentalTransitionResult EMPTY = new RentalTransitionResult(0, List.of());
+}
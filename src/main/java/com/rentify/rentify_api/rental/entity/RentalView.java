@@ -0,0 +1,173 @@
+package com.rentify.rentify_api.rental.entity;
+
+import com.rentify.rentify_api.payment.entity.Payment;
+import com.rentify.rentify_api.payment.entity.PaymentStatus;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.post.entity.PostStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 내 대여 목록 조회 전용 테이블 (대여 1건당 1행).
+ * Rental, Post, User, Payment 를 조인하지 않고 한 테이블만 읽도록 필요한 값을 복사해 둡니다.
+ * 원본이 바뀌면 {@link com.rentify.rentify_api.rental.service.RentalViewProjector}가 함께 갱신합니다.
+ */
+@Entity
+@Table(
+    name = "rental_views",
+    indexes = {
+        @Index(name = "idx_rental_views_borrower", columnList = "borrower_id, created_at, rental_id"),
+        @Index(name = "idx_rental_views_lender", columnList = "lender_id, created_at, rental_id"),
+        @Index(name = "idx_rental_views_post", columnList = "post_id")
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class RentalView implements Persistable<Long> {
+
+    @Id
+    @Column(name = "rental_id")
+    private Long rentalId;
+
+    @Column(name = "borrower_id", nullable = false)
+    private Long borrowerId;
+
+    @Column(name = "lender_id", nullable = false)
+    private Long lenderId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "lender_name", nullable = false, length = 10)
+    private String lenderName;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "post_status", nullable = false)
+    private PostStatus postStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rental_status", nullable = false)
+    private RentalStatus rentalStatus;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "receive_method", nullable = false)
+    private ReceiveMethod receiveMethod;
+
+    @Column(name = "total_price", nullable = false)
+    private Integer totalPrice;
+
+    // 가장 최근 결제 정보 (결제 전이면 null)
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status")
+    private PaymentStatus paymentStatus;
+
+    @Column(name = "payment_amount")
+    private Integer paymentAmount;
+
+    // 대여 신청 시각 (목록 정렬 기준)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // id를 직접 지정하므로 save() 시 merge(SELECT 후 INSERT) 대신 바로 persist 하도록 신규 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public Long getId() {
+        return rentalId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public static RentalView of(Rental rental, Payment payment) {
+        Post post = rental.getPost();
+
+        RentalView view = RentalView.builder()
+            .rentalId(rental.getId())
+            .borrowerId(rental.getUser().getId())
+            .lenderId(post.getUser().getId())
+            .postId(post.getId())
+            .lenderName(post.getUser().getName())
+            .startDate(rental.getStartDate())
+            .endDate(rental.getEndDate())
+            .receiveMethod(rental.getReceiveMethod())
+            .totalPrice(rental.getTotalPrice())
+            .createdAt(rental.getCreatedAt() != null ? rental.getCreatedAt() : LocalDateTime.now())
+            .build();
+
+        view.applyRental(rental);
+        if (payment != null) {
+            view.applyPayment(payment);
+        }
+        return view;
+    }
+
+    // 대여 상태와 함께 게시글 정보도 다시 복사 (같은 트랜잭션에서 게시글 상태가 바뀌는 경우가 있음)
+    public void applyRental(Rental rental) {
+        Post post = rental.getPost();
+
+        this.rentalStatus = rental.getStatus();
+        this.title = post.getTitle();
+        this.thumbnailUrl = post.getThumbnailUrl();
+        this.postStatus = post.getStatus();
+    }
+
+    // 이전 결제 건의 변경이 늦게 반영되어 최신 결제를 덮어쓰지 않도록 id를 비교
+    public void applyPayment(Payment payment) {
+        if (this.paymentId != null && payment.getId() != null && payment.getId() < this.paymentId) {
+            return;
+        }
+
+        this.paymentId = payment.getId();
+        this.paymentStatus = payment.getStatus();
+        this.paymentAmount = payment.getFinalAmount();
+    }
+}
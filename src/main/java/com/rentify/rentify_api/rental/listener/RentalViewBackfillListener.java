@@ -0,0 +1,114 @@
+package com.rentify.rentify_api.rental.listener;
+
+import com.rentify.rentify_api.payment.entity.Payment;
+import com.rentify.rentify_api.rental.entity.Rental;
+import com.rentify.rentify_api.rental.entity.RentalView;
+import com.rentify.rentify_api.rental.repository.RentalRepository;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기동 시 rental_views 에 빠진 대여를 채워 넣습니다.
+ * 테이블 도입 이전에 생성된 대여를 옮기기 위한 용도이며, 이미 반영된 대여는 건너뜁니다.
+ * <p>
+ * 조회와 INSERT 사이에 같은 대여가 새로 등록되거나(RentalViewProjector), 다른 노드가 동시에 백필해도
+ * 기동이 실패하지 않도록 ON CONFLICT DO NOTHING 으로 이미 있는 행은 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentalViewBackfillListener {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO rental_views (rental_id, borrower_id, lender_id, post_id, lender_name, title, thumbnail_url, "
+            + "post_status, rental_status, start_date, end_date, receive_method, total_price, "
+            + "payment_id, payment_status, payment_amount, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (rental_id) DO NOTHING";
+
+    private final RentalRepository rentalRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${rental.view.backfill-on-startup:true}")
+    private boolean enabled;
+
+    @Value("${rental.view.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        long lastId = 0L;
+        int total = 0;
+
+        while (true) {
+            // 청크마다 트랜잭션을 나눠서 영속성 컨텍스트가 계속 커지지 않도록 함
+            final long from = lastId;
+            List<RentalView> views = transactionTemplate.execute(status -> {
+                List<Object[]> rows = rentalRepository.findWithoutView(from, PageRequest.of(0, chunkSize));
+
+                List<RentalView> chunk = rows.stream()
+                    .map(row -> RentalView.of((Rental) row[0], (Payment) row[1]))
+                    .toList();
+                insertIfAbsent(chunk);
+                return chunk;
+            });
+
+            if (views == null || views.isEmpty()) {
+                break;
+            }
+
+            total += views.size();
+            lastId = views.getLast().getRentalId();
+        }
+
+        if (total > 0) {
+            log.info("rental_views 백필 완료: {}건", total);
+        }
+    }
+
+    private void insertIfAbsent(List<RentalView> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, views, views.size(), (ps, view) -> {
+            ps.setLong(1, view.getRentalId());
+            ps.setLong(2, view.getBorrowerId());
+            ps.setLong(3, view.getLenderId());
+            ps.setLong(4, view.getPostId());
+            ps.setString(5, view.getLenderName());
+            ps.setString(6, view.getTitle());
+            ps.setString(7, view.getThumbnailUrl());
+            ps.setString(8, view.getPostStatus().name());
+            ps.setString(9, view.getRentalStatus().name());
+            ps.setDate(10, Date.valueOf(view.getStartDate()));
+            ps.setDate(11, Date.valueOf(view.getEndDate()));
+            ps.setString(12, view.getReceiveMethod().name());
+            ps.setInt(13, view.getTotalPrice());
+            ps.setObject(14, view.getPaymentId(), Types.BIGINT);
+            ps.setString(15, view.getPaymentStatus() != null ? view.getPaymentStatus().name() : null);
+            ps.setObject(16, view.getPaymentAmount(), Types.INTEGER);
+            ps.setTimestamp(17, Timestamp.valueOf(view.getCreatedAt()));
+            ps.setTimestamp(18, now);
+        });
+    }
+}
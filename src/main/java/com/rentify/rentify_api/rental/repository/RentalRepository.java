@@ -1,23 +1,31 @@
 package com.rentify.rentify_api.rental.repository;
 
+import com.rentify.rentify_api.rental.dto.RentalHoldInfo;
+import com.rentify.rentify_api.rental.dto.RentalPeriodInfo;
 import com.rentify.rentify_api.rental.entity.Rental;
 import com.rentify.rentify_api.rental.entity.RentalStatus;
-import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface RentalRepository extends JpaRepository<Rental, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT r FROM Rental r WHERE r.id = :id")
-    Optional<Rental> findByIdWithPessimisticLock(@Param("id") Long id);
+    // 상태 CAS: 현재 상태가 from 일 때만 to 로 변경하고, 변경된 행 수를 반환
+    @Modifying
+    @Query("UPDATE Rental r SET r.status = :to, r.updatedAt = :now WHERE r.id = :id AND r.status = :from")
+    int compareAndSetStatus(
+        @Param("id") Long id,
+        @Param("from") RentalStatus from,
+        @Param("to") RentalStatus to,
+        @Param("now") LocalDateTime now
+    );
 
     @Query("SELECT r FROM Rental r WHERE r.post.id = :postId " +
            "AND r.status IN :statuses " +
@@ -29,44 +37,173 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
         @Param("statuses") List<RentalStatus> statuses
     );
 
-    // 내가 빌린 대여 목록
-    @Query(
-        value = "SELECT r, p FROM Rental r " +
-                "JOIN FETCH r.post po " +
-                "JOIN FETCH po.user u " +
-                "LEFT JOIN Payment p ON p.rental = r " +
-                "AND p.id = (SELECT MAX(p2.id) FROM Payment p2 WHERE p2.rental = r) " +
-                "WHERE r.user.id = :userId " +
-                "ORDER BY r.createdAt DESC ",
-        countQuery = "SELECT count(r) FROM Rental r WHERE r.user.id = :userId"
-    )
-    Page<Object[]> findByUserId(@Param("userId") Long userId, Pageable pageable);
-
-    // 내가 빌려준 대여 목록
-    @Query(
-        value = "SELECT r, p FROM Rental r " +
-                "JOIN FETCH r.post po " +
-                "JOIN FETCH po.user u " +
-                "LEFT JOIN Payment p ON p.rental = r " +
-                "AND p.id = (SELECT MAX(p2.id) FROM Payment p2 WHERE p2.rental = r) " +
-                "WHERE po.user.id = :userId " +
-                "ORDER BY r.createdAt DESC ",
-        countQuery = "SELECT count(r) FROM Rental r JOIN r.post po WHERE po.user.id = :userId"
-    )
-    Page<Object[]> findByPostOwnerId(@Param("userId") Long userId, Pageable pageable);
-
-    // 나의 모든 대여 목록
-    @Query(
-        value = "SELECT r, p FROM Rental r " +
-                "JOIN FETCH r.post po " +
-                "JOIN FETCH po.user u " +
-                "LEFT JOIN Payment p ON p.rental = r " +
-                "AND p.id = (SELECT MAX(p2.id) FROM Payment p2 WHERE p2.rental = r) " +
-                "WHERE r.user.id = :userId OR po.user.id = :userId " +
-                "ORDER BY r.createdAt DESC ",
-        countQuery = "SELECT count(r) FROM Rental r JOIN r.post po WHERE r.user.id = :userId OR po.user.id = :userId"
-    )
-    Page<Object[]> findByUserIdOrPostOwnerId(@Param("userId") Long userId, Pageable pageable);
+    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM Rental r " +
+           "WHERE r.post.id = :postId " +
+           "AND r.status IN :statuses " +
+           "AND r.startDate <= :endDate AND r.endDate >= :startDate")
+    boolean existsOverlappingRental(
+        @Param("postId") Long postId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("statuses") List<RentalStatus> statuses
+    );
+
+    // 자기 자신을 제외한 기간 겹침 확인 (결제 확정 시 사용)
+    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM Rental r " +
+           "WHERE r.post.id = :postId " +
+           "AND r.id <> :rentalId " +
+           "AND r.status IN :statuses " +
+           "AND r.startDate <= :endDate AND r.endDate >= :startDate")
+    boolean existsOverlappingRentalExcept(
+        @Param("postId") Long postId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("statuses") List<RentalStatus> statuses,
+        @Param("rentalId") Long rentalId
+    );
+
+    /**
+     * 트랜잭션 범위 PostgreSQL advisory lock을 획득합니다. 커밋/롤백 시 자동으로 해제됩니다.
+     * 여러 노드가 같은 게시글을 동시에 예약하는 경우를 직렬화하기 위해 사용합니다.
+     */
+    @Query(value = "SELECT COUNT(*) FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    long acquireAdvisoryXactLock(@Param("key") long key);
+
+    /**
+     * 가용성 인덱스 적재용으로 특정 Post의 활성 대여 기간만 조회합니다.
+     * 엔티티 대신 (rentalId, postId, startDate, endDate)만 가져옵니다.
+     */
+    @Query("SELECT new com.rentify.rentify_api.rental.dto.RentalPeriodInfo(" +
+           "r.id, r.post.id, r.startDate, r.endDate) " +
+           "FROM Rental r " +
+           "WHERE r.post.id = :postId " +
+           "AND r.status IN :statuses " +
+           "AND r.endDate >= :today")
+    List<RentalPeriodInfo> findActivePeriodsByPostId(
+        @Param("postId") Long postId,
+        @Param("today") LocalDate today,
+        @Param("statuses") List<RentalStatus> statuses
+    );
+
+    /**
+     * 여러 게시글의 기간 내 활성 대여 기간을 한 번에 조회합니다 (예약 현황 비트맵용).
+     */
+    @Query("SELECT new com.rentify.rentify_api.rental.dto.RentalPeriodInfo(" +
+           "r.id, r.post.id, r.startDate, r.endDate) " +
+           "FROM Rental r " +
+           "WHERE r.post.id IN :postIds " +
+           "AND r.status IN :statuses " +
+           "AND r.startDate <= :to AND r.endDate >= :from " +
+           "ORDER BY r.post.id")
+    List<RentalPeriodInfo> findActivePeriodsByPostIds(
+        @Param("postIds") Collection<Long> postIds,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        @Param("statuses") List<RentalStatus> statuses
+    );
+
+    /*
+     * 상태 전이 대상 대여를 잠그면서 조회합니다. (PostgreSQL)
+     * SKIP LOCKED 로 다른 노드가 처리 중인 행은 건너뛰므로 여러 노드에서 동시에 실행해도 같은 행을 두 번 옮기지 않습니다.
+     */
+    @Query(value = "SELECT rental_id FROM rentals " +
+                   "WHERE status = :status AND start_date <= :today " +
+                   "ORDER BY start_date, rental_id " +
+                   "LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockIdsStartedBy(
+        @Param("status") String status,
+        @Param("today") LocalDate today,
+        @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT rental_id FROM rentals " +
+                   "WHERE status = :status AND end_date < :today " +
+                   "ORDER BY end_date, rental_id " +
+                   "LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockIdsEndedBefore(
+        @Param("status") String status,
+        @Param("today") LocalDate today,
+        @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query("UPDATE Rental r SET r.status = :to, r.updatedAt = :now WHERE r.id IN :ids AND r.status = :from")
+    int updateStatusByIds(
+        @Param("ids") Collection<Long> ids,
+        @Param("from") RentalStatus from,
+        @Param("to") RentalStatus to,
+        @Param("now") LocalDateTime now
+    );
+
+    @Query("SELECT DISTINCT r.post.id FROM Rental r WHERE r.id IN :ids")
+    List<Long> findPostIdsByIds(@Param("ids") Collection<Long> ids);
+
+    // 아직 옮겨지지 않은 가장 오래된 전이 대상 (지연 지표용)
+    @Query("SELECT MIN(r.startDate) FROM Rental r WHERE r.status = :status AND r.startDate <= :today")
+    Optional<LocalDate> findOldestStartDate(@Param("status") RentalStatus status, @Param("today") LocalDate today);
+
+    @Query("SELECT MIN(r.endDate) FROM Rental r WHERE r.status = :status AND r.endDate < :today")
+    Optional<LocalDate> findOldestEndDate(@Param("status") RentalStatus status, @Param("today") LocalDate today);
+
+    // 결제 대기 대여 목록 (만료 타이머 복구용, id 순 청크 조회)
+    @Query("SELECT new com.rentify.rentify_api.rental.dto.RentalHoldInfo(r.id, r.createdAt) " +
+           "FROM Rental r " +
+           "WHERE r.status = com.rentify.rentify_api.rental.entity.RentalStatus.REQUESTED " +
+           "AND r.id > :lastId " +
+           "ORDER BY r.id ASC")
+    List<RentalHoldInfo> findHoldsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // since 이후에 신청된 결제 대기 대여만 (주기적 복구용, idx_rentals_status_created 로 최근 구간만 읽음)
+    @Query("SELECT new com.rentify.rentify_api.rental.dto.RentalHoldInfo(r.id, r.createdAt) " +
+           "FROM Rental r " +
+           "WHERE r.status = com.rentify.rentify_api.rental.entity.RentalStatus.REQUESTED " +
+           "AND r.createdAt >= :since " +
+           "AND r.id > :lastId " +
+           "ORDER BY r.id ASC")
+    List<RentalHoldInfo> findHoldsCreatedSinceAfter(
+        @Param("since") LocalDateTime since,
+        @Param("lastId") Long lastId,
+        Pageable pageable
+    );
+
+    /*
+     * 만료 처리할 결제 대기 대여를 잠그면서 (rental_id, post_id) 를 조회합니다. (PostgreSQL)
+     * 결제가 진행 중(pendingCutoff 이후에 만든 PENDING 결제)이거나 다른 트랜잭션이 잡고 있는 대여(결제 완료 처리 중)는 제외합니다.
+     * pendingCutoff 이전에 만든 PENDING 결제는 끝나지 않은 결제로 보고 막지 않습니다 (만료 시 실패 처리).
+     */
+    @Query(value = "SELECT r.rental_id, r.post_id FROM rentals r " +
+                   "WHERE r.rental_id IN (:ids) " +
+                   "AND r.status = 'REQUESTED' " +
+                   "AND r.created_at <= :cutoff " +
+                   "AND NOT EXISTS (" +
+                   "SELECT 1 FROM payments p WHERE p.rental_id = r.rental_id AND p.status = 'PENDING' " +
+                   "AND p.created_at > :pendingCutoff) " +
+                   "FOR UPDATE OF r SKIP LOCKED",
+           nativeQuery = true)
+    List<Object[]> lockExpirableHolds(
+        @Param("ids") Collection<Long> ids,
+        @Param("cutoff") LocalDateTime cutoff,
+        @Param("pendingCutoff") LocalDateTime pendingCutoff
+    );
+
+    @Query("SELECT r.id FROM Rental r WHERE r.id IN :ids AND r.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") RentalStatus status);
+
+    /**
+     * rental_views 에 아직 반영되지 않은 대여를 id 순으로 조회합니다 (백필용).
+     * 대여마다 가장 최근 결제 1건을 함께 가져옵니다.
+     */
+    @Query("SELECT r, p FROM Rental r " +
+           "JOIN FETCH r.post po " +
+           "JOIN FETCH po.user u " +
+           "LEFT JOIN Payment p ON p.rental = r " +
+           "AND p.id = (SELECT MAX(p2.id) FROM Payment p2 WHERE p2.rental = r) " +
+           "WHERE r.id > :lastId " +
+           "AND NOT EXISTS (SELECT 1 FROM RentalView v WHERE v.rentalId = r.id) " +
+           "ORDER BY r.id ASC")
+    List<Object[]> findWithoutView(@Param("lastId") Long lastId, Pageable pageable);
 
     /**
      * 특정 Post의 현재 또는 미래 rental 데이터를 조회합니다.
@@ -0,0 +1,121 @@
+package com.rentify.rentify_api.rental.repository;
+
+import com.rentify.rentify_api.payment.entity.PaymentStatus;
+import com.rentify.rentify_api.post.entity.PostStatus;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.entity.RentalView;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RentalViewRepository extends JpaRepository<RentalView, Long> {
+
+    // 내가 빌린 대여 목록
+    @Query("SELECT v FROM RentalView v WHERE v.borrowerId = :userId ORDER BY v.createdAt DESC, v.rentalId DESC")
+    Page<RentalView> findByBorrowerId(@Param("userId") Long userId, Pageable pageable);
+
+    // 내가 빌려준 대여 목록
+    @Query("SELECT v FROM RentalView v WHERE v.lenderId = :userId ORDER BY v.createdAt DESC, v.rentalId DESC")
+    Page<RentalView> findByLenderId(@Param("userId") Long userId, Pageable pageable);
+
+    // 나의 모든 대여 목록
+    @Query(
+        "SELECT v FROM RentalView v WHERE v.borrowerId = :userId OR v.lenderId = :userId " +
+        "ORDER BY v.createdAt DESC, v.rentalId DESC"
+    )
+    Page<RentalView> findByBorrowerIdOrLenderId(@Param("userId") Long userId, Pageable pageable);
+
+    /*
+     * 커서(keyset) 기반 목록 조회. (createdAt, rentalId) 위치 이후의 행만 읽습니다.
+     * 조회 건수는 Pageable 크기로 제한합니다 (다음 페이지 확인용으로 size + 1).
+     */
+    @Query("SELECT v FROM RentalView v WHERE v.borrowerId = :userId " +
+           "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.rentalId < :rentalId)) " +
+           "ORDER BY v.createdAt DESC, v.rentalId DESC")
+    List<RentalView> findByBorrowerIdAfter(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("rentalId") Long rentalId,
+        Pageable pageable
+    );
+
+    @Query("SELECT v FROM RentalView v WHERE v.lenderId = :userId " +
+           "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.rentalId < :rentalId)) " +
+           "ORDER BY v.createdAt DESC, v.rentalId DESC")
+    List<RentalView> findByLenderIdAfter(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("rentalId") Long rentalId,
+        Pageable pageable
+    );
+
+    @Query("SELECT v FROM RentalView v WHERE (v.borrowerId = :userId OR v.lenderId = :userId) " +
+           "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.rentalId < :rentalId)) " +
+           "ORDER BY v.createdAt DESC, v.rentalId DESC")
+    List<RentalView> findByBorrowerIdOrLenderIdAfter(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("rentalId") Long rentalId,
+        Pageable pageable
+    );
+
+    // 게시글 정보 변경 반영
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RentalView v SET v.title = :title, v.thumbnailUrl = :thumbnailUrl, v.postStatus = :postStatus " +
+           "WHERE v.postId = :postId")
+    int updatePostInfo(
+        @Param("postId") Long postId,
+        @Param("title") String title,
+        @Param("thumbnailUrl") String thumbnailUrl,
+        @Param("postStatus") PostStatus postStatus
+    );
+
+    // 결제 확정 반영 (엔티티를 거치지 않고 조건부 UPDATE 로 확정한 경우)
+    @Modifying
+    @Query("UPDATE RentalView v SET v.rentalStatus = :rentalStatus, v.paymentId = :paymentId, " +
+           "v.paymentStatus = :paymentStatus, v.paymentAmount = :paymentAmount, v.updatedAt = :now " +
+           "WHERE v.rentalId = :rentalId")
+    int updatePayment(
+        @Param("rentalId") Long rentalId,
+        @Param("rentalStatus") RentalStatus rentalStatus,
+        @Param("paymentId") Long paymentId,
+        @Param("paymentStatus") PaymentStatus paymentStatus,
+        @Param("paymentAmount") Integer paymentAmount,
+        @Param("now") LocalDateTime now
+    );
+
+    // 빌려준 사람 이름 변경 반영
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RentalView v SET v.lenderName = :lenderName WHERE v.lenderId = :lenderId")
+    int updateLenderName(@Param("lenderId") Long lenderId, @Param("lenderName") String lenderName);
+
+    // 스케줄러 등 일괄 상태 전이 반영
+    @Modifying
+    @Query("UPDATE RentalView v SET v.rentalStatus = :status, v.updatedAt = :now WHERE v.rentalId IN :rentalIds")
+    int updateRentalStatus(
+        @Param("rentalIds") Collection<Long> rentalIds,
+        @Param("status") RentalStatus status,
+        @Param("now") LocalDateTime now
+    );
+
+    // 일괄 결제 상태 변경 반영 (현재 결제 상태가 from 인 행만)
+    @Modifying
+    @Query("UPDATE RentalView v SET v.paymentStatus = :to, v.updatedAt = :now " +
+           "WHERE v.rentalId IN :rentalIds AND v.paymentStatus = :from")
+    int updatePaymentStatus(
+        @Param("rentalIds") Collection<Long> rentalIds,
+        @Param("from") PaymentStatus from,
+        @Param("to") PaymentStatus to,
+        @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("UPDATE RentalView v SET v.postStatus = :status WHERE v.postId IN :postIds")
+    int updatePostStatus(@Param("postIds") Collection<Long> postIds, @Param("status") PostStatus status);
+}
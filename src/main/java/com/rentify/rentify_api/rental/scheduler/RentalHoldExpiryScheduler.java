@@ -0,0 +1,130 @@
+package com.rentify.rentify_api.rental.scheduler;
+
+import com.rentify.rentify_api.rental.dto.RentalHoldExpiryResult;
+import com.rentify.rentify_api.rental.dto.RentalHoldInfo;
+import com.rentify.rentify_api.rental.service.RentalHoldService;
+import com.rentify.rentify_api.rental.service.RentalHoldTimer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 대기 대여의 만료 처리.
+ * - tick: 타이밍 휠에서 만료된 대여만 꺼내 일괄 취소 (rentals 테이블을 훑지 않음)
+ * - resync: 기동 시 DB 의 결제 대기 대여를 모두 휠에 채우고, 이후에는 긴 주기로 직전 복구 이후에 신청된 대여만 채움
+ *   (다른 노드에서 생성된 대여 포함). 직전 복구 시점에 아직 커밋되지 않았던 대여도 읽도록 resync-overlap 만큼 겹쳐 읽음
+ */
+@Slf4j
+@Component
+public class RentalHoldExpiryScheduler {
+
+    private final RentalHoldTimer rentalHoldTimer;
+    private final RentalHoldService rentalHoldService;
+    private final Counter expiredCounter;
+
+    @Value("${rental.hold.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rental.hold.batch-size:500}")
+    private int batchSize;
+
+    @Value("${rental.hold.resync-overlap:5m}")
+    private Duration resyncOverlap;
+
+    // 마지막으로 복구를 시작한 시각 (null 이면 아직 전체 복구 전)
+    private volatile LocalDateTime lastResyncAt;
+
+    public RentalHoldExpiryScheduler(
+        RentalHoldTimer rentalHoldTimer,
+        RentalHoldService rentalHoldService,
+        MeterRegistry meterRegistry
+    ) {
+        this.rentalHoldTimer = rentalHoldTimer;
+        this.rentalHoldService = rentalHoldService;
+
+        this.expiredCounter = Counter.builder("rental.hold.expired")
+            .description("결제 대기 시간 초과로 취소된 대여 수")
+            .register(meterRegistry);
+        Gauge.builder("rental.hold.pending", rentalHoldTimer, RentalHoldTimer::size)
+            .description("만료 타이머에 등록된 결제 대기 대여 수")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        resync();
+    }
+
+    @Scheduled(
+        initialDelayString = "${rental.hold.resync-ms:600000}",
+        fixedDelayString = "${rental.hold.resync-ms:600000}"
+    )
+    public void resync() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastResyncAt == null ? null : lastResyncAt.minus(resyncOverlap);
+        long lastId = 0L;
+        int added = 0;
+
+        while (true) {
+            List<RentalHoldInfo> holds = rentalHoldService.findHolds(since, lastId, batchSize);
+            if (holds.isEmpty()) {
+                break;
+            }
+
+            for (RentalHoldInfo hold : holds) {
+                if (!rentalHoldTimer.isScheduled(hold.rentalId())) {
+                    rentalHoldTimer.schedule(hold.rentalId(), hold.createdAt());
+                    added++;
+                }
+            }
+            lastId = holds.getLast().rentalId();
+        }
+        // 끝까지 읽은 경우에만 다음 복구 구간을 줄임 (실패하면 다음 주기에 같은 구간부터 다시 읽음)
+        lastResyncAt = startedAt;
+
+        if (added > 0) {
+            log.info("결제 대기 만료 타이머 복구: {}건", added);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rental.hold.tick-ms:1000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> expired = rentalHoldTimer.pollExpired();
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime cutoff = rentalHoldTimer.expiryCutoff();
+        LocalDateTime pendingCutoff = rentalHoldTimer.pendingPaymentCutoff();
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Long> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+
+            try {
+                RentalHoldExpiryResult result = rentalHoldService.expire(batch, cutoff, pendingCutoff);
+                rentalHoldTimer.retryLater(result.stillHeldIds());
+                expiredCounter.increment(result.expiredIds().size());
+            } catch (Exception e) {
+                // 실패한 묶음은 잠시 뒤 다시 시도
+                log.error("결제 대기 대여 만료 처리 실패 ({}건)", batch.size(), e);
+                rentalHoldTimer.retryLater(batch);
+            }
+        }
+    }
+}
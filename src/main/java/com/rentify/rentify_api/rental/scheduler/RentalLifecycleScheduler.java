@@ -0,0 +1,143 @@
+package com.rentify.rentify_api.rental.scheduler;
+
+import com.rentify.rentify_api.post.service.PostCountCache;
+import com.rentify.rentify_api.rental.dto.RentalTransitionResult;
+import com.rentify.rentify_api.rental.service.RentalLifecycleService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜가 된 대여를 주기적으로 다음 상태로 옮깁니다.
+ * - 시작일이 된 CONFIRMED -> IN_USE
+ * - 종료일이 지난 IN_USE -> ENDED (남은 대여가 없는 게시글은 AVAILABLE)
+ *
+ * 청크마다 FOR UPDATE SKIP LOCKED 로 행을 나눠 가지므로 여러 노드에서 동시에 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+public class RentalLifecycleScheduler {
+
+    private final RentalLifecycleService rentalLifecycleService;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final PostCountCache postCountCache;
+
+    private final DistributionSummary startedRows;
+    private final DistributionSummary endedRows;
+    private final AtomicLong startLagDays = new AtomicLong();
+    private final AtomicLong endLagDays = new AtomicLong();
+
+    @Value("${rental.lifecycle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rental.lifecycle.chunk-size:500}")
+    private int chunkSize;
+
+    // 한 번 실행에서 처리할 최대 청크 수 (남은 대상은 다음 실행에서 처리)
+    @Value("${rental.lifecycle.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    public RentalLifecycleScheduler(
+        RentalLifecycleService rentalLifecycleService,
+        ObjectProvider<CacheManager> cacheManagerProvider,
+        PostCountCache postCountCache,
+        MeterRegistry meterRegistry
+    ) {
+        this.rentalLifecycleService = rentalLifecycleService;
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.postCountCache = postCountCache;
+
+        this.startedRows = DistributionSummary.builder("rental.lifecycle.moved")
+            .description("실행 1회당 상태가 바뀐 대여 수")
+            .tag("transition", "start")
+            .register(meterRegistry);
+        this.endedRows = DistributionSummary.builder("rental.lifecycle.moved")
+            .description("실행 1회당 상태가 바뀐 대여 수")
+            .tag("transition", "end")
+            .register(meterRegistry);
+
+        Gauge.builder("rental.lifecycle.lag.days", startLagDays, AtomicLong::get)
+            .description("아직 옮기지 못한 가장 오래된 대상의 지연 일수")
+            .tag("transition", "start")
+            .register(meterRegistry);
+        Gauge.builder("rental.lifecycle.lag.days", endLagDays, AtomicLong::get)
+            .description("아직 옮기지 못한 가장 오래된 대상의 지연 일수")
+            .tag("transition", "end")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${rental.lifecycle.initial-delay-ms:30000}",
+        fixedDelayString = "${rental.lifecycle.fixed-delay-ms:300000}"
+    )
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+
+        // 당일 시작 후 바로 종료 대상이 되는 경우도 있으므로 시작 전이를 먼저 처리
+        int started = drain(today, rentalLifecycleService::startDueRentals);
+        int ended = drain(today, rentalLifecycleService::endOverdueRentals);
+
+        startedRows.record(started);
+        endedRows.record(ended);
+        startLagDays.set(rentalLifecycleService.startLagDays(today));
+        endLagDays.set(rentalLifecycleService.endLagDays(today));
+
+        if (started > 0 || ended > 0) {
+            log.info("대여 상태 전이 완료: 대여 시작 {}건, 대여 종료 {}건", started, ended);
+        }
+    }
+
+    private int drain(LocalDate today, BiFunction<LocalDate, Integer, RentalTransitionResult> transition) {
+        int total = 0;
+        Set<Long> postIds = new HashSet<>();
+
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            RentalTransitionResult result = transition.apply(today, chunkSize);
+            total += result.moved();
+            postIds.addAll(result.postIds());
+
+            if (result.postIds().isEmpty() || result.moved() < chunkSize) {
+                break;
+            }
+        }
+
+        evictPosts(postIds);
+        return total;
+    }
+
+    // 게시글 상세 캐시에는 게시글 상태와 대여 기간이 포함되어 있으므로 커밋 이후 무효화
+    private void evictPosts(Set<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        // 게시글 상태가 바뀌었으므로 상태별 목록 개수도 무효화
+        postCountCache.evictAllAfterCommit();
+
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null) {
+            return;
+        }
+
+        Cache cache = cacheManager.getCache("posts");
+        if (cache != null) {
+            postIds.forEach(cache::evict);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.rentify.rentify_api.rental.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rentify.rentify_api.common.cache.CacheInvalidation;
+import com.rentify.rentify_api.common.cache.CacheInvalidationBus;
+import com.rentify.rentify_api.rental.dto.RentalChangedEvent;
+import com.rentify.rentify_api.rental.dto.RentalPeriodInfo;
+import com.rentify.rentify_api.rental.entity.Rental;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.repository.RentalRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글별 대여 가능 여부를 메모리에서 판단하는 인덱스입니다.
+ * <p>
+ * 게시글마다 REQUESTED/CONFIRMED/IN_USE 상태의 대여 기간을 시작일 기준으로 정렬해 보관하며,
+ * 최초 조회 시 DB에서 한 번 적재(lazy load)한 뒤 대여 생성/확정 시점(reserve)과
+ * 차단 상태를 벗어나는 모든 전이(RentalChangedEvent: 취소, 만료, 반납 등) 시점에 갱신합니다.
+ * 갱신은 트랜잭션 커밋 이후에만 반영되므로 롤백된 대여가 인덱스에 남지 않습니다.
+ * 종료일이 지난 기간(IN_USE -> ENDED)은 조회 시 날짜 기준으로 정리됩니다.
+ * <p>
+ * 인덱스는 노드마다 따로 있습니다. 노드 간 무효화 채널(CacheInvalidationBus, dev 프로필의 Redis pub/sub)이 있으면
+ * 갱신한 게시글을 다른 노드에 알려 해당 게시글을 다시 적재하게 합니다. 이 알림은 유실될 수 있으므로
+ * 채널이 있으면 인덱스는 확정 판단이 아니라 빠른 거절용 사전 확인으로만 쓰고({@link #isAuthoritative()}),
+ * 신청 가능 여부는 DB 중복 조회가 최종 판단합니다 (RentalService). 놓친 알림이 계속 남지 않도록
+ * 달력은 적재 후 calendar-ttl 이 지나면 버리고 다음 조회 때 다시 적재합니다.
+ */
+@Slf4j
+@Component
+public class RentalAvailabilityIndex {
+
+    public static final List<RentalStatus> BLOCKING_STATUSES = List.of(
+        RentalStatus.REQUESTED,
+        RentalStatus.CONFIRMED,
+        RentalStatus.IN_USE
+    );
+
+    static final String INVALIDATION_NAME = "rental-availability";
+
+    private final RentalRepository rentalRepository;
+    private final CacheInvalidationBus invalidationBus;
+    // 자기가 보낸 무효화 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<Long, PostCalendar> calendars;
+
+    public RentalAvailabilityIndex(
+        RentalRepository rentalRepository,
+        ObjectProvider<CacheInvalidationBus> invalidationBusProvider,
+        @Value("${rental.availability.calendar-ttl:5m}") Duration calendarTtl,
+        @Value("${rental.availability.max-calendars:100000}") long maxCalendars
+    ) {
+        this.rentalRepository = rentalRepository;
+        this.invalidationBus = invalidationBusProvider.getIfAvailable();
+        // 달력 안의 reserve/release 갱신은 쓰기로 치지 않으므로 적재 시점부터 calendar-ttl 뒤에 만료됨
+        this.calendars = Caffeine.newBuilder()
+            .maximumSize(maxCalendars)
+            .expireAfterWrite(calendarTtl)
+            .<Long, PostCalendar>build()
+            .asMap();
+
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(this::onInvalidation);
+        }
+    }
+
+    public boolean isAvailable(Long postId, LocalDate startDate, LocalDate endDate) {
+        return calendarOf(postId).isFree(startDate, endDate, LocalDate.now());
+    }
+
+    /**
+     * 이 노드의 인덱스만으로 신청 가능 여부를 확정할 수 있으면 true (단일 노드).
+     * 노드 간 채널이 있으면 다른 노드의 최근 예약을 아직 모를 수 있으므로 false 이며,
+     * 이때 {@link #isAvailable} 의 결과는 불가 판정만 믿고 가능 판정은 DB 로 다시 확인해야 합니다.
+     */
+    public boolean isAuthoritative() {
+        return invalidationBus == null;
+    }
+
+    /**
+     * 대여 기간을 인덱스에 등록합니다. 같은 대여를 여러 번 등록해도 결과는 같습니다.
+     */
+    public void reserve(Rental rental) {
+        Long postId = rental.getPost().getId();
+        Long rentalId = rental.getId();
+        LocalDate startDate = rental.getStartDate();
+        LocalDate endDate = rental.getEndDate();
+
+        runAfterCommit(() -> {
+            PostCalendar calendar = calendars.get(postId);
+            if (calendar != null) {
+                calendar.put(rentalId, startDate, endDate);
+            }
+            broadcast(postId);
+        });
+    }
+
+    public void release(Rental rental) {
+        release(rental.getPost().getId(), rental.getId());
+    }
+
+    public void release(Long postId, Long rentalId) {
+        runAfterCommit(() -> releaseNow(postId, rentalId));
+    }
+
+    public void invalidate(Long postId) {
+        calendars.remove(postId);
+    }
+
+    /**
+     * 차단 상태(REQUESTED/CONFIRMED/IN_USE)를 벗어난 대여는 커밋 후 인덱스에서 뺍니다.
+     * 상태를 바꾸는 쪽은 RentalChangedEvent 만 발행하면 되므로, 새 전이가 생겨도 해제가 빠지지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        // 이미 커밋 이후이므로 바로 반영 (afterCommit 중에 등록한 동기화는 호출되지 않음)
+        if (!BLOCKING_STATUSES.contains(event.status())) {
+            releaseNow(event.postId(), event.rentalId());
+        }
+    }
+
+    private void releaseNow(Long postId, Long rentalId) {
+        PostCalendar calendar = calendars.get(postId);
+        if (calendar != null) {
+            calendar.remove(rentalId);
+        }
+        broadcast(postId);
+    }
+
+    /*
+     * 적재(DB 조회)는 맵의 잠금 밖에서 합니다. 먼저 빈 달력을 넣어 같은 게시글의 다른 요청은 적재 완료를 기다리게 하고,
+     * 적재 중에 커밋된 reserve/release 는 달력에 바로 반영합니다. 조회 결과를 채울 때 적재 중 해제된 대여는 건너뛰므로
+     * 조회 시점과 커밋 순서가 엇갈려도 해제된 대여가 되살아나지 않습니다.
+     */
+    private PostCalendar calendarOf(Long postId) {
+        PostCalendar calendar = calendars.get(postId);
+        if (calendar == null) {
+            PostCalendar created = new PostCalendar();
+            calendar = calendars.putIfAbsent(postId, created);
+            if (calendar == null) {
+                load(postId, created);
+                return created;
+            }
+        }
+
+        calendar.awaitLoaded();
+        return calendar;
+    }
+
+    private void load(Long postId, PostCalendar calendar) {
+        try {
+            List<RentalPeriodInfo> periods = rentalRepository.findActivePeriodsByPostId(
+                postId, LocalDate.now(), BLOCKING_STATUSES
+            );
+            calendar.fill(periods);
+            log.debug("가용성 인덱스 적재 - postId: {}, periods: {}", postId, periods.size());
+        } catch (RuntimeException e) {
+            // 실패한 달력은 빼서 다음 요청이 다시 적재하도록 함
+            calendars.remove(postId, calendar);
+            calendar.fail(e);
+            throw e;
+        }
+    }
+
+    private void broadcast(Long postId) {
+        if (invalidationBus != null) {
+            invalidationBus.publish(CacheInvalidation.evict(nodeId, INVALIDATION_NAME, String.valueOf(postId)));
+        }
+    }
+
+    // 다른 노드에서 바뀐 게시글은 다음 조회 때 DB 에서 다시 적재
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (!INVALIDATION_NAME.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+
+        if (invalidation.isClear()) {
+            calendars.clear();
+        } else {
+            calendars.remove(Long.valueOf(invalidation.key()));
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 한 게시글의 활성 대여 기간 목록. 시작일 → 대여 ID 집합으로 정렬해 두고,
+     * 조회 구간의 종료일 이전에 시작하는 기간만 훑어 겹침을 확인합니다.
+     */
+    static final class PostCalendar {
+
+        private final TreeMap<LocalDate, Set<Long>> rentalIdsByStart = new TreeMap<>();
+        private final Map<Long, LocalDate[]> periods = new HashMap<>();
+        private final CompletableFuture<Void> loaded = new CompletableFuture<>();
+        // 적재 중에 해제된 대여 (조회 결과에 남아 있어도 채우지 않음)
+        private Set<Long> releasedWhileLoading = new HashSet<>();
+
+        synchronized void fill(List<RentalPeriodInfo> loadedPeriods) {
+            for (RentalPeriodInfo period : loadedPeriods) {
+                if (!releasedWhileLoading.contains(period.rentalId())) {
+                    put(period.rentalId(), period.startDate(), period.endDate());
+                }
+            }
+            releasedWhileLoading = null;
+            loaded.complete(null);
+        }
+
+        void fail(RuntimeException cause) {
+            loaded.completeExceptionally(cause);
+        }
+
+        void awaitLoaded() {
+            try {
+                loaded.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        synchronized void put(Long rentalId, LocalDate startDate, LocalDate endDate) {
+            unlink(rentalId);
+            periods.put(rentalId, new LocalDate[]{startDate, endDate});
+            rentalIdsByStart.computeIfAbsent(startDate, d -> new HashSet<>()).add(rentalId);
+        }
+
+        synchronized void remove(Long rentalId) {
+            if (releasedWhileLoading != null) {
+                releasedWhileLoading.add(rentalId);
+            }
+            unlink(rentalId);
+        }
+
+        private void unlink(Long rentalId) {
+            LocalDate[] period = periods.remove(rentalId);
+            if (period == null) {
+                return;
+            }
+
+            Set<Long> ids = rentalIdsByStart.get(period[0]);
+            ids.remove(rentalId);
+            if (ids.isEmpty()) {
+                rentalIdsByStart.remove(period[0]);
+            }
+        }
+
+        synchronized boolean isFree(LocalDate startDate, LocalDate endDate, LocalDate today) {
+            Iterator<Set<Long>> it = rentalIdsByStart.headMap(endDate, true).values().iterator();
+
+            while (it.hasNext()) {
+                Set<Long> ids = it.next();
+                Iterator<Long> idIt = ids.iterator();
+
+                while (idIt.hasNext()) {
+                    Long rentalId = idIt.next();
+                    LocalDate periodEnd = periods.get(rentalId)[1];
+
+                    // 이미 끝난 기간은 더 이상 대여를 막지 않으므로 정리
+                    if (periodEnd.isBefore(today)) {
+                        idIt.remove();
+                        periods.remove(rentalId);
+                        continue;
+                    }
+                    if (!periodEnd.isBefore(startDate)) {
+                        return false;
+                    }
+                }
+
+                if (ids.isEmpty()) {
+                    it.remove();
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.rentify.rentify_api.rental.service;
+
+import com.rentify.rentify_api.common.exception.DuplicateException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 ID 기준 스트라이프 락.
+ * <p>
+ * 같은 게시글에 대한 예약은 한 줄로 세우고, 서로 다른 게시글은 (해시 충돌이 없는 한) 병렬로 처리합니다.
+ * 전역 락 없이 고정 크기 락 배열만 사용하므로 게시글 수와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Component
+public class RentalBookingLock {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMillis;
+
+    public RentalBookingLock(
+        @Value("${rental.booking.lock-stripes:64}") int stripeCount,
+        @Value("${rental.booking.lock-timeout-ms:3000}") long timeoutMillis
+    ) {
+        int size = Integer.highestOneBit(Math.max(stripeCount - 1, 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public <T> T executeWithLock(Long postId, Supplier<T> action) {
+        ReentrantLock lock = stripeOf(postId);
+        boolean acquired;
+
+        try {
+            acquired = lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DuplicateException("대여 요청 처리가 중단되었습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (!acquired) {
+            throw new DuplicateException("다른 대여 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeOf(Long postId) {
+        int h = Long.hashCode(postId);
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+}
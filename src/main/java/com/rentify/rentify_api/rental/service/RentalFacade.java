@@ -0,0 +1,25 @@
+package com.rentify.rentify_api.rental.service;
+
+import com.rentify.rentify_api.rental.dto.RentalRequest;
+import com.rentify.rentify_api.rental.dto.RentalResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RentalFacade {
+
+    private final RentalService rentalService;
+    private final RentalBookingLock rentalBookingLock;
+
+    /**
+     * 락은 트랜잭션 바깥에서 잡고 커밋 이후에 풀어야 다음 요청이 방금 저장된 대여를 볼 수 있습니다.
+     * 그래서 트랜잭션 메서드(RentalService#createRental)를 락으로 감싸는 형태로 호출합니다.
+     */
+    public RentalResponse createRental(Long userId, RentalRequest request) {
+        return rentalBookingLock.executeWithLock(
+            request.getPostId(),
+            () -> rentalService.createRental(userId, request)
+        );
+    }
+}
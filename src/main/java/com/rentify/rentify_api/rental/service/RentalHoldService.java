@@ -0,0 +1,101 @@
+package com.rentify.rentify_api.rental.service;
+
+import com.rentify.rentify_api.payment.entity.PaymentEvent;
+import com.rentify.rentify_api.payment.entity.PaymentEventType;
+import com.rentify.rentify_api.payment.entity.PaymentFailReason;
+import com.rentify.rentify_api.payment.repository.PaymentEventRepository;
+import com.rentify.rentify_api.payment.repository.PaymentRepository;
+import com.rentify.rentify_api.rental.dto.RentalChangedEvent;
+import com.rentify.rentify_api.rental.dto.RentalHoldExpiryResult;
+import com.rentify.rentify_api.rental.dto.RentalHoldInfo;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.repository.RentalRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class RentalHoldService {
+
+    private final RentalRepository rentalRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentEventRepository paymentEventRepository;
+    private final RentalViewProjector rentalViewProjector;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 만료된 결제 대기 대여를 한 번에 취소합니다.
+     * 결제가 진행 중이거나 결제 완료 처리 중(행 잠금)인 대여는 건너뜁니다.
+     * pendingCutoff 이전에 시작한 결제가 아직 PENDING 이면 끝나지 않은 결제로 보고 실패 처리한 뒤 함께 만료합니다.
+     */
+    @Transactional
+    public RentalHoldExpiryResult expire(List<Long> rentalIds, LocalDateTime cutoff, LocalDateTime pendingCutoff) {
+        List<Object[]> rows = rentalRepository.lockExpirableHolds(rentalIds, cutoff, pendingCutoff);
+
+        List<Long> expiredIds = new ArrayList<>(rows.size());
+        List<RentalChangedEvent> events = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long rentalId = ((Number) row[0]).longValue();
+            Long postId = ((Number) row[1]).longValue();
+
+            expiredIds.add(rentalId);
+            // 커밋 직후 이벤트로 가용성 인덱스에서 빠지므로 해당 기간은 바로 다시 신청할 수 있음
+            events.add(new RentalChangedEvent(postId, rentalId, RentalStatus.CANCELED));
+        }
+
+        if (!expiredIds.isEmpty()) {
+            failStalePayments(expiredIds);
+            rentalRepository.updateStatusByIds(
+                expiredIds, RentalStatus.REQUESTED, RentalStatus.CANCELED, LocalDateTime.now()
+            );
+            rentalViewProjector.onRentalStatusChanged(expiredIds, RentalStatus.CANCELED);
+            events.forEach(eventPublisher::publishEvent);
+        }
+
+        Set<Long> remaining = new HashSet<>(rentalIds);
+        expiredIds.forEach(remaining::remove);
+        List<Long> stillHeldIds = remaining.isEmpty()
+            ? List.of()
+            : rentalRepository.findIdsByIdInAndStatus(remaining, RentalStatus.REQUESTED);
+
+        return new RentalHoldExpiryResult(expiredIds, stillHeldIds);
+    }
+
+    // 대여 행을 잠근 상태이므로 늦게 도착한 결제 승인은 대여 상태 변경(CAS)에서 실패함
+    private void failStalePayments(List<Long> expiredIds) {
+        List<Long> paymentIds = paymentRepository.findPendingIdsByRentalIds(expiredIds);
+        if (paymentIds.isEmpty()) {
+            return;
+        }
+
+        paymentRepository.markAsFailedIfPending(paymentIds, PaymentFailReason.PAYMENT_TIMEOUT, LocalDateTime.now());
+        paymentEventRepository.saveAll(paymentIds.stream()
+            .map(paymentId -> PaymentEvent.builder()
+                .payment(paymentRepository.getReferenceById(paymentId))
+                .eventType(PaymentEventType.PAYMENT_FAILED)
+                .payload(PaymentFailReason.PAYMENT_TIMEOUT.name())
+                .build())
+            .toList());
+        rentalViewProjector.onPendingPaymentsFailed(expiredIds);
+    }
+
+    /**
+     * 결제 대기 대여를 id 순으로 limit 건씩 조회합니다.
+     * since 가 있으면 그 이후에 신청된 대여만 읽습니다 (null 이면 전체).
+     */
+    @Transactional(readOnly = true)
+    public List<RentalHoldInfo> findHolds(LocalDateTime since, Long lastId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return since == null
+            ? rentalRepository.findHoldsAfter(lastId, page)
+            : rentalRepository.findHoldsCreatedSinceAfter(since, lastId, page);
+    }
+}
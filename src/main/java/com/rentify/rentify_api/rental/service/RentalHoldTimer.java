@@ -0,0 +1,95 @@
+package com.rentify.rentify_api.rental.service;
+
+import com.rentify.rentify_api.common.util.TimingWheel;
+import com.rentify.rentify_api.rental.entity.Rental;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 결제 대기(REQUESTED) 대여의 만료 시각을 메모리 타이밍 휠로 관리합니다.
+ * 만료된 대여는 {@link RentalHoldService}가 일괄 취소하며, 휠은 기동 시 DB 에서 다시 채웁니다.
+ */
+@Component
+public class RentalHoldTimer {
+
+    private final TimingWheel<Long> wheel;
+    private final Duration holdTimeout;
+    private final Duration pendingPaymentTimeout;
+    private final Duration retryDelay;
+
+    public RentalHoldTimer(
+        @Value("${rental.hold.timeout-minutes:30}") long timeoutMinutes,
+        @Value("${rental.hold.pending-payment-timeout-minutes:30}") long pendingPaymentTimeoutMinutes,
+        @Value("${rental.hold.retry-delay-ms:60000}") long retryDelayMillis,
+        @Value("${rental.hold.tick-ms:1000}") long tickMillis,
+        @Value("${rental.hold.wheel-size:512}") int wheelSize
+    ) {
+        this.holdTimeout = Duration.ofMinutes(timeoutMinutes);
+        this.pendingPaymentTimeout = Duration.ofMinutes(pendingPaymentTimeoutMinutes);
+        this.retryDelay = Duration.ofMillis(retryDelayMillis);
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 신청 트랜잭션이 커밋된 뒤에 등록합니다. 롤백된 대여는 타이머에 남지 않습니다.
+     */
+    public void schedule(Rental rental) {
+        Long rentalId = rental.getId();
+        LocalDateTime createdAt = rental.getCreatedAt() != null ? rental.getCreatedAt() : LocalDateTime.now();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(rentalId, createdAt);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(rentalId, createdAt);
+            }
+        });
+    }
+
+    public void schedule(Long rentalId, LocalDateTime createdAt) {
+        wheel.schedule(rentalId, toMillis(createdAt.plus(holdTimeout)));
+    }
+
+    // 결제 진행 중 등으로 이번에 만료하지 못한 대여는 잠시 뒤 다시 확인
+    public void retryLater(Collection<Long> rentalIds) {
+        long deadline = System.currentTimeMillis() + retryDelay.toMillis();
+        rentalIds.forEach(rentalId -> wheel.schedule(rentalId, deadline));
+    }
+
+    public boolean isScheduled(Long rentalId) {
+        return wheel.contains(rentalId);
+    }
+
+    public List<Long> pollExpired() {
+        return wheel.advance(System.currentTimeMillis());
+    }
+
+    public int size() {
+        return wheel.size();
+    }
+
+    // 이 시각 이전에 신청된 대여만 만료 대상 (DB 쪽 재확인용)
+    public LocalDateTime expiryCutoff() {
+        return LocalDateTime.now().minus(holdTimeout);
+    }
+
+    // 이 시각 이전에 시작해 아직 PENDING 인 결제는 끝나지 않은 결제로 보고 만료를 막지 않음
+    public LocalDateTime pendingPaymentCutoff() {
+        return LocalDateTime.now().minus(pendingPaymentTimeout);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,84 @@
+package com.rentify.rentify_api.rental.service;
+
+import com.rentify.rentify_api.post.entity.PostStatus;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.rental.dto.RentalTransitionResult;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.repository.RentalRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 날짜에 따른 대여 상태 전이를 청크 단위로 처리합니다.
+ * 한 번의 호출이 한 트랜잭션이며, 잠근 행만 옮기고 커밋하므로 긴 트랜잭션이나 대량 잠금이 생기지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RentalLifecycleService {
+
+    private static final List<RentalStatus> ACTIVE_STATUSES =
+        List.of(RentalStatus.CONFIRMED, RentalStatus.IN_USE);
+
+    private final RentalRepository rentalRepository;
+    private final PostRepository postRepository;
+    private final RentalViewProjector rentalViewProjector;
+
+    // 시작일이 된 확정 대여: CONFIRMED -> IN_USE
+    @Transactional
+    public RentalTransitionResult startDueRentals(LocalDate today, int limit) {
+        List<Long> rentalIds = rentalRepository.lockIdsStartedBy(RentalStatus.CONFIRMED.name(), today, limit);
+        if (rentalIds.isEmpty()) {
+            return RentalTransitionResult.EMPTY;
+        }
+
+        int moved = rentalRepository.updateStatusByIds(
+            rentalIds, RentalStatus.CONFIRMED, RentalStatus.IN_USE, LocalDateTime.now()
+        );
+        rentalViewProjector.onRentalStatusChanged(rentalIds, RentalStatus.IN_USE);
+
+        return new RentalTransitionResult(moved, rentalRepository.findPostIdsByIds(rentalIds));
+    }
+
+    // 종료일이 지난 대여: IN_USE -> ENDED, 남은 대여가 없는 게시글은 다시 대여 가능으로
+    @Transactional
+    public RentalTransitionResult endOverdueRentals(LocalDate today, int limit) {
+        List<Long> rentalIds = rentalRepository.lockIdsEndedBefore(RentalStatus.IN_USE.name(), today, limit);
+        if (rentalIds.isEmpty()) {
+            return RentalTransitionResult.EMPTY;
+        }
+
+        int moved = rentalRepository.updateStatusByIds(
+            rentalIds, RentalStatus.IN_USE, RentalStatus.ENDED, LocalDateTime.now()
+        );
+        rentalViewProjector.onRentalStatusChanged(rentalIds, RentalStatus.ENDED);
+
+        List<Long> postIds = rentalRepository.findPostIdsByIds(rentalIds);
+        List<Long> releasablePostIds = postRepository.findReleasableIds(postIds, ACTIVE_STATUSES);
+        if (!releasablePostIds.isEmpty()) {
+            postRepository.updateStatusByIds(releasablePostIds, PostStatus.AVAILABLE, LocalDateTime.now());
+            rentalViewProjector.onPostStatusChanged(releasablePostIds, PostStatus.AVAILABLE);
+        }
+
+        return new RentalTransitionResult(moved, postIds);
+    }
+
+    // 아직 옮기지 못한 가장 오래된 대상이 오늘보다 며칠 뒤처져 있는지 (0 이면 밀린 대상 없음)
+    @Transactional(readOnly = true)
+    public long startLagDays(LocalDate today) {
+        return rentalRepository.findOldestStartDate(RentalStatus.CONFIRMED, today)
+            .map(oldest -> ChronoUnit.DAYS.between(oldest, today))
+            .orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public long endLagDays(LocalDate today) {
+        return rentalRepository.findOldestEndDate(RentalStatus.IN_USE, today)
+            .map(oldest -> ChronoUnit.DAYS.between(oldest, today))
+            .orElse(0L);
+    }
+}
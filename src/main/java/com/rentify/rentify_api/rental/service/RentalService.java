@@ -1,18 +1,22 @@
 package com.rentify.rentify_api.rental.service;
 
 import com.rentify.rentify_api.common.exception.NotFoundException;
-import com.rentify.rentify_api.payment.entity.Payment;
+import com.rentify.rentify_api.common.response.SliceResponse;
 import com.rentify.rentify_api.post.entity.Post;
 import com.rentify.rentify_api.post.entity.PostStatus;
 import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.rental.dto.RentalChangedEvent;
+import com.rentify.rentify_api.rental.dto.RentalCursor;
 import com.rentify.rentify_api.rental.dto.RentalRequest;
 import com.rentify.rentify_api.rental.dto.RentalResponse;
 import com.rentify.rentify_api.rental.entity.ReceiveMethod;
 import com.rentify.rentify_api.rental.entity.Rental;
 import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.entity.RentalView;
 import com.rentify.rentify_api.rental.exception.RentalNotAvailableException;
 import com.rentify.rentify_api.rental.exception.RentalNotFoundException;
 import com.rentify.rentify_api.rental.repository.RentalRepository;
+import com.rentify.rentify_api.rental.repository.RentalViewRepository;
 import com.rentify.rentify_api.user.entity.User;
 import com.rentify.rentify_api.user.exception.UserNotFoundException;
 import com.rentify.rentify_api.user.repository.UserRepository;
@@ -20,7 +24,10 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,9 +40,24 @@ public class RentalService {
     private final RentalRepository rentalRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
-
+    private final RentalAvailabilityIndex rentalAvailabilityIndex;
+    private final RentalViewRepository rentalViewRepository;
+    private final RentalViewProjector rentalViewProjector;
+    private final RentalHoldTimer rentalHoldTimer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 다중 노드 배포 시 true: DB advisory lock + DB 기준 중복 체크 (노드별 인덱스는 서로의 예약을 모름).
+    // 노드 간 무효화 채널이 있으면 인덱스가 확정 판단이 아니므로 이 값과 무관하게 DB 로 확인함
+    @Value("${rental.booking.distributed-lock:false}")
+    private boolean distributedLock;
+
+    /**
+     * 동시 요청 직렬화는 {@link RentalFacade}의 게시글 단위 락이 담당합니다.
+     * 락 없이 호출하면 같은 기간에 대한 중복 신청을 막을 수 없으므로 패키지 밖에는 공개하지 않습니다.
+     * (클래스 기반 프록시라 package-private 메서드에도 트랜잭션이 적용됨)
+     */
     @Transactional
-    public RentalResponse createRental(Long userId, RentalRequest request) {
+    RentalResponse createRental(Long userId, RentalRequest request) {
         // 사용자 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
@@ -70,14 +92,20 @@ public class RentalService {
             .build();
 
         Rental savedRental = rentalRepository.save(rental);
+        rentalAvailabilityIndex.reserve(savedRental);
+        rentalViewProjector.onRentalCreated(savedRental);
+        rentalHoldTimer.schedule(savedRental);
+        eventPublisher.publishEvent(
+            new RentalChangedEvent(post.getId(), savedRental.getId(), savedRental.getStatus())
+        );
 
-        // 대여 신청 단계에서는 게시글 상태 변경하지 않음 (결제 확정 시 변경)
+        // 예약은 기간 단위로 관리하므로 게시글 상태는 변경하지 않음
         return convertToResponse(savedRental);
     }
 
     private static void validateRentalRequest(RentalRequest request, Post post) {
-        // 게시글 상태 확인
-        if (post.getStatus() != PostStatus.AVAILABLE) {
+        // 게시글 상태 확인 (RESERVED 는 이전 방식으로 예약 표시된 게시글이며, 기간이 겹치지 않으면 신청 가능)
+        if (post.getStatus() != PostStatus.AVAILABLE && post.getStatus() != PostStatus.RESERVED) {
             throw new RentalNotAvailableException("현재 대여할 수 없는 게시글입니다.");
         }
 
@@ -110,18 +138,19 @@ public class RentalService {
     }
 
     private void checkRentalAvailability(Long postId, LocalDate startDate, LocalDate endDate) {
-        List<RentalStatus> activeStatuses = List.of(
-            RentalStatus.REQUESTED,
-            RentalStatus.CONFIRMED,
-            RentalStatus.IN_USE
-        );
+        // 인덱스가 불가라고 하면 DB 를 보지 않고 바로 거절
+        if (!rentalAvailabilityIndex.isAvailable(postId, startDate, endDate)) {
+            throw new RentalNotAvailableException("해당 기간에 이미 대여가 진행 중이거나 예정되어 있습니다.");
+        }
 
-        List<Rental> overlappingRentals = rentalRepository.findOverlappingRentals(
-            postId, startDate, endDate, activeStatuses
-        );
+        // 여러 노드: 인덱스의 가능 판정은 다른 노드의 예약을 놓쳤을 수 있으므로 DB 가 최종 판단
+        if (distributedLock || !rentalAvailabilityIndex.isAuthoritative()) {
+            rentalRepository.acquireAdvisoryXactLock(postId);
 
-        if (!overlappingRentals.isEmpty()) {
-            throw new RentalNotAvailableException("해당 기간에 이미 대여가 진행 중이거나 예정되어 있습니다.");
+            if (rentalRepository.existsOverlappingRental(
+                postId, startDate, endDate, RentalAvailabilityIndex.BLOCKING_STATUSES)) {
+                throw new RentalNotAvailableException("해당 기간에 이미 대여가 진행 중이거나 예정되어 있습니다.");
+            }
         }
     }
 
@@ -162,12 +191,12 @@ public class RentalService {
         }
 
         // 대여 취소
+        // 가용성 인덱스는 RentalChangedEvent(CANCELED) 커밋 후 해제
         rental.cancel();
-
-        // 게시글이 RESERVED 상태였다면 AVAILABLE로 변경
-        if (rental.getPost().getStatus() == PostStatus.RESERVED) {
-            rental.getPost().updateStatus(PostStatus.AVAILABLE);
-        }
+        rentalViewProjector.onRentalChanged(rental);
+        eventPublisher.publishEvent(
+            new RentalChangedEvent(rental.getPost().getId(), rental.getId(), rental.getStatus())
+        );
 
         return convertToResponse(rental);
     }
@@ -175,30 +204,56 @@ public class RentalService {
     // 내가 빌리는 대여 목록
     @Transactional(readOnly = true)
     public Page<RentalResponse> getMyBorrowedRentals(Long userId, Pageable pageable) {
-        Page<Object[]> page = rentalRepository.findByUserId(userId, pageable);
-        return mapToRentalResponsePage(page);
+        return rentalViewRepository.findByBorrowerId(userId, pageable).map(RentalResponse::from);
     }
 
     // 내가 빌려준 대여 목록
     @Transactional(readOnly = true)
     public Page<RentalResponse> getMyLentRentals(Long userId, Pageable pageable) {
-        Page<Object[]> page = rentalRepository.findByPostOwnerId(userId, pageable);
-        return mapToRentalResponsePage(page);
+        return rentalViewRepository.findByLenderId(userId, pageable).map(RentalResponse::from);
     }
 
     // 나의 모든 대여 목록
     @Transactional(readOnly = true)
     public Page<RentalResponse> getMyAllRentals(Long userId, Pageable pageable) {
-        Page<Object[]> page = rentalRepository.findByUserIdOrPostOwnerId(userId, pageable);
-        return mapToRentalResponsePage(page);
+        return rentalViewRepository.findByBorrowerIdOrLenderId(userId, pageable).map(RentalResponse::from);
+    }
+
+    // 커서 기반 목록: 내가 빌리는 대여
+    @Transactional(readOnly = true)
+    public SliceResponse<RentalResponse> getMyBorrowedRentals(Long userId, String cursor, int size) {
+        RentalCursor position = RentalCursor.from(cursor);
+        List<RentalView> rows = rentalViewRepository.findByBorrowerIdAfter(
+            userId, position.createdAt(), position.rentalId(), PageRequest.of(0, size + 1)
+        );
+        return mapToRentalResponseSlice(rows, size);
+    }
+
+    // 커서 기반 목록: 내가 빌려준 대여
+    @Transactional(readOnly = true)
+    public SliceResponse<RentalResponse> getMyLentRentals(Long userId, String cursor, int size) {
+        RentalCursor position = RentalCursor.from(cursor);
+        List<RentalView> rows = rentalViewRepository.findByLenderIdAfter(
+            userId, position.createdAt(), position.rentalId(), PageRequest.of(0, size + 1)
+        );
+        return mapToRentalResponseSlice(rows, size);
+    }
+
+    // 커서 기반 목록: 나의 모든 대여
+    @Transactional(readOnly = true)
+    public SliceResponse<RentalResponse> getMyAllRentals(Long userId, String cursor, int size) {
+        RentalCursor position = RentalCursor.from(cursor);
+        List<RentalView> rows = rentalViewRepository.findByBorrowerIdOrLenderIdAfter(
+            userId, position.createdAt(), position.rentalId(), PageRequest.of(0, size + 1)
+        );
+        return mapToRentalResponseSlice(rows, size);
     }
 
-    private Page<RentalResponse> mapToRentalResponsePage(Page<Object[]> results) {
-        return results.map(row -> {
-            Rental rental = (Rental) row[0];
-            Payment payment = (Payment) row[1];
+    private SliceResponse<RentalResponse> mapToRentalResponseSlice(List<RentalView> rows, int size) {
+        List<RentalResponse> responses = rows.stream()
+            .map(RentalResponse::from)
+            .toList();
 
-            return RentalResponse.of(rental, payment);
-        });
+        return SliceResponse.of(responses, size, RentalCursor::encode);
     }
 }
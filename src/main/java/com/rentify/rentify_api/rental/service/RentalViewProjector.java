@@ -0,0 +1,82 @@
+package com.rentify.rentify_api.rental.service;
+
+import com.rentify.rentify_api.payment.entity.Payment;
+import com.rentify.rentify_api.payment.entity.PaymentStatus;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.post.entity.PostStatus;
+import com.rentify.rentify_api.rental.entity.Rental;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.entity.RentalView;
+import com.rentify.rentify_api.rental.repository.RentalViewRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rental / Payment / Post / User 상태 변경을 rental_views 에 반영합니다.
+ * 원본을 바꾸는 서비스의 트랜잭션 안에서 호출되므로 원본과 조회 테이블이 함께 커밋/롤백됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RentalViewProjector {
+
+    private final RentalViewRepository rentalViewRepository;
+
+    public void onRentalCreated(Rental rental) {
+        rentalViewRepository.save(RentalView.of(rental, null));
+    }
+
+    public void onRentalChanged(Rental rental) {
+        rentalViewRepository.findById(rental.getId())
+            .ifPresentOrElse(
+                view -> view.applyRental(rental),
+                () -> rentalViewRepository.save(RentalView.of(rental, null))
+            );
+    }
+
+    public void onPaymentChanged(Payment payment) {
+        Rental rental = payment.getRental();
+
+        rentalViewRepository.findById(rental.getId())
+            .ifPresentOrElse(
+                view -> {
+                    view.applyRental(rental);
+                    view.applyPayment(payment);
+                },
+                () -> rentalViewRepository.save(RentalView.of(rental, payment))
+            );
+    }
+
+    public void onPaymentConfirmed(Payment payment) {
+        rentalViewRepository.updatePayment(
+            payment.getRental().getId(), RentalStatus.CONFIRMED,
+            payment.getId(), PaymentStatus.PAID, payment.getFinalAmount(), LocalDateTime.now()
+        );
+    }
+
+    public void onPostChanged(Post post) {
+        rentalViewRepository.updatePostInfo(
+            post.getId(), post.getTitle(), post.getThumbnailUrl(), post.getStatus()
+        );
+    }
+
+    public void onUserRenamed(Long userId, String name) {
+        rentalViewRepository.updateLenderName(userId, name);
+    }
+
+    public void onRentalStatusChanged(Collection<Long> rentalIds, RentalStatus status) {
+        rentalViewRepository.updateRentalStatus(rentalIds, status, LocalDateTime.now());
+    }
+
+    // 끝나지 않은 결제를 일괄 실패 처리한 경우
+    public void onPendingPaymentsFailed(Collection<Long> rentalIds) {
+        rentalViewRepository.updatePaymentStatus(
+            rentalIds, PaymentStatus.PENDING, PaymentStatus.FAILED, LocalDateTime.now()
+        );
+    }
+
+    public void onPostStatusChanged(Collection<Long> postIds, PostStatus status) {
+        rentalViewRepository.updatePostStatus(postIds, status);
+    }
+}
@@ -1,6 +1,7 @@
 package com.rentify.rentify_api.user.controller;
 
-import com.rentify.rentify_api.post.dto.PostDetailResponse;
+import com.rentify.rentify_api.common.response.SliceResponse;
+import com.rentify.rentify_api.post.dto.PostSummary;
 import com.rentify.rentify_api.rental.dto.RentalResponse;
 import com.rentify.rentify_api.user.dto.CreateUserRequest;
 import com.rentify.rentify_api.user.dto.GoogleLoginRequest;
@@ -274,23 +275,17 @@ public interface UserApiDocs {
                            "data": {
                              "content": [
                                {
-                                 "categoryName": "아이폰",
-                                 "createAt": "2026-02-01T15:11:24.081793",
-                                 "description": "아이폰 17pro 대여합니다.",
-                                 "imageUrls": [
-                                   "http://unirental.duckdns.org/images/ca7470ce-7133-485d-b0f7-33e5f71724c9.jpg",
-                                   "http://unirental.duckdns.org/images/c4ef577c-daaa-4da7-8f7a-963bfc605439.png"
-                                 ],
-                                 "isMeetup": false,
-                                 "isParcel": true,
-                                 "maxRentalDays": 30,
                                  "postId": 2,
+                                 "userId": 1,
+                                 "userName": "서성민",
+                                 "categoryName": "아이폰",
+                                 "title": "아이폰 대여",
+                                 "thumbnailUrl": "http://unirental.duckdns.org/images/ca7470ce-7133-485d-b0f7-33e5f71724c9.jpg",
                                  "pricePerDay": 10000,
+                                 "isParcel": true,
+                                 "isMeetup": false,
                                  "status": "AVAILABLE",
-                                 "title": "아이폰 대여",
-                                 "updateAt": "2026-02-04T13:05:27.997911",
-                                 "userId": 1,
-                                 "userName": "서성민"
+                                 "createAt": "2026-02-01T15:11:24.081793"
                                }
                              ],
                              "page": {
@@ -338,7 +333,7 @@ public interface UserApiDocs {
         )
     })
     @GetMapping("/me/posts")
-    ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<Page<PostDetailResponse>>> getMyPosts(
+    ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<Page<PostSummary>>> getMyPosts(
         @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
         @Parameter(
             name = "includeHidden",
@@ -464,6 +459,80 @@ public interface UserApiDocs {
         @ParameterObject Pageable pageable
     );
 
+    @Operation(
+        summary = "내 대여 목록 조회 (커서)",
+        description = "커서 기반으로 내 대여 목록을 최신순으로 조회합니다. 전체 개수를 세지 않으므로 무한 스크롤에 사용합니다.<br/>"
+            + "첫 페이지는 <code>cursor=</code>(빈 값)로 요청하고, 이후에는 응답의 <code>nextCursor</code>를 그대로 전달합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "success": true,
+                          "code": "200",
+                          "message": "요청이 성공적으로 처리되었습니다.",
+                          "data": {
+                            "content": [
+                              {
+                                "canCancel": false,
+                                "canPay": true,
+                                "createdAt": "2026-03-26T10:07:22.185514",
+                                "endDate": "2026-04-01",
+                                "lenderName": "서성민굴",
+                                "paymentId": 22,
+                                "postId": 11,
+                                "postStatus": "AVAILABLE",
+                                "receiveMethod": "MEETUP",
+                                "rentalId": 58,
+                                "rentalStatus": "REQUESTED",
+                                "startDate": "2026-03-31",
+                                "thumbnailUrl": "http://unirental.duckdns.org/images/8b8c4085-dbbf-49a4-9f40-2d89127cd237.jpg",
+                                "title": "갤럭시 울트라 s25 테스트2",
+                                "totalPrice": 60000,
+                                "updatedAt": "2026-03-26T10:07:22.185543",
+                                "userId": 13
+                              }
+                            ],
+                            "size": 1,
+                            "hasNext": true,
+                            "nextCursor": "NTh8MjAyNi0wMy0yNlQxMDowNzoyMi4xODU1MTQ"
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "유효하지 않은 커서",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = "{\"success\": false, \"code\": \"400\", \"message\": \"유효하지 않은 커서입니다.\", \"data\": null}"
+                )
+            )
+        )
+    })
+    @GetMapping(value = "/me/rentals", params = "cursor")
+    ResponseEntity<com.rentify.rentify_api.common.response.ApiResponse<SliceResponse<RentalResponse>>> getMyRentalsByCursor(
+        @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+        @Parameter(
+            name = "role",
+            description = "조회 역할 필터 (예: LENDER(빌려준 내역), BORROWER(빌린 내역))",
+            example = "BORROWER"
+        )
+        @RequestParam(required = false) String role,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)", example = "")
+        @RequestParam String cursor,
+        @Parameter(description = "한 번에 조회할 개수 (최대 100)", example = "20")
+        @RequestParam(defaultValue = "20") int size
+    );
+
     @Operation(summary = "패스워드 변경", description = "사용자의 패스워드를 변경합니다.")
     @ApiResponses(value = {
         @ApiResponse(
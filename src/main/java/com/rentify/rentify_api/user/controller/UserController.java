@@ -2,8 +2,9 @@ package com.rentify.rentify_api.user.controller;
 
 import com.rentify.rentify_api.common.idempotency.Idempotent;
 import com.rentify.rentify_api.common.response.ApiResponse;
+import com.rentify.rentify_api.common.response.SliceResponse;
 import com.rentify.rentify_api.common.util.CookieUtil;
-import com.rentify.rentify_api.post.dto.PostDetailResponse;
+import com.rentify.rentify_api.post.dto.PostSummary;
 import com.rentify.rentify_api.rental.dto.RentalResponse;
 import com.rentify.rentify_api.user.dto.CreateUserRequest;
 import com.rentify.rentify_api.user.dto.GoogleLoginRequest;
@@ -43,6 +44,7 @@ public class UserController implements UserApiDocs {
 
     private static final int ACCESS_TOKEN_MAX_AGE = 30 * 60;
     private static final int REFRESH_TOKEN_MAX_AGE = 14 * 24 * 60 * 60;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     @Override
     @PostMapping
@@ -109,12 +111,12 @@ public class UserController implements UserApiDocs {
 
     @Override
     @GetMapping("/me/posts")
-    public ResponseEntity<ApiResponse<Page<PostDetailResponse>>> getMyPosts(
+    public ResponseEntity<ApiResponse<Page<PostSummary>>> getMyPosts(
         @AuthenticationPrincipal Long userId,
         @RequestParam(defaultValue = "false") boolean includeHidden,
         @ParameterObject @PageableDefault(sort = "createAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        Page<PostDetailResponse> posts = userService.getMyPosts(userId, includeHidden, pageable);
+        Page<PostSummary> posts = userService.getMyPosts(userId, includeHidden, pageable);
         return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, posts));
     }
 
@@ -129,6 +131,19 @@ public class UserController implements UserApiDocs {
         return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, rentals));
     }
 
+    @Override
+    @GetMapping(value = "/me/rentals", params = "cursor")
+    public ResponseEntity<ApiResponse<SliceResponse<RentalResponse>>> getMyRentalsByCursor(
+        @AuthenticationPrincipal Long userId,
+        @RequestParam(required = false) String role,
+        @RequestParam String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        SliceResponse<RentalResponse> rentals = userService.getMyRentals(userId, role, cursor, pageSize);
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, rentals));
+    }
+
     @Override
     @PatchMapping("/me/password")
     public ResponseEntity<ApiResponse<Void>> changePassword(
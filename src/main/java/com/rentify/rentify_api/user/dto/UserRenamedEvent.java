@@ -0,0 +1,9 @@
+package com.rentify.rentify_api.user.dto;
+
+/**
+ * 사용자 이름이 바뀌었음을 알리는 이벤트입니다.
+ * 작성자 이름(userName)이 포함된 게시글 상세 캐시 무효화에 사용합니다.
+ */
+public record UserRenamedEvent(
+    Long userId
+) {}
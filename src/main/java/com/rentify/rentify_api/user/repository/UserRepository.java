@@ -3,10 +3,24 @@ package com.rentify.rentify_api.user.repository;
 import com.rentify.rentify_api.user.entity.User;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    /*
+     * 잔액이 충분할 때만 포인트를 차감합니다. VERSIONED 로 point_version 도 함께 올려서
+     * 엔티티로 포인트를 변경하는 다른 경로(적립, 환불)와의 충돌은 기존처럼 낙관적 락으로 감지됩니다.
+     */
+    @Modifying
+    @Query("UPDATE VERSIONED User u SET u.point = u.point - :amount WHERE u.id = :id AND u.point >= :amount")
+    int deductPointIfEnough(@Param("id") Long id, @Param("amount") int amount);
+
+    @Query("SELECT u.point FROM User u WHERE u.id = :id")
+    Integer findPointById(@Param("id") Long id);
 }
@@ -10,14 +10,16 @@ import com.rentify.rentify_api.common.exception.InvalidPasswordException;
 import com.rentify.rentify_api.common.exception.InvalidValueException;
 import com.rentify.rentify_api.common.exception.NotFoundException;
 import com.rentify.rentify_api.common.jwt.JwtTokenProvider;
-import com.rentify.rentify_api.post.dto.PostDetailResponse;
-import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.common.response.SliceResponse;
+import com.rentify.rentify_api.post.dto.PostSummary;
 import com.rentify.rentify_api.post.repository.PostRepository;
 import com.rentify.rentify_api.rental.dto.RentalResponse;
 import com.rentify.rentify_api.rental.service.RentalService;
+import com.rentify.rentify_api.rental.service.RentalViewProjector;
 import com.rentify.rentify_api.user.dto.CreateUserRequest;
 import com.rentify.rentify_api.user.dto.LoginRequest;
 import com.rentify.rentify_api.user.dto.PasswordUpdateRequest;
+import com.rentify.rentify_api.user.dto.UserRenamedEvent;
 import com.rentify.rentify_api.user.dto.UserUpdateRequest;
 import com.rentify.rentify_api.user.entity.LoginResponse;
 import com.rentify.rentify_api.user.entity.RefreshToken;
@@ -34,6 +36,7 @@ import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -51,6 +54,8 @@ public class UserService {
     private final RefreshTokenRepository refreshtokenRepository;
     private final PostRepository postRepository;
     private final RentalService rentalService;
+    private final RentalViewProjector rentalViewProjector;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
@@ -193,9 +198,8 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public Page<PostDetailResponse> getMyPosts(Long userId, boolean includeHidden, Pageable pageable) {
-        Page<Post> posts = postRepository.findByUserIdWithHiddenOption(userId, includeHidden, pageable);
-        return posts.map(PostDetailResponse::from);
+    public Page<PostSummary> getMyPosts(Long userId, boolean includeHidden, Pageable pageable) {
+        return postRepository.findSummariesByUserId(userId, includeHidden, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -212,6 +216,19 @@ public class UserService {
         };
     }
 
+    @Transactional(readOnly = true)
+    public SliceResponse<RentalResponse> getMyRentals(Long userId, String role, String cursor, int size) {
+        if (role == null) {
+            return rentalService.getMyAllRentals(userId, cursor, size);
+        }
+
+        return switch (role.toLowerCase()) {
+            case "borrower" -> rentalService.getMyBorrowedRentals(userId, cursor, size);
+            case "lender" -> rentalService.getMyLentRentals(userId, cursor, size);
+            default -> throw new IllegalArgumentException("Invalid role parameter. Use 'borrower' or 'lender'");
+        };
+    }
+
     @Transactional
     public void changePassword(Long userId, PasswordUpdateRequest request) {
         User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
@@ -244,6 +261,8 @@ public class UserService {
 
         if (request.getName() != null) {
             user.updateName(request.getName());
+            rentalViewProjector.onUserRenamed(userId, request.getName());
+            eventPublisher.publishEvent(new UserRenamedEvent(userId));
         }
 
         if (request.getAddress() != null) {
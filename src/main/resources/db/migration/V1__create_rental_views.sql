@@ -0,0 +1,25 @@
+-- 내 대여 목록 조회 전용 테이블 (RentalView). 기존 대여는 기동 시 RentalViewBackfillListener 가 채움
+CREATE TABLE IF NOT EXISTS rental_views (
+    rental_id      BIGINT       NOT NULL PRIMARY KEY,
+    borrower_id    BIGINT       NOT NULL,
+    lender_id      BIGINT       NOT NULL,
+    post_id        BIGINT       NOT NULL,
+    lender_name    VARCHAR(10)  NOT NULL,
+    title          VARCHAR(255) NOT NULL,
+    thumbnail_url  VARCHAR(255),
+    post_status    VARCHAR(255) NOT NULL,
+    rental_status  VARCHAR(255) NOT NULL,
+    start_date     DATE         NOT NULL,
+    end_date       DATE         NOT NULL,
+    receive_method VARCHAR(255) NOT NULL,
+    total_price    INTEGER      NOT NULL,
+    payment_id     BIGINT,
+    payment_status VARCHAR(255),
+    payment_amount INTEGER,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_rental_views_borrower ON rental_views (borrower_id, created_at, rental_id);
+CREATE INDEX IF NOT EXISTS idx_rental_views_lender ON rental_views (lender_id, created_at, rental_id);
+CREATE INDEX IF NOT EXISTS idx_rental_views_post ON rental_views (post_id);
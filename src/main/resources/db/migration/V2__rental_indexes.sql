@@ -0,0 +1,10 @@
+-- flyway:executeInTransaction=false
+-- 운영 중인 rentals 의 쓰기를 막지 않도록 CONCURRENTLY 로 만들고 지움 (트랜잭션 밖에서만 실행 가능)
+-- 중간에 실패하면 INVALID 인덱스가 남을 수 있으므로 DROP INDEX CONCURRENTLY 후 다시 실행
+
+-- 내 대여 목록은 rental_views(idx_rental_views_borrower/lender)에서 읽으므로 rentals 의 목록용 인덱스는 쓰기 비용만 늘림
+DROP INDEX CONCURRENTLY IF EXISTS idx_rentals_user_created;
+-- 기간 겹침 확인 / 가용성 인덱스 적재
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rentals_post_status_period ON rentals (post_id, status, start_date, end_date);
+-- 결제 대기 만료 대상 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rentals_status_created ON rentals (status, created_at);
@@ -0,0 +1,2 @@
+-- 결제 실패 사유에 PAYMENT_TIMEOUT 추가. Hibernate 가 enum 값으로 만든 CHECK 제약은 새 값을 막으므로 제거
+ALTER TABLE payments DROP CONSTRAINT IF EXISTS payments_fail_reason_check;
@@ -0,0 +1,5 @@
+-- 게시글 목록 검색 조건 조합별 인덱스 (PostSpecifications 참고). 엔티티의 @Index 는 validate 모드에서 만들어지지 않음
+CREATE INDEX IF NOT EXISTS idx_posts_status_created ON posts (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_posts_category_status_created ON posts (category_id, status, created_at);
+CREATE INDEX IF NOT EXISTS idx_posts_status_price ON posts (status, price_per_day);
+CREATE INDEX IF NOT EXISTS idx_posts_user_created ON posts (user_id, created_at);
@@ -0,0 +1,63 @@
+-- 게시글 낙관적 잠금 버전 (동시 수정 시 나중 커밋이 실패해 이력 delta 의 기준 상태가 어긋나지 않도록 함)
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- post_history: 전체 스냅샷(before_value/after_value) -> 직전 상태와의 차이(delta, JSON Merge Patch) + 게시글 버전
+ALTER TABLE post_history ADD COLUMN IF NOT EXISTS delta TEXT;
+ALTER TABLE post_history ADD COLUMN IF NOT EXISTS post_version BIGINT;
+
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'post_history' AND column_name = 'after_value'
+    ) THEN
+        -- PostHistoryDelta.diff 와 같은 규칙: 값이 바뀐 필드는 새 값, 사라진(null 이 된) 필드는 null
+        UPDATE post_history h
+        SET delta = (
+            COALESCE((
+                SELECT jsonb_object_agg(a.key, a.value)
+                FROM jsonb_each(h.after_value::jsonb) a
+                WHERE COALESCE(h.before_value::jsonb -> a.key, 'null'::jsonb) IS DISTINCT FROM a.value
+            ), '{}'::jsonb)
+            || COALESCE((
+                SELECT jsonb_object_agg(b.key, 'null'::jsonb)
+                FROM jsonb_each(h.before_value::jsonb) b
+                WHERE b.value <> 'null'::jsonb AND NOT (h.after_value::jsonb ? b.key)
+            ), '{}'::jsonb)
+        )::text
+        WHERE h.delta IS NULL;
+
+        ALTER TABLE post_history DROP COLUMN before_value;
+        ALTER TABLE post_history DROP COLUMN after_value;
+    END IF;
+END $$;
+
+-- 기존 이력은 저장 순서대로 0 부터 번호를 매기고, 게시글 버전은 마지막 이력 번호에서 이어지도록 맞춤
+UPDATE post_history h
+SET post_version = numbered.post_version
+FROM (
+    SELECT post_history_id,
+           ROW_NUMBER() OVER (PARTITION BY post_id ORDER BY created_at, post_history_id) - 1 AS post_version
+    FROM post_history
+) numbered
+WHERE h.post_history_id = numbered.post_history_id
+  AND h.post_version IS NULL;
+
+UPDATE posts p
+SET version = latest.post_version
+FROM (
+    SELECT post_id, MAX(post_version) AS post_version
+    FROM post_history
+    GROUP BY post_id
+) latest
+WHERE p.post_id = latest.post_id
+  AND p.version < latest.post_version;
+
+UPDATE post_history SET created_at = NOW() WHERE created_at IS NULL;
+
+ALTER TABLE post_history ALTER COLUMN delta SET NOT NULL;
+ALTER TABLE post_history ALTER COLUMN post_version SET NOT NULL;
+ALTER TABLE post_history ALTER COLUMN created_at SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_post_history_post_created;
+CREATE INDEX IF NOT EXISTS idx_post_history_post_version ON post_history (post_id, post_version, post_history_id);
@@ -0,0 +1,20 @@
+-- 미리 만든 고정 너비 변형 URL (ImageVariant). 변형 파일이 아직 없으면 원본으로 응답됨 (ImageVariantResourceResolver)
+ALTER TABLE post_images ADD COLUMN IF NOT EXISTS thumbnail_url VARCHAR(255);
+ALTER TABLE post_images ADD COLUMN IF NOT EXISTS card_url VARCHAR(255);
+ALTER TABLE post_images ADD COLUMN IF NOT EXISTS full_url VARCHAR(255);
+
+-- ImageVariant.urlOf 와 같은 규칙: content-addressed 원본({hash}{ext})만 {hash}_{suffix}{ext}, 이전 방식(UUID 이름)은 원본 URL 그대로
+UPDATE post_images
+SET thumbnail_url = regexp_replace(image_url, '/([0-9a-f]{64})(\.[a-z]+)$', '/\1_thumb\2'),
+    card_url      = regexp_replace(image_url, '/([0-9a-f]{64})(\.[a-z]+)$', '/\1_card\2'),
+    full_url      = regexp_replace(image_url, '/([0-9a-f]{64})(\.[a-z]+)$', '/\1_full\2')
+WHERE thumbnail_url IS NULL;
+
+-- 게시글 대표 이미지와 대여 목록의 썸네일은 원본 대신 CARD 변형 (PostService 와 같은 규칙)
+UPDATE posts
+SET thumbnail_url = regexp_replace(thumbnail_url, '/([0-9a-f]{64})(\.[a-z]+)$', '/\1_card\2')
+WHERE thumbnail_url ~ '/[0-9a-f]{64}\.[a-z]+$';
+
+UPDATE rental_views
+SET thumbnail_url = regexp_replace(thumbnail_url, '/([0-9a-f]{64})(\.[a-z]+)$', '/\1_card\2')
+WHERE thumbnail_url ~ '/[0-9a-f]{64}\.[a-z]+$';
@@ -0,0 +1,10 @@
+-- 같은 게시글에서 확정(CONFIRMED, IN_USE)된 대여 기간이 겹치지 않도록 DB 가 보장 (기간은 시작일/종료일 포함)
+-- 결제 확정의 상태 변경(REQUESTED -> CONFIRMED)이 겹치는 기간의 행과 충돌할 때만 대기/실패하므로
+-- 겹치지 않는 기간의 결제 확정은 게시글 단위로 직렬화되지 않음
+-- 적용 전에 겹치는 확정 대여가 이미 있으면 실패하므로 먼저 정리해야 함
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE rentals
+    ADD CONSTRAINT ex_rentals_confirmed_period
+    EXCLUDE USING gist (post_id WITH =, daterange(start_date, end_date, '[]') WITH &&)
+    WHERE (status IN ('CONFIRMED', 'IN_USE'));
@@ -0,0 +1,8 @@
+-- flyway:executeInTransaction=false
+-- 게시글 검색용 pg_trgm GIN 인덱스. ILIKE '%검색어%' 는 B-tree 인덱스를 쓸 수 없어 트라이그램 인덱스로 후보 행만 읽음
+-- 운영 중인 posts 의 쓰기를 막지 않도록 CONCURRENTLY 로 생성 (트랜잭션 밖에서만 실행 가능)
+-- 중간에 실패하면 INVALID 인덱스가 남을 수 있으므로 DROP INDEX CONCURRENTLY 후 다시 실행
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_title_trgm ON posts USING gin (title gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_description_trgm ON posts USING gin (description gin_trgm_ops);
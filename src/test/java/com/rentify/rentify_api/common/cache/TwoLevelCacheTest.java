@@ -0,0 +1,204 @@
+package com.rentify.rentify_api.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class TwoLevelCacheTest {
+
+    // 두 노드가 공유하는 L2(Redis 대신)와 무효화 채널(pub/sub 대신)
+    private ConcurrentMapCacheManager remote;
+    private InMemoryInvalidationBus bus;
+
+    private SimpleMeterRegistry meterRegistryA;
+    private Cache nodeA;
+    private Cache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCacheManager("posts");
+        bus = new InMemoryInvalidationBus();
+
+        TwoLevelCacheSettings settings = new TwoLevelCacheSettings(
+            100, Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ZERO
+        );
+
+        meterRegistryA = new SimpleMeterRegistry();
+        nodeA = new TwoLevelCacheManager(remote, bus, null, settings, meterRegistryA).getCache("posts");
+        nodeB = new TwoLevelCacheManager(remote, bus, null, settings, new SimpleMeterRegistry()).getCache("posts");
+    }
+
+    @Test
+    @DisplayName("L2 에서 읽은 값은 L1 에 채워져 다음 조회부터 L2 를 거치지 않는다")
+    void read_through_fills_local_cache() {
+        // given
+        remote.getCache("posts").put(1L, "게시글");
+
+        // when
+        nodeA.get(1L);
+        remote.getCache("posts").evict(1L);
+        Cache.ValueWrapper second = nodeA.get(1L);
+
+        // then
+        assertThat(second).isNotNull();
+        assertThat(second.get()).isEqualTo("게시글");
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 무효화하면 다른 노드의 L1 도 비워진다")
+    void evict_is_broadcast_to_other_nodes() {
+        // given
+        nodeA.put(1L, "수정 전");
+        assertThat(nodeB.get(1L).get()).isEqualTo("수정 전");
+
+        // when
+        nodeA.evict(1L);
+        remote.getCache("posts").put(1L, "수정 후");
+
+        // then
+        assertThat(nodeB.get(1L).get()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("sync 조회는 L1, L2 모두 없을 때만 loader 를 호출한다")
+    void loader_is_called_only_on_full_miss() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String first = nodeA.get(1L, () -> "로드 " + calls.incrementAndGet());
+        String second = nodeA.get(1L, () -> "로드 " + calls.incrementAndGet());
+        String fromOtherNode = nodeB.get(1L, () -> "로드 " + calls.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("로드 1");
+        assertThat(second).isEqualTo("로드 1");
+        assertThat(fromOtherNode).isEqualTo("로드 1");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 중이던 노드가 잠금을 풀면 기다리던 노드가 잠금을 잡고 직접 적재한다")
+    void waiter_takes_over_when_holder_releases_without_value() {
+        // given: 다른 노드가 잠금을 쥐고 있다가 값 없이(적재 실패) 풀어 줌
+        HandOffLoadLock loadLock = new HandOffLoadLock();
+        TwoLevelCacheSettings settings = new TwoLevelCacheSettings(
+            100, Duration.ofMinutes(1), Duration.ofSeconds(30), Duration.ZERO
+        );
+        Cache cache = new TwoLevelCacheManager(remote, bus, loadLock, settings, new SimpleMeterRegistry())
+            .getCache("posts");
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String value = cache.get(1L, () -> {
+            calls.incrementAndGet();
+            // 대기 시간이 끝나 잠금 없이 적재한 것이 아니라, 잠금을 잡고 적재했는지 확인
+            assertThat(loadLock.held).isTrue();
+            return "로드";
+        });
+
+        // then
+        assertThat(value).isEqualTo("로드");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(loadLock.attempts.get()).isGreaterThanOrEqualTo(2);
+        assertThat(loadLock.held).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재하는 동안 무효화되면 읽은 값은 반환만 하고 L1, L2 에 저장하지 않는다")
+    void load_overlapping_evict_is_not_stored() {
+        // given: 커밋 전 내용을 읽는 사이 다른 노드가 커밋 후 무효화
+        String loaded = nodeA.get(1L, () -> {
+            nodeB.evict(1L);
+            return "수정 전";
+        });
+
+        // when
+        String next = nodeA.get(1L, () -> "수정 후");
+
+        // then
+        assertThat(loaded).isEqualTo("수정 전");
+        assertThat(next).isEqualTo("수정 후");
+        assertThat(remote.getCache("posts").get(1L).get()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("무효화 후 evict-repeat-delay 가 지나면 그 사이 늦게 저장된 L2 값을 한 번 더 지운다")
+    void evict_is_repeated_after_delay() throws Exception {
+        // given
+        TwoLevelCacheSettings settings = new TwoLevelCacheSettings(
+            100, Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ofMillis(100)
+        );
+        Cache cache = new TwoLevelCacheManager(remote, bus, null, settings, new SimpleMeterRegistry())
+            .getCache("posts");
+
+        // when: 무효화 메시지를 받기 전에 적재를 시작한 다른 노드가 이전 값을 늦게 저장
+        cache.evict(1L);
+        remote.getCache("posts").put(1L, "수정 전");
+
+        // then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (remote.getCache("posts").get(1L) != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(remote.getCache("posts").get(1L)).isNull();
+    }
+
+    private double count(String level, String result) {
+        return meterRegistryA.get("cache.two_level.gets")
+            .tag("level", level)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+
+    // 첫 시도는 다른 노드가 쥐고 있어 실패하고, 이후에는 풀려 있는 잠금
+    private static class HandOffLoadLock implements CacheLoadLock {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile boolean held;
+
+        @Override
+        public boolean tryLock(String cacheName, String key) {
+            if (attempts.incrementAndGet() == 1 || held) {
+                return false;
+            }
+            held = true;
+            return true;
+        }
+
+        @Override
+        public void unlock(String cacheName, String key) {
+            held = false;
+        }
+    }
+
+    private static class InMemoryInvalidationBus implements CacheInvalidationBus {
+
+        private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+            listeners.forEach(listener -> listener.accept(invalidation));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> listener) {
+            listeners.add(listener);
+        }
+    }
+}
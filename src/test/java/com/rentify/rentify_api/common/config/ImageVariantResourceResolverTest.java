@@ -0,0 +1,67 @@
+package com.rentify.rentify_api.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+
+class ImageVariantResourceResolverTest {
+
+    private static final String HASH = "ab".repeat(32);
+    private static final String DIRECTORY = "ab/ab/";
+
+    @TempDir
+    private Path uploadDir;
+
+    private UrlResource location;
+
+    private final ImageVariantResourceResolver resolver = new ImageVariantResourceResolver();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(uploadDir.resolve(DIRECTORY));
+        Files.write(uploadDir.resolve(DIRECTORY + HASH + ".jpg"), new byte[]{1});
+        // WebConfig 와 같은 file: 위치
+        location = new UrlResource("file:" + uploadDir.toAbsolutePath() + "/");
+    }
+
+    @Test
+    @DisplayName("변형 파일이 있으면 변형으로 응답한다")
+    void resolves_existing_variant() throws Exception {
+        // given
+        Files.write(uploadDir.resolve(DIRECTORY + HASH + "_card.jpg"), new byte[]{2});
+
+        // when
+        Resource resource = resolver.getResource(DIRECTORY + HASH + "_card.jpg", location);
+
+        // then
+        assertThat(resource).isNotNull();
+        assertThat(resource.getFilename()).isEqualTo(HASH + "_card.jpg");
+    }
+
+    @Test
+    @DisplayName("변형 파일이 아직 없으면 같은 디렉토리의 원본으로 응답한다")
+    void falls_back_to_original() throws Exception {
+        // when
+        Resource resource = resolver.getResource(DIRECTORY + HASH + "_thumb.jpg", location);
+
+        // then
+        assertThat(resource).isNotNull();
+        assertThat(resource.getFilename()).isEqualTo(HASH + ".jpg");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 변형이나 없는 원본은 찾지 않는다")
+    void returns_null_for_unknown_files() throws Exception {
+        // when & then
+        assertThat(resolver.getResource(DIRECTORY + HASH + "_unknown.jpg", location)).isNull();
+        assertThat(resolver.getResource(DIRECTORY + "cd".repeat(32) + "_card.jpg", location)).isNull();
+        assertThat(resolver.getResource("old-uuid.jpg", location)).isNull();
+    }
+}
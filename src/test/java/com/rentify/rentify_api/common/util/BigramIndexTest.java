@@ -0,0 +1,104 @@
+package com.rentify.rentify_api.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BigramIndexTest {
+
+    @Test
+    @DisplayName("검색어의 bigram 을 모두 가진 문서만 후보로 반환하고, 대소문자는 구분하지 않는다")
+    void search_returns_documents_containing_all_bigrams() {
+        // given
+        BigramIndex index = new BigramIndex();
+        index.put(1, 1, "갤럭시 S24 울트라", "상태 좋아요");
+        index.put(2, 1, "아이폰 15", "갤럭시 아님");
+        index.put(3, 1, "캠핑 의자", null);
+
+        // when & then
+        assertThat(index.search("갤럭시")).containsExactly(1, 2);
+        assertThat(index.search("s24")).containsExactly(1);
+        assertThat(index.search("캠핑 텐트")).isEmpty();
+        // 한 글자는 bigram 이 없어 색인으로 판단 불가
+        assertThat(index.search("폰")).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제한 문서는 검색 후보와 id 목록에서 빠진다")
+    void remove_drops_document() {
+        // given
+        BigramIndex index = new BigramIndex();
+        index.put(3, 1, "캠핑 의자");
+        index.put(1, 1, "캠핑 텐트");
+
+        // when
+        boolean removed = index.remove(3);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(index.search("캠핑")).containsExactly(1);
+        assertThat(index.ids()).containsExactly(1);
+        assertThat(index.remove(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 내용의 bigram 은 빠지고, 더 오래된 버전은 반영하지 않는다")
+    void put_replaces_only_with_newer_version() {
+        // given
+        BigramIndex index = new BigramIndex();
+        index.put(1, 10, "캠핑 의자");
+
+        // when
+        boolean updated = index.put(1, 20, "등산 스틱");
+        boolean stale = index.put(1, 15, "캠핑 의자");
+
+        // then
+        assertThat(updated).isTrue();
+        assertThat(stale).isFalse();
+        assertThat(index.search("캠핑")).isEmpty();
+        assertThat(index.search("등산")).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장한 색인을 복원하면 같은 결과를 반환한다")
+    void snapshot_round_trip(@TempDir Path dir) throws Exception {
+        // given
+        BigramIndex index = new BigramIndex();
+        index.put(1, 100, "갤럭시 탭", "충전기 포함");
+        index.put(7, 200, "닌텐도 스위치", null);
+        Path snapshot = dir.resolve("posts.idx");
+        index.writeSnapshot(snapshot);
+
+        // when
+        BigramIndex restored = new BigramIndex();
+        int count = restored.readSnapshot(snapshot);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(restored.search("충전기")).containsExactly(1);
+        assertThat(restored.search("스위치")).containsExactly(7);
+        assertThat(restored.maxVersion()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("잘린 스냅샷은 IOException 으로 거절한다")
+    void rejects_truncated_snapshot(@TempDir Path dir) throws Exception {
+        // given
+        BigramIndex index = new BigramIndex();
+        index.put(1, 100, "갤럭시 탭", "충전기 포함");
+        Path snapshot = dir.resolve("posts.idx");
+        index.writeSnapshot(snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // when & then
+        assertThatThrownBy(() -> new BigramIndex().readSnapshot(snapshot)).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.rentify.rentify_api.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함으로 판단하고, 추가하지 않은 값의 오탐률은 목표 근처다")
+    void no_false_negatives_and_bounded_false_positives() {
+        // given
+        int insertions = 10_000;
+        BloomFilter filter = new BloomFilter(insertions, 0.01);
+
+        // when
+        for (long id = 1; id <= insertions; id++) {
+            filter.add(id);
+        }
+
+        // then
+        for (long id = 1; id <= insertions; id++) {
+            assertThat(filter.mightContain(id)).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (long id = insertions + 1; id <= insertions * 2L; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(insertions / 50);
+    }
+}
@@ -0,0 +1,68 @@
+package com.rentify.rentify_api.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 loader 를 한 번만 실행하고 모두 같은 결과를 받는다")
+    void concurrent_calls_share_one_load() throws Exception {
+        // given
+        int threads = 20;
+        SingleFlight<Long, String> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // 나머지 호출이 모두 합류할 때까지 첫 loader 를 붙잡아 둠 (캐시가 한꺼번에 만료된 상황)
+        Runnable waitForFollowers = () -> {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (flight.coalescedCount() < threads - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        };
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> flight.execute(1L, () -> {
+                    waitForFollowers.run();
+                    return "게시글 " + loads.incrementAndGet();
+                })));
+            }
+        }
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("게시글 1");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flight.executedCount()).isEqualTo(1);
+        assertThat(flight.coalescedCount()).isEqualTo(threads - 1);
+    }
+
+    @Test
+    @DisplayName("실행이 끝나면 결과를 보관하지 않고, 예외도 그대로 전달한다")
+    void result_is_not_kept_after_completion() {
+        // given
+        SingleFlight<Long, String> flight = new SingleFlight<>();
+
+        // when & then
+        assertThatThrownBy(() -> flight.execute(1L, () -> {
+            throw new IllegalStateException("조회 실패");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("조회 실패");
+
+        assertThat(flight.execute(1L, () -> "다시 조회")).isEqualTo("다시 조회");
+        assertThat(flight.executedCount()).isEqualTo(2);
+    }
+}
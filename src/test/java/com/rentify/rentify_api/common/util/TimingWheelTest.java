@@ -0,0 +1,56 @@
+package com.rentify.rentify_api.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각이 지난 키만 꺼내고, 휠 한 바퀴보다 먼 키는 다음 바퀴까지 남겨둔다")
+    void advance_returns_only_expired_keys() {
+        // given: tick 100ms, 버킷 8개 (한 바퀴 = 800ms)
+        TimingWheel<Long> wheel = new TimingWheel<>(100, 8, 0);
+        wheel.schedule(1L, 250);
+        wheel.schedule(2L, 1_050);   // 한 바퀴 이상 뒤, 1번과 다른 바퀴의 같은 버킷 근처
+        wheel.schedule(3L, 300);
+
+        // when & then
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(wheel.advance(1_000)).isEmpty();
+        assertThat(wheel.advance(1_100)).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소하거나 다시 등록한 키는 이전 만료 시각에 꺼내지지 않는다")
+    void cancel_and_reschedule() {
+        // given
+        TimingWheel<Long> wheel = new TimingWheel<>(100, 8, 0);
+        wheel.schedule(1L, 200);
+        wheel.schedule(2L, 200);
+
+        // when
+        wheel.cancel(1L);
+        wheel.schedule(2L, 500);
+
+        // then
+        assertThat(wheel.advance(300)).isEmpty();
+        assertThat(wheel.advance(500)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록하면 다음 advance 에서 바로 만료된다")
+    void past_deadline_expires_on_next_advance() {
+        // given
+        TimingWheel<Long> wheel = new TimingWheel<>(100, 8, 10_000);
+
+        // when
+        wheel.schedule(1L, 1_000);
+
+        // then
+        assertThat(wheel.advance(10_100)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,118 @@
+package com.rentify.rentify_api.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.image.repository.ImageRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ImageOrphanCleanerTest {
+
+    private static final String FILE_NAME = "ab".repeat(32) + ".jpg";
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @InjectMocks
+    private ImageOrphanCleaner imageOrphanCleaner;
+
+    @TempDir
+    private Path uploadDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(imageOrphanCleaner, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(imageOrphanCleaner, "orphanGrace", Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("참조가 없고 orphan-grace 가 지난 파일은 lock 을 잡고 참조 수를 센 뒤 변형과 함께 지운다")
+    void deletes_unreferenced_file_under_lock() throws Exception {
+        // given
+        Path original = store(FILE_NAME, Instant.now().minus(Duration.ofHours(2)));
+        Path thumb = store(ImageVariant.THUMB.fileNameOf(FILE_NAME), Instant.now());
+        given(imageRepository.countByFilename(FILE_NAME)).willReturn(0L);
+
+        // when
+        boolean deleted = imageOrphanCleaner.deleteIfUnreferenced(FILE_NAME);
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(original).doesNotExist();
+        assertThat(thumb).doesNotExist();
+
+        InOrder order = inOrder(imageRepository);
+        order.verify(imageRepository).acquireFileLock(ImageOrphanCleaner.lockKey(FILE_NAME));
+        order.verify(imageRepository).countByFilename(FILE_NAME);
+    }
+
+    @Test
+    @DisplayName("lock 을 잡은 뒤 센 참조가 있으면 지우지 않는다")
+    void keeps_referenced_file() throws Exception {
+        // given
+        Path original = store(FILE_NAME, Instant.now().minus(Duration.ofHours(2)));
+        given(imageRepository.countByFilename(FILE_NAME)).willReturn(1L);
+
+        // when
+        boolean deleted = imageOrphanCleaner.deleteIfUnreferenced(FILE_NAME);
+
+        // then
+        assertThat(deleted).isFalse();
+        assertThat(original).exists();
+    }
+
+    @Test
+    @DisplayName("orphan-grace 안에 업로드(또는 다시 붙임)된 파일은 지우지 않는다")
+    void keeps_recent_file() throws Exception {
+        // given
+        Path original = store(FILE_NAME, Instant.now());
+        given(imageRepository.countByFilename(FILE_NAME)).willReturn(0L);
+
+        // when
+        boolean deleted = imageOrphanCleaner.deleteIfUnreferenced(FILE_NAME);
+
+        // then
+        assertThat(deleted).isFalse();
+        assertThat(original).exists();
+    }
+
+    @Test
+    @DisplayName("이전 방식(UUID 이름)의 파일은 lock 도 잡지 않고 건너뛴다")
+    void skips_legacy_file() {
+        // when
+        boolean deleted = imageOrphanCleaner.deleteIfUnreferenced("legacy-uuid.png");
+
+        // then
+        assertThat(deleted).isFalse();
+        verify(imageRepository, never()).acquireFileLock(anyLong());
+        verify(imageRepository, never()).countByFilename(anyString());
+    }
+
+    private Path store(String fileName, Instant modifiedAt) throws Exception {
+        Path path = ImageFileWriter.resolve(uploadDir, fileName);
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[]{1});
+        Files.setLastModifiedTime(path, FileTime.from(modifiedAt));
+        return path;
+    }
+}
@@ -2,17 +2,29 @@ package com.rentify.rentify_api.image.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 
+import com.rentify.rentify_api.image.dto.StoredImage;
 import com.rentify.rentify_api.image.entity.Image;
+import com.rentify.rentify_api.image.exception.FileExpiredException;
 import com.rentify.rentify_api.image.exception.FileLimitExceededException;
 import com.rentify.rentify_api.image.exception.FileSizeExceededException;
 import com.rentify.rentify_api.image.exception.FileTypeNotAllowedException;
 import com.rentify.rentify_api.image.repository.ImageRepository;
 import com.rentify.rentify_api.post.entity.Post;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +33,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -32,9 +45,21 @@ class ImageServiceTest {
     @Mock
     private ImageRepository imageRepository;
 
+    @Mock
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @Mock
+    private ImageOrphanCleaner imageOrphanCleaner;
+
+    @Spy
+    private ImageFileWriter imageFileWriter = new ImageFileWriter(new SimpleMeterRegistry());
+
     @InjectMocks
     private ImageService imageService;
 
+    private static final byte[] JPEG_HEADER = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
     @Test
     @DisplayName("이미지 업로드 성공")
     void upload_success(@TempDir Path tempDir) {
@@ -43,14 +68,14 @@ class ImageServiceTest {
             "files",
             "test1.jpg",
             "image/jpeg",
-            "test image1".getBytes()
+            withHeader(JPEG_HEADER, "test image1")
         );
 
         MockMultipartFile file2 = new MockMultipartFile(
             "files",
             "test2.png",
             "image/png",
-            "test image2".getBytes()
+            withHeader(PNG_HEADER, "test image2")
         );
 
         List<MultipartFile> files = List.of(file1, file2);
@@ -65,6 +90,12 @@ class ImageServiceTest {
         assertThat(results).hasSize(2);
         assertThat(results).allMatch(url -> url.startsWith("http://test.com/images/"));
         assertThat(results).allMatch(url -> url.endsWith(".jpg") || url.endsWith(".png"));
+
+        // 저장한 파일마다 변형 생성을 요청
+        ArgumentCaptor<StoredImage> stored = ArgumentCaptor.forClass(StoredImage.class);
+        verify(imageVariantGenerator, times(2)).generateAsync(stored.capture());
+        assertThat(stored.getAllValues()).extracting(StoredImage::type)
+            .containsExactlyInAnyOrder(ImageType.JPEG, ImageType.PNG);
     }
 
     @Test
@@ -131,6 +162,85 @@ class ImageServiceTest {
             .hasMessage("지원하지 않는 파일 형식입니다.");
     }
 
+    @Test
+    @DisplayName("Content-Type 이 이미지여도 실제 내용이 이미지가 아니면 저장하지 않음")
+    void disguised_file_error(@TempDir Path tempDir) throws Exception {
+        // given
+        MockMultipartFile image = new MockMultipartFile(
+            "files",
+            "real.png",
+            "image/png",
+            withHeader(PNG_HEADER, "png content")
+        );
+        MockMultipartFile disguised = new MockMultipartFile(
+            "files",
+            "fake.png",
+            "image/png",
+            "%PDF-1.7 pdf content".getBytes()
+        );
+
+        ReflectionTestUtils.setField(imageService, "uploadPath", tempDir.toString());
+
+        // when & then
+        assertThatThrownBy(() -> imageService.uploadImages(List.of(image, disguised)))
+            .isInstanceOf(FileTypeNotAllowedException.class)
+            .hasMessage("지원하지 않는 파일 형식입니다.");
+        verify(imageVariantGenerator, never()).generateAsync(any());
+
+        // 위장 파일은 디스크에 쓰지 않고, 임시 파일도 남지 않음
+        try (var stored = Files.walk(tempDir)) {
+            assertThat(stored.filter(Files::isRegularFile))
+                .allMatch(path -> path.getFileName().toString().endsWith(".png"));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 내용의 이미지는 해시 경로에 한 번만 저장하고 같은 URL 을 반환")
+    void duplicate_upload_is_stored_once(@TempDir Path tempDir) throws Exception {
+        // given
+        byte[] content = withHeader(JPEG_HEADER, "same photo");
+        MockMultipartFile first = new MockMultipartFile("files", "a.jpg", "image/jpeg", content);
+        MockMultipartFile second = new MockMultipartFile("files", "b.jpg", "image/jpeg", content);
+
+        ReflectionTestUtils.setField(imageService, "uploadPath", tempDir.toString());
+        ReflectionTestUtils.setField(imageService, "baseUrl", "http://test.com");
+
+        // when
+        List<String> firstUrls = imageService.uploadImages(List.of(first));
+        List<String> secondUrls = imageService.uploadImages(List.of(second));
+
+        // then
+        assertThat(secondUrls).isEqualTo(firstUrls);
+        assertThat(firstUrls.getFirst()).matches("http://test\\.com/images/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.jpg");
+
+        try (var stored = Files.walk(tempDir)) {
+            assertThat(stored.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("업로드 스트림은 한 번만 읽고, 쓴 내용의 해시가 파일 이름이 된다")
+    void upload_reads_stream_once(@TempDir Path tempDir) throws Exception {
+        // given
+        byte[] content = withHeader(JPEG_HEADER, "x".repeat(200_000));
+        MockMultipartFile file = spy(new MockMultipartFile("files", "a.jpg", "image/jpeg", content));
+
+        ReflectionTestUtils.setField(imageService, "uploadPath", tempDir.toString());
+
+        // when
+        imageService.uploadImages(List.of(file));
+
+        // then
+        verify(file, times(1)).getInputStream();
+
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        Path stored = ImageFileWriter.resolve(tempDir, hash + ".jpg");
+        assertThat(Files.readAllBytes(stored)).isEqualTo(content);
+        try (var files = Files.walk(tempDir)) {
+            assertThat(files.filter(Files::isRegularFile)).containsExactly(stored);
+        }
+    }
+
     @Test
     @DisplayName("이미지 저장 성공")
     void save_image_success() {
@@ -167,4 +277,110 @@ class ImageServiceTest {
         assertThat(file2.getUrl()).isEqualTo("http://test.com:8080/images/test2.jpg");
         assertThat(file2.getOrder()).isEqualTo((short) 1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이미지 동기화 시 같은 URL 은 유지하고 순서만 바꾸며, 추가/삭제된 URL 만 반영")
+    void sync_images_keeps_unchanged_rows() {
+        // given
+        Post post = Post.builder()
+            .id(1L)
+            .title("테스트 게시글")
+            .build();
+
+        Image first = Image.builder().id(10L).post(post).url("http://test.com/images/a.png").order((short) 0).build();
+        Image second = Image.builder().id(11L).post(post).url("http://test.com/images/b.png").order((short) 1).build();
+        Image removed = Image.builder().id(12L).post(post).url("http://test.com/images/c.png").order((short) 2).build();
+        post.getImages().addAll(List.of(first, second, removed));
+
+        // when
+        boolean changed = imageService.syncImages(post, List.of(
+            "http://test.com/images/b.png",
+            "http://test.com/images/a.png",
+            "http://test.com/images/d.png"
+        ));
+
+        // then
+        assertThat(changed).isTrue();
+        assertThat(post.getImages()).extracting(Image::getUrl).containsExactly(
+            "http://test.com/images/b.png",
+            "http://test.com/images/a.png",
+            "http://test.com/images/d.png"
+        );
+        assertThat(post.getImages().get(0)).isSameAs(second);
+        assertThat(second.getOrder()).isEqualTo((short) 0);
+        assertThat(first.getOrder()).isEqualTo((short) 1);
+        assertThat(post.getImages().get(2).getId()).isNull();
+        assertThat(post.getImages()).doesNotContain(removed);
+
+        // 변경이 없으면 아무것도 하지 않음
+        assertThat(imageService.syncImages(post, List.of(
+            "http://test.com/images/b.png",
+            "http://test.com/images/a.png",
+            "http://test.com/images/d.png"
+        ))).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 파일을 게시글에 붙일 때 파일 lock 을 잡고 수정 시각을 갱신")
+    void save_images_locks_stored_files(@TempDir Path tempDir) throws Exception {
+        // given
+        String fileName = "ab".repeat(32) + ".jpg";
+        Path stored = ImageFileWriter.resolve(tempDir, fileName);
+        Files.createDirectories(stored.getParent());
+        Files.write(stored, JPEG_HEADER);
+        Files.setLastModifiedTime(stored, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        Post post = Post.builder().id(1L).title("테스트 게시글").build();
+        ReflectionTestUtils.setField(imageService, "uploadPath", tempDir.toString());
+
+        // when
+        imageService.saveImages(post, List.of("http://test.com/images/" + ImageFileWriter.relativePath(fileName)));
+
+        // then
+        verify(imageRepository).acquireFileLock(ImageOrphanCleaner.lockKey(fileName));
+        assertThat(Files.getLastModifiedTime(stored).toInstant()).isAfter(Instant.now().minus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("붙이려는 파일이 이미 정리되었으면 저장하지 않고 다시 업로드하도록 함")
+    void save_images_rejects_swept_file(@TempDir Path tempDir) {
+        // given
+        String fileName = "cd".repeat(32) + ".png";
+        Post post = Post.builder().id(1L).title("테스트 게시글").build();
+        ReflectionTestUtils.setField(imageService, "uploadPath", tempDir.toString());
+
+        // when & then
+        assertThatThrownBy(() -> imageService.saveImages(
+            post, List.of("http://test.com/images/" + ImageFileWriter.relativePath(fileName))
+        ))
+            .isInstanceOf(FileExpiredException.class);
+        verify(imageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("동기화로 빠진 이미지 파일은 정리 대상으로 넘김")
+    void sync_images_releases_removed_files() {
+        // given
+        Post post = Post.builder().id(1L).title("테스트 게시글").build();
+        Image kept = Image.builder().id(10L).post(post).url("http://test.com/images/a.png")
+            .filename("a.png").order((short) 0).build();
+        Image removed = Image.builder().id(11L).post(post).url("http://test.com/images/b.png")
+            .filename("b.png").order((short) 1).build();
+        post.getImages().addAll(List.of(kept, removed));
+
+        // when
+        imageService.syncImages(post, List.of("http://test.com/images/a.png"));
+
+        // then
+        verify(imageOrphanCleaner).deleteIfUnreferenced("b.png");
+        verify(imageOrphanCleaner, never()).deleteIfUnreferenced("a.png");
+    }
+
+    private static byte[] withHeader(byte[] header, String body) {
+        byte[] bytes = body.getBytes();
+        byte[] content = new byte[header.length + bytes.length];
+        System.arraycopy(header, 0, content, 0, header.length);
+        System.arraycopy(bytes, 0, content, header.length, bytes.length);
+        return content;
+    }
+}
@@ -0,0 +1,235 @@
+package com.rentify.rentify_api.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentify.rentify_api.image.dto.StoredImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageVariantGeneratorTest {
+
+    private static final String HASH = "ab".repeat(32);
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    @TempDir
+    private Path uploadDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("목표 너비에 닿을 때까지 절반씩 줄이고, 절반이 목표보다 작아지는 단계에서 목표 크기로 멈춘다")
+    void steps_halve_until_target() {
+        // when & then
+        assertThat(ImageVariantGenerator.steps(2000, 1000, 240, 120)).containsExactly(
+            new Dimension(1000, 500),
+            new Dimension(500, 250),
+            new Dimension(250, 125),
+            new Dimension(240, 120)
+        );
+        assertThat(ImageVariantGenerator.steps(300, 150, 240, 120)).containsExactly(new Dimension(240, 120));
+    }
+
+    @Test
+    @DisplayName("원본보다 넓은 변형은 만들지 않는다")
+    void skips_variants_wider_than_original() throws Exception {
+        // given
+        Path original = store(HASH + ".jpg", 500, 250, "jpg");
+
+        // when
+        generator(0.82f, MAX_PIXELS).generate(stored(original, ImageType.JPEG));
+
+        // then
+        assertThat(read(variantOf(original, ImageVariant.THUMB))).isEqualTo(new Dimension(240, 120));
+        assertThat(variantOf(original, ImageVariant.CARD)).doesNotExist();
+        assertThat(variantOf(original, ImageVariant.FULL)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("이미 있는 변형은 다시 만들지 않고 빠진 변형만 채운다")
+    void fills_only_missing_variants() throws Exception {
+        // given
+        Path original = store(HASH + ".png", 1500, 750, "png");
+        Path card = variantOf(original, ImageVariant.CARD);
+        Files.write(card, "existing".getBytes());
+
+        // when
+        generator(0.82f, MAX_PIXELS).generate(stored(original, ImageType.PNG));
+
+        // then
+        assertThat(Files.readString(card)).isEqualTo("existing");
+        assertThat(read(variantOf(original, ImageVariant.THUMB))).isEqualTo(new Dimension(240, 120));
+        assertThat(read(variantOf(original, ImageVariant.FULL))).isEqualTo(new Dimension(1280, 640));
+    }
+
+    @Test
+    @DisplayName("JPEG 변형은 설정한 품질로 압축한다")
+    void writes_jpeg_with_configured_quality() throws Exception {
+        // given: 같은 원본을 두 디렉토리에 저장
+        Path low = store(HASH + ".jpg", 800, 400, "jpg");
+        Path high = Files.createDirectories(uploadDir.resolve("high")).resolve(low.getFileName());
+        Files.copy(low, high);
+
+        // when
+        generator(0.3f, MAX_PIXELS).generate(stored(low, ImageType.JPEG));
+        generator(0.95f, MAX_PIXELS).generate(stored(high, ImageType.JPEG));
+
+        // then
+        long lowSize = Files.size(variantOf(low, ImageVariant.CARD));
+        long highSize = Files.size(variantOf(high, ImageVariant.CARD));
+        assertThat(lowSize).isLessThan(highSize);
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 max-pixels 를 넘으면 디코딩하지 않고 변형을 만들지 않는다")
+    void rejects_images_over_pixel_limit() throws Exception {
+        // given
+        Path original = store(HASH + ".png", 1000, 500, "png");
+
+        // when
+        generator(0.82f, 100_000L).generate(stored(original, ImageType.PNG));
+
+        // then
+        for (ImageVariant variant : ImageVariant.values()) {
+            assertThat(variantOf(original, variant)).doesNotExist();
+        }
+        assertThat(meterRegistry.counter("image.variant.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("큰 원본은 가장 넓은 변형의 2배 이상만 남도록 건너뛰며 읽어도 비율을 유지한다")
+    void subsamples_large_originals() throws Exception {
+        // given
+        Path original = store(HASH + ".jpg", 6000, 100, "jpg");
+
+        // when
+        generator(0.82f, MAX_PIXELS).generate(stored(original, ImageType.JPEG));
+
+        // then
+        assertThat(ImageVariantGenerator.subsampling(6000, ImageVariant.FULL.width())).isEqualTo(2);
+        assertThat(ImageVariantGenerator.subsampling(1500, ImageVariant.FULL.width())).isEqualTo(1);
+        assertThat(read(variantOf(original, ImageVariant.FULL))).isEqualTo(new Dimension(1280, 21));
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 파일은 예외 없이 실패로 기록한다")
+    void records_unreadable_image() throws Exception {
+        // given
+        Path original = uploadDir.resolve(HASH + ".png");
+        Files.write(original, "not an image".getBytes());
+
+        // when
+        generator(0.82f, MAX_PIXELS).generate(stored(original, ImageType.PNG));
+
+        // then
+        assertThat(meterRegistry.counter("image.variant.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("JPEG 는 EXIF Orientation 대로 돌린 뒤 보이는 방향의 너비로 변형을 만든다")
+    void rotates_by_exif_orientation() throws Exception {
+        // given: 왼쪽 절반 빨강, 오른쪽 절반 파랑인 800x400 을 시계 방향 90도(6)로 보여줘야 하는 사진
+        BufferedImage image = new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 400; y++) {
+            for (int x = 0; x < 800; x++) {
+                image.setRGB(x, y, x < 400 ? 0xFF0000 : 0x0000FF);
+            }
+        }
+        Path original = uploadDir.resolve(HASH + ".jpg");
+        ImageIO.write(image, "jpg", original.toFile());
+        Files.write(original, withOrientation(Files.readAllBytes(original), 6, ByteOrder.BIG_ENDIAN));
+
+        // when
+        generator(0.82f, MAX_PIXELS).generate(stored(original, ImageType.JPEG));
+
+        // then: 보이는 방향은 400x800 이라 CARD(640) 는 만들지 않음
+        Path thumb = variantOf(original, ImageVariant.THUMB);
+        assertThat(read(thumb)).isEqualTo(new Dimension(240, 480));
+        assertThat(variantOf(original, ImageVariant.CARD)).doesNotExist();
+
+        // 왼쪽(빨강)이 위로 감
+        BufferedImage rotated = ImageIO.read(thumb.toFile());
+        assertThat(new Color(rotated.getRGB(120, 60)).getRed()).isGreaterThan(200);
+        assertThat(new Color(rotated.getRGB(120, 420)).getBlue()).isGreaterThan(200);
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation 은 바이트 순서와 상관없이 읽고, 없으면 회전하지 않는다")
+    void reads_exif_orientation() throws Exception {
+        // given
+        Path plain = store(HASH + ".jpg", 10, 10, "jpg");
+        byte[] bytes = Files.readAllBytes(plain);
+        Path littleEndian = Files.write(uploadDir.resolve("le.jpg"), withOrientation(bytes, 8, ByteOrder.LITTLE_ENDIAN));
+        Path bigEndian = Files.write(uploadDir.resolve("be.jpg"), withOrientation(bytes, 3, ByteOrder.BIG_ENDIAN));
+        Path broken = Files.write(uploadDir.resolve("broken.jpg"), withOrientation(bytes, 99, ByteOrder.BIG_ENDIAN));
+
+        // when & then
+        assertThat(ExifOrientation.read(plain)).isEqualTo(ExifOrientation.NORMAL);
+        assertThat(ExifOrientation.read(littleEndian)).isEqualTo(8);
+        assertThat(ExifOrientation.read(bigEndian)).isEqualTo(3);
+        assertThat(ExifOrientation.read(broken)).isEqualTo(ExifOrientation.NORMAL);
+    }
+
+    private ImageVariantGenerator generator(float jpegQuality, long maxPixels) {
+        return new ImageVariantGenerator(Runnable::run, meterRegistry, jpegQuality, maxPixels);
+    }
+
+    private Path store(String fileName, int width, int height, String format) throws Exception {
+        // 압축률 차이가 드러나도록 무작위 픽셀로 채움
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+
+        Path path = uploadDir.resolve(fileName);
+        ImageIO.write(image, format, path.toFile());
+        return path;
+    }
+
+    private static StoredImage stored(Path path, ImageType type) throws Exception {
+        return new StoredImage(path, type, Files.size(path), HASH, false);
+    }
+
+    private static Path variantOf(Path original, ImageVariant variant) {
+        return original.resolveSibling(variant.fileNameOf(original.getFileName().toString()));
+    }
+
+    // SOI 바로 뒤에 Orientation 항목 하나만 있는 EXIF APP1 세그먼트를 끼워 넣음
+    private static byte[] withOrientation(byte[] jpeg, int orientation, ByteOrder order) {
+        ByteBuffer tiff = ByteBuffer.allocate(26).order(order);
+        tiff.put(order == ByteOrder.BIG_ENDIAN ? new byte[]{'M', 'M'} : new byte[]{'I', 'I'})
+            .putShort((short) 42)
+            .putInt(8)
+            .putShort((short) 1)
+            .putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0)
+            .putInt(0);
+
+        byte[] exif = {'E', 'x', 'i', 'f', 0, 0};
+        ByteBuffer result = ByteBuffer.allocate(jpeg.length + 4 + exif.length + tiff.capacity());
+        result.put(jpeg, 0, 2)
+            .put((byte) 0xFF).put((byte) 0xE1)
+            .putShort((short) (2 + exif.length + tiff.capacity()))
+            .put(exif)
+            .put(tiff.array())
+            .put(jpeg, 2, jpeg.length - 2);
+        return result.array();
+    }
+
+    private static Dimension read(Path path) throws Exception {
+        BufferedImage image = ImageIO.read(path.toFile());
+        return new Dimension(image.getWidth(), image.getHeight());
+    }
+}
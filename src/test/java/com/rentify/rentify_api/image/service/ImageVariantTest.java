@@ -0,0 +1,28 @@
+package com.rentify.rentify_api.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageVariantTest {
+
+    private static final String HASH = "ab".repeat(32);
+
+    @Test
+    @DisplayName("content-addressed 원본만 변형 URL 로 바꾸고, 변형 이름에서 원본 이름을 되찾는다")
+    void variant_names() {
+        // given
+        String originalUrl = "http://test.com/images/ab/ab/" + HASH + ".jpg";
+
+        // when & then
+        assertThat(ImageVariant.CARD.urlOf(originalUrl))
+            .isEqualTo("http://test.com/images/ab/ab/" + HASH + "_card.jpg");
+        assertThat(ImageVariant.CARD.urlOf("http://test.com/images/old-uuid.jpg"))
+            .isEqualTo("http://test.com/images/old-uuid.jpg");
+
+        assertThat(ImageVariant.originalFileNameOf(HASH + "_thumb.png")).contains(HASH + ".png");
+        assertThat(ImageVariant.originalFileNameOf(HASH + "_unknown.png")).isEmpty();
+        assertThat(ImageVariant.originalFileNameOf(HASH + ".png")).isEmpty();
+    }
+}
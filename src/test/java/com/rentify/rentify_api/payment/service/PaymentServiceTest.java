@@ -0,0 +1,320 @@
+package com.rentify.rentify_api.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.common.exception.InvalidValueException;
+import com.rentify.rentify_api.coupon.entity.UserCoupon;
+import com.rentify.rentify_api.coupon.entity.UserCouponStatus;
+import com.rentify.rentify_api.coupon.exception.CouponAlreadyUsedException;
+import com.rentify.rentify_api.coupon.repository.UserCouponRepository;
+import com.rentify.rentify_api.payment.dto.PaymentRequest;
+import com.rentify.rentify_api.payment.entity.Payment;
+import com.rentify.rentify_api.payment.exception.PaymentConflictException;
+import com.rentify.rentify_api.payment.repository.PaymentEventRepository;
+import com.rentify.rentify_api.payment.repository.PaymentRepository;
+import com.rentify.rentify_api.point.entity.PointHistory;
+import com.rentify.rentify_api.point.repository.PointHistoryRepository;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.rental.dto.RentalChangedEvent;
+import com.rentify.rentify_api.rental.entity.ReceiveMethod;
+import com.rentify.rentify_api.rental.entity.Rental;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.exception.RentalNotAvailableException;
+import com.rentify.rentify_api.rental.repository.RentalRepository;
+import com.rentify.rentify_api.rental.service.RentalAvailabilityIndex;
+import com.rentify.rentify_api.rental.service.RentalViewProjector;
+import com.rentify.rentify_api.user.entity.User;
+import com.rentify.rentify_api.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 결제 확정(completePayment) 테스트.
+ * 상태 변경은 조건부 UPDATE 결과 행 수로만 판단하므로, 저장소가 돌려주는 행 수에 따라 확정/충돌이 갈리는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long POST_ID = 10L;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private RentalRepository rentalRepository;
+    @Mock
+    private UserCouponRepository userCouponRepository;
+    @Mock
+    private PaymentEventRepository paymentEventRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+    @Mock
+    private RentalAvailabilityIndex rentalAvailabilityIndex;
+    @Mock
+    private RentalViewProjector rentalViewProjector;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentService paymentService;
+    private Post post;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentService = new PaymentService(
+            paymentRepository, userRepository, rentalRepository, userCouponRepository, paymentEventRepository,
+            eventPublisher, pointHistoryRepository, rentalAvailabilityIndex, rentalViewProjector, meterRegistry
+        );
+        user = User.builder().id(USER_ID).name("user").build();
+        post = Post.builder().id(POST_ID).user(User.builder().id(2L).build()).title("카메라").build();
+    }
+
+    @Test
+    @DisplayName("이미 확정된 대여와 기간이 겹치면 상태를 바꾸지 않고 거절한다")
+    void rejects_overlapping_confirm() {
+        // given
+        Payment payment = givenPayment(100L, 1000L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3));
+        given(rentalRepository.existsOverlappingRentalExcept(
+            eq(POST_ID), any(), any(), any(), eq(1000L))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.completePayment(payment.getId(), USER_ID, request(0)))
+            .isInstanceOf(RentalNotAvailableException.class);
+        verify(rentalRepository, never()).compareAndSetStatus(anyLong(), any(), any(), any());
+        verify(paymentRepository, never()).markAsPaidIfPending(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("동시에 확인을 통과한 겹치는 확정은 배타 제약 위반을 결제 충돌로 바꿔 거절한다")
+    void maps_exclusion_violation_to_conflict() {
+        // given
+        Payment payment = givenPayment(100L, 1000L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3));
+        given(rentalRepository.compareAndSetStatus(
+            eq(1000L), eq(RentalStatus.REQUESTED), eq(RentalStatus.CONFIRMED), any(LocalDateTime.class)))
+            .willThrow(new DataIntegrityViolationException("could not execute statement", new SQLException(
+                "ERROR: conflicting key value violates exclusion constraint \"ex_rentals_confirmed_period\"",
+                "23P01")));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.completePayment(payment.getId(), USER_ID, request(0)))
+            .isInstanceOf(PaymentConflictException.class)
+            .hasMessage("이미 확정된 대여와 기간이 겹칩니다.");
+        verify(paymentRepository, never()).markAsPaidIfPending(anyLong(), any());
+        verify(rentalAvailabilityIndex, never()).reserve(any());
+    }
+
+    @Test
+    @DisplayName("같은 게시글이라도 기간이 겹치지 않으면 게시글 단위 잠금 없이 각각 확정된다")
+    void confirms_non_overlapping_rentals_on_same_post() {
+        // given
+        Payment first = givenPayment(100L, 1000L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3));
+        Payment second = givenPayment(101L, 1001L, LocalDate.of(2026, 11, 4), LocalDate.of(2026, 11, 6));
+        given(rentalRepository.compareAndSetStatus(
+            anyLong(), eq(RentalStatus.REQUESTED), eq(RentalStatus.CONFIRMED), any(LocalDateTime.class)))
+            .willReturn(1);
+        given(paymentRepository.markAsPaidIfPending(anyLong(), any(LocalDateTime.class))).willReturn(1);
+
+        // when
+        paymentService.completePayment(first.getId(), USER_ID, request(0));
+        paymentService.completePayment(second.getId(), USER_ID, request(0));
+
+        // then
+        verify(rentalRepository, never()).acquireAdvisoryXactLock(anyLong());
+        verify(rentalAvailabilityIndex).reserve(first.getRental());
+        verify(rentalAvailabilityIndex).reserve(second.getRental());
+        verify(eventPublisher).publishEvent(new RentalChangedEvent(POST_ID, 1000L, RentalStatus.CONFIRMED));
+        verify(eventPublisher).publishEvent(new RentalChangedEvent(POST_ID, 1001L, RentalStatus.CONFIRMED));
+    }
+
+    @Test
+    @DisplayName("결제 대기(REQUESTED)가 아닌 대여는 UPDATE 가 0건이 되어 결제 충돌로 거절한다")
+    void rejects_rental_not_requested() {
+        // given: 만료로 이미 취소된 대여
+        Payment payment = givenPayment(100L, 1000L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3));
+        given(rentalRepository.compareAndSetStatus(
+            eq(1000L), eq(RentalStatus.REQUESTED), eq(RentalStatus.CONFIRMED), any(LocalDateTime.class)))
+            .willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.completePayment(payment.getId(), USER_ID, request(0)))
+            .isInstanceOf(PaymentConflictException.class)
+            .hasMessage("이미 처리되었거나 취소된 대여입니다.");
+        verify(paymentRepository, never()).markAsPaidIfPending(anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("결제가 이미 PENDING 이 아니면 UPDATE 가 0건이 되어 쿠폰과 포인트를 건드리지 않고 거절한다")
+    void rejects_payment_not_pending() {
+        // given
+        Payment payment = givenPayment(100L, 1000L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3));
+        givenRentalConfirmed();
+        given(paymentRepository.markAsPaidIfPending(eq(100L), any(LocalDateTime.class))).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.completePayment(payment.getId(), USER_ID, request(500)))
+            .isInstanceOf(PaymentConflictException.class)
+            .hasMessage("이미 처리된 결제입니다.");
+        verify(userCouponRepository, never()).markAsUsedIfAvailable(anyLong(), any());
+        verify(userRepository, never()).deductPointIfEnough(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("쿠폰이 이미 사용되어 UPDATE 가 0건이면 포인트 차감 전에 실패해 전체가 롤백된다")
+    void rolls_back_when_coupon_already_used() {
+        // given
+        Payment payment = givenPayment(100L, 1000L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3), coupon());
+        givenRentalConfirmed();
+        givenPaymentPaid();
+        given(userCouponRepository.markAsUsedIfAvailable(eq(5L), any(LocalDateTime.class))).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.completePayment(payment.getId(), USER_ID, request(500)))
+            .isInstanceOf(CouponAlreadyUsedException.class);
+        verify(userRepository, never()).deductPointIfEnough(anyLong(), anyInt());
+        verifyNothingCommittedAfterFailure();
+    }
+
+    @Test
+    @DisplayName("포인트가 부족해 버전 증가 UPDATE 가 0건이면 사용 내역을 남기지 않고 전체가 롤백된다")
+    void rolls_back_when_point_not_enough() {
+        // given
+        Payment payment = givenPayment(100L, 1000L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3), coupon());
+        givenRentalConfirmed();
+        givenPaymentPaid();
+        given(userCouponRepository.markAsUsedIfAvailable(eq(5L), any(LocalDateTime.class))).willReturn(1);
+        given(userRepository.deductPointIfEnough(USER_ID, 500)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.completePayment(payment.getId(), USER_ID, request(500)))
+            .isInstanceOf(InvalidValueException.class)
+            .hasMessage("사용 가능한 포인트를 초과했습니다.");
+        verify(pointHistoryRepository, never()).save(any());
+        verifyNothingCommittedAfterFailure();
+    }
+
+    @Test
+    @DisplayName("모든 조건부 UPDATE 가 1건이면 확정하고, 문장마다 소요 시간을 따로 기록한다")
+    void records_each_statement_on_success() {
+        // given
+        Payment payment = givenPayment(100L, 1000L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3), coupon());
+        givenRentalConfirmed();
+        givenPaymentPaid();
+        given(userCouponRepository.markAsUsedIfAvailable(eq(5L), any(LocalDateTime.class))).willReturn(1);
+        given(userRepository.deductPointIfEnough(USER_ID, 500)).willReturn(1);
+        given(userRepository.findPointById(USER_ID)).willReturn(700);
+
+        // when
+        paymentService.completePayment(payment.getId(), USER_ID, request(500));
+
+        // then
+        for (String statement : List.of("rental", "payment", "coupon", "point")) {
+            assertThat(meterRegistry.get("payment.commit.statement").tag("statement", statement).timer().count())
+                .isEqualTo(1);
+        }
+
+        ArgumentCaptor<PointHistory> history = ArgumentCaptor.forClass(PointHistory.class);
+        verify(pointHistoryRepository).save(history.capture());
+        assertThat(history.getValue().getAmount()).isEqualTo(500);
+        assertThat(history.getValue().getFinalBalance()).isEqualTo(700);
+        verify(rentalAvailabilityIndex).reserve(payment.getRental());
+    }
+
+    @Test
+    @DisplayName("배타 제약에서 기다리다 실패한 대여 확정도 rental 문장 시간으로 기록한다")
+    void records_constraint_wait_on_conflict() {
+        // given
+        Payment payment = givenPayment(100L, 1000L, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3));
+        given(rentalRepository.compareAndSetStatus(
+            eq(1000L), eq(RentalStatus.REQUESTED), eq(RentalStatus.CONFIRMED), any(LocalDateTime.class)))
+            .willThrow(new DataIntegrityViolationException("could not execute statement", new SQLException(
+                "ERROR: conflicting key value violates exclusion constraint \"ex_rentals_confirmed_period\"",
+                "23P01")));
+
+        // when
+        assertThatThrownBy(() -> paymentService.completePayment(payment.getId(), USER_ID, request(0)))
+            .isInstanceOf(PaymentConflictException.class);
+
+        // then
+        assertThat(meterRegistry.get("payment.commit.statement").tag("statement", "rental").timer().count())
+            .isEqualTo(1);
+    }
+
+    private Payment givenPayment(Long paymentId, Long rentalId, LocalDate startDate, LocalDate endDate) {
+        return givenPayment(paymentId, rentalId, startDate, endDate, null);
+    }
+
+    private Payment givenPayment(
+        Long paymentId, Long rentalId, LocalDate startDate, LocalDate endDate, UserCoupon userCoupon
+    ) {
+        Rental rental = Rental.builder()
+            .id(rentalId)
+            .user(user)
+            .post(post)
+            .startDate(startDate)
+            .endDate(endDate)
+            .receiveMethod(ReceiveMethod.PARCEL)
+            .totalPrice(30000)
+            .build();
+        Payment payment = Payment.builder()
+            .id(paymentId)
+            .user(user)
+            .rental(rental)
+            .userCoupon(userCoupon)
+            .totalAmount(30000)
+            .finalAmount(30000)
+            .build();
+        given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
+        return payment;
+    }
+
+    private void givenRentalConfirmed() {
+        given(rentalRepository.compareAndSetStatus(
+            anyLong(), eq(RentalStatus.REQUESTED), eq(RentalStatus.CONFIRMED), any(LocalDateTime.class)))
+            .willReturn(1);
+    }
+
+    private void givenPaymentPaid() {
+        given(paymentRepository.markAsPaidIfPending(anyLong(), any(LocalDateTime.class))).willReturn(1);
+    }
+
+    private UserCoupon coupon() {
+        return UserCoupon.builder().id(5L).user(user).status(UserCouponStatus.AVAILABLE).build();
+    }
+
+    // 예외로 트랜잭션이 롤백되므로 확정 이후 단계(가용성 반영, 이벤트)는 실행되지 않아야 함
+    private void verifyNothingCommittedAfterFailure() {
+        verify(rentalAvailabilityIndex, never()).reserve(any());
+        verify(rentalViewProjector, never()).onPaymentConfirmed(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private static PaymentRequest request(int pointAmount) {
+        return PaymentRequest.builder().pointAmount(pointAmount).build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.rentify.rentify_api.post.listener;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.post.dto.PostUpdatedEvent;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.rental.dto.RentalChangedEvent;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.user.dto.UserRenamedEvent;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class PostCacheEvictionListenerTest {
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache postsCache;
+    @Mock
+    private PostRepository postRepository;
+
+    private PostCacheEvictionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new PostCacheEvictionListener(cacheManagerProvider, postRepository);
+    }
+
+    @Test
+    @DisplayName("게시글이 수정되면 커밋 이후 해당 게시글의 상세 캐시를 비운다")
+    void evicts_post_on_update() {
+        // given
+        givenPostsCache();
+
+        // when
+        listener.onPostUpdated(new PostUpdatedEvent(1L));
+
+        // then
+        verify(postsCache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("대여 상태가 바뀌면 해당 게시글의 상세 캐시를 비운다")
+    void evicts_post_on_rental_change() {
+        // given
+        givenPostsCache();
+
+        // when
+        listener.onRentalChanged(new RentalChangedEvent(1L, 10L, RentalStatus.CANCELED));
+
+        // then
+        verify(postsCache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("작성자 이름이 바뀌면 작성자의 모든 게시글 상세 캐시를 비운다")
+    void evicts_author_posts_on_rename() {
+        // given
+        givenPostsCache();
+        given(postRepository.findIdsByUserId(7L)).willReturn(List.of(1L, 2L));
+
+        // when
+        listener.onUserRenamed(new UserRenamedEvent(7L));
+
+        // then
+        verify(postsCache).evict(1L);
+        verify(postsCache).evict(2L);
+    }
+
+    @Test
+    @DisplayName("한 게시글의 무효화가 실패해도 나머지 게시글은 비운다")
+    void continues_after_evict_failure() {
+        // given
+        givenPostsCache();
+        given(postRepository.findIdsByUserId(7L)).willReturn(List.of(1L, 2L));
+        willThrow(new IllegalStateException("redis down")).given(postsCache).evict(1L);
+
+        // when
+        listener.onUserRenamed(new UserRenamedEvent(7L));
+
+        // then
+        verify(postsCache).evict(2L);
+    }
+
+    @Test
+    @DisplayName("캐시를 쓰지 않으면 게시글 id 를 조회하지 않는다")
+    void skips_lookup_without_cache() {
+        // given
+        given(cacheManagerProvider.getIfAvailable()).willReturn(null);
+
+        // when
+        listener.onUserRenamed(new UserRenamedEvent(7L));
+
+        // then
+        verify(postRepository, never()).findIdsByUserId(7L);
+    }
+
+    private void givenPostsCache() {
+        given(cacheManagerProvider.getIfAvailable()).willReturn(cacheManager);
+        given(cacheManager.getCache("posts")).willReturn(postsCache);
+    }
+}
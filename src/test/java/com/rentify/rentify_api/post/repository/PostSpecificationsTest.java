@@ -0,0 +1,113 @@
+package com.rentify.rentify_api.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.post.entity.PostStatus;
+import com.rentify.rentify_api.rental.service.RentalAvailabilityIndex;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 게시글 검색 SQL 형태 회귀 테스트.
+ * 사용하지 않은 조건이 "(? IS NULL OR ...)" 형태로 다시 섞여 들어가면 조건 조합별 인덱스를 쓰지 못하므로,
+ * 실제 실행된 SQL 의 WHERE 절에 사용한 조건만 있는지 확인합니다.
+ */
+@DataJpaTest(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.rentify.rentify_api.post.repository.PostSpecificationsTest$SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostSpecificationsTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 WHERE 절 없이 조회한다")
+    void no_predicates_without_conditions() {
+        // when
+        postRepository.findSummaries(Specification.allOf(List.of()), page());
+
+        // then
+        assertThat(lastPostSelect()).doesNotContain(" where ");
+    }
+
+    @Test
+    @DisplayName("카테고리와 최대 가격만 전달하면 두 조건만 SQL 에 포함된다")
+    void only_used_predicates_are_rendered() {
+        // when
+        postRepository.findSummaries(Specification.allOf(List.of(
+            PostSpecifications.categoryIs(1L),
+            PostSpecifications.pricePerDayAtMost(10000)
+        )), page());
+
+        // then
+        String where = whereClause(lastPostSelect());
+        assertThat(where).contains("category_id", "price_per_day");
+        assertThat(where).doesNotContain("is null", "status", "like", "exists", "user_id");
+    }
+
+    @Test
+    @DisplayName("검색어와 대여 가능 기간을 전달하면 LIKE 와 NOT EXISTS 만 추가된다")
+    void keyword_and_availability_predicates() {
+        // when
+        postRepository.findSummaries(Specification.allOf(List.of(
+            PostSpecifications.statusIs(PostStatus.AVAILABLE),
+            PostSpecifications.keywordContains("갤럭시"),
+            PostSpecifications.availableBetween(
+                LocalDate.of(2026, 10, 20), LocalDate.of(2026, 10, 25), RentalAvailabilityIndex.BLOCKING_STATUSES
+            )
+        )), page());
+
+        // then
+        String where = whereClause(lastPostSelect());
+        assertThat(where).contains("status", "like", "not exists");
+        assertThat(where).doesNotContain("is null", "category_id", "price_per_day");
+    }
+
+    private static PageRequest page() {
+        return PageRequest.of(0, 10, Sort.by("createAt").descending());
+    }
+
+    private static String lastPostSelect() {
+        return SqlCapture.STATEMENTS.reversed().stream()
+            .filter(sql -> sql.startsWith("select") && sql.contains(" from posts "))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    // 목록 조회 SQL 의 posts 조건 부분 (ORDER BY / 페이징 제외)
+    private static String whereClause(String sql) {
+        String where = sql.substring(sql.indexOf(" where ") + " where ".length());
+        int orderBy = where.lastIndexOf(" order by ");
+        return orderBy >= 0 ? where.substring(0, orderBy) : where;
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").strip());
+            return sql;
+        }
+    }
+}
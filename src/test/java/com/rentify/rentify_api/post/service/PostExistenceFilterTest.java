@@ -0,0 +1,53 @@
+package com.rentify.rentify_api.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostExistenceFilterTest {
+
+    private PostExistenceFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new PostExistenceFilter(new SimpleMeterRegistry(), true, 1000, 0.01, Duration.ofMinutes(1), 100);
+        filter.add(1L);
+        filter.add(2L);
+        filter.advanceWatermark(10L);
+        filter.markReady();
+    }
+
+    @Test
+    @DisplayName("watermark 이하에서 필터에 없는 id 는 DB 조회 없이 거른다")
+    void rejects_unknown_id_below_watermark() {
+        assertThat(filter.isDefinitelyMissing(1L)).isFalse();
+        assertThat(filter.isDefinitelyMissing(5L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("watermark 밖의 id 는 없다고 확인해도 기억하지 않는다 (다른 노드에서 곧 등록될 수 있음)")
+    void does_not_cache_missing_id_above_watermark() {
+        // when
+        filter.markMissing(11L);
+
+        // then
+        assertThat(filter.isDefinitelyMissing(11L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("watermark 이하의 오탐 id 는 음성 캐시에 기억하고, 등록되면 지운다")
+    void caches_false_positive_below_watermark() {
+        // when: 필터는 통과했지만(오탐) DB 에 없음
+        filter.markMissing(2L);
+
+        // then
+        assertThat(filter.isDefinitelyMissing(2L)).isTrue();
+
+        filter.add(2L);
+        assertThat(filter.isDefinitelyMissing(2L)).isFalse();
+    }
+}
@@ -0,0 +1,44 @@
+package com.rentify.rentify_api.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostHistoryDeltaTest {
+
+    @Test
+    @DisplayName("바뀐 필드만 delta 에 담고, 처음부터 적용하면 각 버전을 복원한다")
+    void diff_and_apply_round_trip() {
+        // given
+        Map<String, Object> v1 = new HashMap<>();
+        v1.put("title", "갤럭시 S25엣지 대여");
+        v1.put("pricePerDay", 50000);
+        v1.put("thumbnailUrl", "http://backend.server.ip/images/1.jpg");
+
+        Map<String, Object> v2 = new HashMap<>(v1);
+        v2.put("pricePerDay", 45000);
+        v2.put("thumbnailUrl", null);
+
+        // when
+        Map<String, Object> created = PostHistoryDelta.diff(Map.of(), v1);
+        Map<String, Object> updated = PostHistoryDelta.diff(v1, v2);
+
+        // then
+        assertThat(updated).containsOnlyKeys("pricePerDay", "thumbnailUrl");
+        assertThat(PostHistoryDelta.diff(v2, v2)).isEmpty();
+
+        Map<String, Object> state = new LinkedHashMap<>();
+        PostHistoryDelta.apply(state, PostHistoryDelta.read(PostHistoryDelta.write(created)));
+        assertThat(state).isEqualTo(v1);
+
+        PostHistoryDelta.apply(state, PostHistoryDelta.read(PostHistoryDelta.write(updated)));
+        assertThat(state)
+            .containsEntry("title", "갤럭시 S25엣지 대여")
+            .containsEntry("pricePerDay", 45000)
+            .doesNotContainKey("thumbnailUrl");
+    }
+}
@@ -0,0 +1,144 @@
+package com.rentify.rentify_api.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.rentify.rentify_api.post.entity.Post;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+/**
+ * 첫 배치 저장을 붙잡아 두는 동안 큐에 이력을 쌓고, 풀어 준 뒤 어떻게 나눠 저장되는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PostHistoryRecorderTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    // 저장 호출마다 넘어온 이력 수 (writer 가 배치 목록을 재사용하므로 호출 시점에 기록)
+    private final List<Integer> writtenBatches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+
+    private PostHistoryRecorder recorder;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        willAnswer(invocation -> {
+            writtenBatches.add(((Collection<?>) invocation.getArgument(1)).size());
+            if (firstWriteStarted.getCount() > 0) {
+                firstWriteStarted.countDown();
+                releaseFirstWrite.await(5, TimeUnit.SECONDS);
+            }
+            return new int[0][];
+        }).given(jdbcTemplate)
+            .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstWrite.countDown();
+        if (recorder != null && recorder.isRunning()) {
+            recorder.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("writer 가 저장하는 동안 쌓인 이력은 batch-size 단위로 묶어 저장한다")
+    void queued_histories_are_written_in_batches() throws InterruptedException {
+        // given
+        recorder = recorder(Duration.ofSeconds(5));
+        recorder.start();
+
+        recorder.recordCreated(post(1L));
+        assertThat(firstWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 첫 저장이 끝나지 않은 동안 7건이 쌓임
+        for (long postId = 2; postId <= 8; postId++) {
+            recorder.recordCreated(post(postId));
+        }
+        releaseFirstWrite.countDown();
+        recorder.stop();
+
+        // then: 1건 + 3건 + 3건 + 1건, 한 번에 batch-size 를 넘지 않음
+        assertThat(writtenBatches.stream().mapToInt(Integer::intValue).sum()).isEqualTo(8);
+        assertThat(writtenBatches).allMatch(size -> size <= BATCH_SIZE);
+        assertThat(writtenBatches).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("종료 시 writer 가 제시간에 끝나지 않아도 큐에 남은 이력을 모두 저장한다")
+    void stop_drains_queue_when_writer_is_stuck() throws InterruptedException {
+        // given: writer 가 첫 저장에 묶여 있는 동안 5건이 쌓임
+        recorder = recorder(Duration.ofMillis(100));
+        recorder.start();
+
+        recorder.recordCreated(post(1L));
+        assertThat(firstWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long postId = 2; postId <= 6; postId++) {
+            recorder.recordCreated(post(postId));
+        }
+
+        // when
+        recorder.stop();
+
+        // then: 묶여 있던 1건 외의 5건은 stop 이 직접 batch-size 단위로 저장
+        assertThat(writtenBatches).containsExactly(1, 3, 2);
+    }
+
+    @Test
+    @DisplayName("종료 후에 커밋된 이력은 큐를 거치지 않고 바로 저장한다")
+    void writes_directly_after_stop() {
+        // given
+        releaseFirstWrite.countDown();
+        recorder = recorder(Duration.ofSeconds(5));
+        recorder.start();
+        recorder.stop();
+
+        // when
+        recorder.recordCreated(post(1L));
+
+        // then
+        assertThat(writtenBatches).containsExactly(1);
+    }
+
+    private PostHistoryRecorder recorder(Duration shutdownTimeout) {
+        return new PostHistoryRecorder(
+            jdbcTemplate, new SimpleMeterRegistry(), 100, BATCH_SIZE, Duration.ofMillis(50), shutdownTimeout
+        );
+    }
+
+    private static Post post(Long postId) {
+        return Post.builder()
+            .id(postId)
+            .version(0L)
+            .title("게시글 " + postId)
+            .pricePerDay(1000)
+            .maxRentalDays(7)
+            .isParcel(true)
+            .isMeetup(false)
+            .build();
+    }
+}
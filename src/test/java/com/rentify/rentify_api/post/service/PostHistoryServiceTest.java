@@ -0,0 +1,88 @@
+package com.rentify.rentify_api.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.post.dto.PostVersionResponse;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.post.entity.PostHistory;
+import com.rentify.rentify_api.post.repository.PostHistoryRepository;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+@ExtendWith(MockitoExtension.class)
+class PostHistoryServiceTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long OWNER_ID = 10L;
+
+    @Mock
+    private PostHistoryRepository postHistoryRepository;
+    @Mock
+    private PostRepository postRepository;
+    @InjectMocks
+    private PostHistoryService postHistoryService;
+
+    @Test
+    @DisplayName("작성자가 아니면 이력을 조회할 수 없다")
+    void rejects_non_owner() {
+        // given
+        givenPost();
+
+        // when & then
+        assertThatThrownBy(() -> postHistoryService.getHistory(POST_ID, 99L))
+            .isInstanceOf(AccessDeniedException.class);
+        verify(postHistoryRepository, never()).findByPostIdOrderByPostVersionAscIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("게시글 버전 순서대로 delta 를 적용해 특정 버전을 복원한다")
+    void rebuilds_version_in_post_version_order() {
+        // given
+        givenPost();
+        given(postHistoryRepository.findByPostIdOrderByPostVersionAscIdAsc(POST_ID)).willReturn(List.of(
+            history(0L, "{\"title\":\"캠핑 의자\",\"pricePerDay\":1000}"),
+            history(1L, "{\"pricePerDay\":2000}"),
+            history(2L, "{\"title\":\"접이식 캠핑 의자\"}")
+        ));
+
+        // when
+        PostVersionResponse response = postHistoryService.getVersion(POST_ID, OWNER_ID, 2);
+
+        // then
+        assertThat(response.snapshot())
+            .containsEntry("title", "캠핑 의자")
+            .containsEntry("pricePerDay", 2000);
+    }
+
+    private void givenPost() {
+        Post post = Post.builder()
+            .id(POST_ID)
+            .user(User.builder().id(OWNER_ID).build())
+            .build();
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(post));
+    }
+
+    private static PostHistory history(Long postVersion, String delta) {
+        return PostHistory.builder()
+            .postId(POST_ID)
+            .postVersion(postVersion)
+            .delta(delta)
+            .createAt(LocalDateTime.now())
+            .build();
+    }
+}
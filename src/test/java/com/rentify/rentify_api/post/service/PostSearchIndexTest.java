@@ -0,0 +1,106 @@
+package com.rentify.rentify_api.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.common.cache.CacheInvalidation;
+import com.rentify.rentify_api.common.cache.CacheInvalidationBus;
+import com.rentify.rentify_api.post.dto.PostSearchDocument;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ObjectProvider<CacheInvalidationBus> invalidationBusProvider;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(invalidationBusProvider.getIfAvailable()).willReturn(invalidationBus);
+        postSearchIndex = new PostSearchIndex(
+            postRepository, invalidationBusProvider, new SimpleMeterRegistry(), true, 2000
+        );
+        postSearchIndex.markReady();
+    }
+
+    @Test
+    @DisplayName("색인한 게시글은 다른 노드에 알린다")
+    void index_broadcasts_post_id() {
+        // given
+        Post post = Post.builder().id(1L).title("캠핑 의자").description("접이식").build();
+
+        // when
+        postSearchIndex.indexAfterCommit(post);
+
+        // then
+        ArgumentCaptor<CacheInvalidation> captor = ArgumentCaptor.forClass(CacheInvalidation.class);
+        verify(invalidationBus).publish(captor.capture());
+        assertThat(captor.getValue().cacheName()).isEqualTo(PostSearchIndex.INVALIDATION_NAME);
+        assertThat(captor.getValue().key()).isEqualTo("1");
+        assertThat(postSearchIndex.findCandidates("캠핑")).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 바뀐 게시글은 DB 에서 다시 읽어 색인한다")
+    void remote_change_reindexes_post() {
+        // given
+        given(postRepository.findSearchDocument(1L)).willReturn(Optional.of(
+            new PostSearchDocument(1L, "등산 스틱", null, LocalDateTime.now())
+        ));
+
+        // when
+        postSearchIndex.onInvalidation(CacheInvalidation.evict("other-node", PostSearchIndex.INVALIDATION_NAME, "1"));
+
+        // then
+        assertThat(postSearchIndex.findCandidates("등산")).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 삭제된 게시글은 색인에서 뺀다")
+    void remote_delete_removes_post() {
+        // given
+        postSearchIndex.index(new PostSearchDocument(1L, "캠핑 의자", null, LocalDateTime.now()));
+        given(postRepository.findSearchDocument(1L)).willReturn(Optional.empty());
+
+        // when
+        postSearchIndex.onInvalidation(CacheInvalidation.evict("other-node", PostSearchIndex.INVALIDATION_NAME, "1"));
+
+        // then
+        assertThat(postSearchIndex.findCandidates("캠핑")).contains(List.of());
+        assertThat(postSearchIndex.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 이름의 메시지는 무시한다")
+    void ignores_other_topics() {
+        // when
+        postSearchIndex.onInvalidation(CacheInvalidation.evict("other-node", "posts", "1"));
+
+        // then
+        verify(postRepository, never()).findSearchDocument(any());
+    }
+}
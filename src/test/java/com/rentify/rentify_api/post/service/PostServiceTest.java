@@ -3,7 +3,9 @@ package com.rentify.rentify_api.post.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -12,33 +14,57 @@ import com.rentify.rentify_api.category.exception.CategoryNotFoundException;
 import com.rentify.rentify_api.category.repository.CategoryRepository;
 import com.rentify.rentify_api.common.exception.InvalidValueException;
 import com.rentify.rentify_api.common.exception.NotFoundException;
+import com.rentify.rentify_api.common.response.PageResponse;
+import com.rentify.rentify_api.common.response.SliceResponse;
 import com.rentify.rentify_api.image.entity.Image;
 import com.rentify.rentify_api.image.service.ImageService;
+import com.rentify.rentify_api.post.dto.PostAvailabilityRequest;
+import com.rentify.rentify_api.post.dto.PostAvailabilityResponse;
+import com.rentify.rentify_api.post.dto.PostCursor;
 import com.rentify.rentify_api.post.dto.PostDetailResponse;
+import com.rentify.rentify_api.post.dto.PostSearchCondition;
+import com.rentify.rentify_api.post.dto.PostSummary;
+import com.rentify.rentify_api.post.dto.PostUpdatedEvent;
 import com.rentify.rentify_api.post.dto.PostFormRequest;
 import com.rentify.rentify_api.post.entity.Post;
-import com.rentify.rentify_api.post.repository.PostHistoryRepository;
+import com.rentify.rentify_api.post.entity.PostStatus;
 import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.rental.dto.RentalPeriodInfo;
 import com.rentify.rentify_api.rental.repository.RentalRepository;
+import com.rentify.rentify_api.rental.service.RentalViewProjector;
 import com.rentify.rentify_api.user.entity.User;
 import com.rentify.rentify_api.user.exception.UserNotFoundException;
 import com.rentify.rentify_api.user.repository.UserRepository;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,7 +81,27 @@ class PostServiceTest {
     @Mock
     private ImageService imageService;
     @Mock
-    private PostHistoryRepository postHistoryRepository;
+    private PostHistoryRecorder postHistoryRecorder;
+    @Mock
+    private RentalViewProjector rentalViewProjector;
+    @Mock
+    private PostSearchIndex postSearchIndex;
+    @Mock
+    private PostCountCache postCountCache;
+    @Mock
+    private PostExistenceFilter postExistenceFilter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private Root<Post> root;
+    @Mock
+    private CriteriaQuery<?> criteriaQuery;
+    @Mock
+    private HibernateCriteriaBuilder criteriaBuilder;
+    @Mock
+    private Path<Object> idPath;
+    @Captor
+    private ArgumentCaptor<Specification<Post>> specCaptor;
     @InjectMocks
     private PostService postService;
 
@@ -109,7 +155,7 @@ class PostServiceTest {
 
         // verify
         verify(imageService, times(1)).saveImages(savedPost, request.getImageUrls());
-        verify(postHistoryRepository, times(1)).save(any());
+        verify(postHistoryRecorder, times(1)).recordCreated(any());
     }
 
     @Test
@@ -127,7 +173,7 @@ class PostServiceTest {
 
         // verify
         verify(imageService, times(0)).saveImages(any(), any());
-        verify(postHistoryRepository, times(0)).save(any());
+        verify(postHistoryRecorder, times(0)).recordCreated(any());
         verify(postRepository, times(0)).save(any());
     }
 
@@ -147,7 +193,7 @@ class PostServiceTest {
 
         // verify
         verify(imageService, times(0)).saveImages(any(), any());
-        verify(postHistoryRepository, times(0)).save(any());
+        verify(postHistoryRecorder, times(0)).recordCreated(any());
         verify(postRepository, times(0)).save(any());
     }
 
@@ -199,6 +245,10 @@ class PostServiceTest {
             "http://test.com/1.jpg",
             "http://test.com/2.jpg"
         );
+        // 변형이 없는 이미지는 원본 URL 로 대신함
+        assertThat(response.getImages())
+            .extracting(PostDetailResponse.ImageVariants::getCardUrl)
+            .containsExactly("http://test.com/1.jpg", "http://test.com/2.jpg");
         assertThat(response.getRentalPeriods()).isNotNull();
 
         // verify
@@ -217,6 +267,22 @@ class PostServiceTest {
         assertThatThrownBy(() -> postService.getPost(invalidPostId))
             .isInstanceOf(NotFoundException.class)
             .hasMessage("게시글을 찾을 수 없습니다.");
+        verify(postExistenceFilter).markMissing(invalidPostId);
+    }
+
+    @Test
+    @DisplayName("존재 필터가 없는 게시글로 판단하면 DB 조회 없이 실패")
+    void get_post_rejected_by_existence_filter() {
+        // given
+        Long invalidPostId = 10L;
+
+        given(postExistenceFilter.isDefinitelyMissing(invalidPostId)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPost(invalidPostId))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage("게시글을 찾을 수 없습니다.");
+        verify(postRepository, never()).findById(any());
     }
 
     @Test
@@ -235,6 +301,7 @@ class PostServiceTest {
             .description("테스트 내용")
             .maxRentalDays(90)
             .user(mockUser)
+            .category(Category.builder().id(2L).name("이전 카테고리").build())
             .isParcel(true)
             .isMeetup(false)
             .thumbnailUrl("http://old-image.com/old.jpg")
@@ -261,6 +328,7 @@ class PostServiceTest {
         given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
         given(categoryRepository.findById(request.getCategoryId()))
             .willReturn(Optional.of(mockCategory));
+        given(imageService.syncImages(mockPost, request.getImageUrls())).willReturn(true);
 
         // when
         postService.updatePost(postId, userId, request);
@@ -272,9 +340,10 @@ class PostServiceTest {
         assertThat(mockPost.getThumbnailUrl()).isEqualTo("http://new-image.com/new.jpg");
 
         // verify
-        verify(imageService, times(1)).saveImages(any(), any());
-        verify(postHistoryRepository, times(1)).save(any());
+        verify(imageService, times(1)).syncImages(any(), any());
+        verify(postHistoryRecorder, times(1)).recordUpdated(eq(mockPost), any(), any());
         verify(postRepository, times(0)).save(any());
+        verify(eventPublisher).publishEvent(new PostUpdatedEvent(postId));
     }
 
     @Test
@@ -322,25 +391,93 @@ class PostServiceTest {
         // given
         Pageable pageable = PageRequest.of(0, 10, Sort.by("createAt").descending());
 
-        Post mockPost = Post.builder()
-            .id(1L)
-            .title("검색된 게시글")
-            .description("내용")
-            .user(User.builder().id(1L).name("테스트유저").build())
-            .category(Category.builder().id(1L).name("테스트카테고리").build())
-            .images(new ArrayList<>())
-            .build();
+        PostSummary summary = new PostSummary(
+            1L, 1L, "테스트유저", "테스트카테고리", "검색된 게시글", null,
+            10000, true, false, PostStatus.AVAILABLE, LocalDateTime.now()
+        );
 
-        Page<Post> mockPage = new PageImpl<>(List.of(mockPost), pageable, 1);
+        Page<PostSummary> mockPage = new PageImpl<>(List.of(summary), pageable, 1);
 
-        given(postRepository.findAllSearch(null, null, null, pageable)).willReturn(mockPage);
+        given(postRepository.findSummaries(any(Specification.class), eq(pageable), any(LongSupplier.class)))
+            .willReturn(mockPage);
 
         // when
-        Page<PostDetailResponse> result = postService.getPosts(null, null, null, pageable);
+        PageResponse<PostSummary> result = postService.getPosts(null, null, null, pageable);
 
         // then
-        assertThat(result.getTotalElements()).isEqualTo(1);
-        assertThat(result.getContent().getFirst().getTitle()).isEqualTo("검색된 게시글");
+        assertThat(result.page().totalElements()).isEqualTo(1);
+        assertThat(result.content().getFirst().title()).isEqualTo("검색된 게시글");
+    }
+
+    @Test
+    @DisplayName("같은 조건의 개수가 캐시되어 있으면 count 쿼리 없이 근사값으로 표시")
+    void get_posts_with_cached_count() {
+        // given
+        Pageable pageable = PageRequest.of(1, 10, Sort.by("createAt").descending());
+
+        PostSummary summary = new PostSummary(
+            1L, 1L, "테스트유저", "테스트카테고리", "검색된 게시글", null,
+            10000, true, false, PostStatus.AVAILABLE, LocalDateTime.now()
+        );
+        List<PostSummary> content = Collections.nCopies(10, summary);
+
+        given(postCountCache.find(any(PostSearchCondition.class))).willReturn(OptionalLong.of(150));
+        given(postRepository.findSummaries(any(Specification.class), eq(pageable), any(LongSupplier.class)))
+            .willAnswer(invocation -> {
+                LongSupplier total = invocation.getArgument(2);
+                return new PageImpl<>(content, pageable, total.getAsLong());
+            });
+
+        // when
+        PageResponse<PostSummary> result = postService.getPosts(null, null, null, pageable);
+
+        // then
+        assertThat(result.page().totalElements()).isEqualTo(150);
+        assertThat(result.page().totalExact()).isFalse();
+        verify(postRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("커서 기반 게시글 조회 시 size + 1 건으로 다음 페이지 커서 생성")
+    void get_posts_by_cursor_success() {
+        // given
+        PostSearchCondition condition = PostSearchCondition.builder().build();
+        LocalDateTime createAt = LocalDateTime.of(2026, 2, 1, 15, 49, 40);
+
+        List<PostSummary> rows = List.of(
+            new PostSummary(3L, 1L, "테스트유저", "테스트카테고리", "첫 번째", null,
+                10000, true, false, PostStatus.AVAILABLE, createAt),
+            new PostSummary(2L, 1L, "테스트유저", "테스트카테고리", "두 번째", null,
+                10000, true, false, PostStatus.AVAILABLE, createAt.minusDays(1))
+        );
+
+        given(postRepository.findSummaries(
+            any(Specification.class), eq(Sort.by(Sort.Direction.DESC, "createAt", "id")), eq(2)
+        )).willReturn(rows);
+
+        // when
+        SliceResponse<PostSummary> result = postService.getPosts(condition, "", "createAt,desc", 1);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+
+        PostCursor next = PostCursor.of(result.nextCursor(), null);
+        assertThat(next.postId()).isEqualTo(3L);
+        assertThat(next.value()).isEqualTo(createAt);
+        assertThat(next.direction()).isEqualTo(Sort.Direction.DESC);
+    }
+
+    @Test
+    @DisplayName("커서 기반 게시글 조회 시 지원하지 않는 정렬 기준이면 실패")
+    void get_posts_by_cursor_failed_by_sort() {
+        // given
+        PostSearchCondition condition = PostSearchCondition.builder().build();
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPosts(condition, "", "relevance", 20))
+            .isInstanceOf(InvalidValueException.class)
+            .hasMessageContaining("정렬 기준 'relevance'은(는) 지원하지 않습니다");
     }
 
     @Test
@@ -386,14 +523,169 @@ class PostServiceTest {
         Pageable pageable = Pageable.unpaged();
         String keyword = "not_exist_keyword";
 
-        given(postRepository.findAllSearch(null, null, keyword, pageable)).willReturn(Page.empty());
+        given(postRepository.findSummaries(specCaptor.capture(), eq(pageable), any(LongSupplier.class)))
+            .willReturn(Page.empty());
 
         // when
-        Page<PostDetailResponse> result = postService.getPosts(null, null, keyword, pageable);
+        PageResponse<PostSummary> result = postService.getPosts(null, null, keyword, pageable);
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result.getContent()).isEmpty();
-        assertThat(result.getTotalElements()).isEqualTo(0);
+        assertThat(result.content()).isEmpty();
+        assertThat(result.page().totalElements()).isEqualTo(0);
+
+        // '_' 는 LIKE 와일드카드가 아닌 문자 그대로 검색되도록 이스케이프되어 전달
+        specCaptor.getValue().toPredicate(root, criteriaQuery, criteriaBuilder);
+        verify(criteriaBuilder, times(2)).ilike(any(), eq("%not!_exist!_keyword%"), eq('!'));
+    }
+
+    @Test
+    @DisplayName("검색 색인에 후보가 있으면 후보 id 안에서만 검색어 확인")
+    void get_posts_by_search_index_candidates() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createAt").descending());
+        List<Long> candidates = List.of(3L, 8L);
+
+        given(postSearchIndex.findCandidates("갤럭시")).willReturn(Optional.of(candidates));
+        given(postRepository.findSummaries(specCaptor.capture(), eq(pageable), any(LongSupplier.class)))
+            .willReturn(Page.empty());
+        given(root.get("id")).willReturn(idPath);
+
+        // when
+        PageResponse<PostSummary> result = postService.getPosts(null, null, "갤럭시", pageable);
+
+        // then
+        assertThat(result.content()).isEmpty();
+
+        specCaptor.getValue().toPredicate(root, criteriaQuery, criteriaBuilder);
+        verify(idPath).in(candidates);
+        verify(criteriaBuilder, times(2)).ilike(any(), eq("%갤럭시%"), eq('!'));
+    }
+
+    @Test
+    @DisplayName("검색 색인에 후보가 없으면 DB 조회 없이 빈 결과 반환")
+    void get_posts_without_search_index_candidates() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createAt").descending());
+
+        given(postSearchIndex.findCandidates("갤럭시")).willReturn(Optional.of(List.of()));
+
+        // when
+        PageResponse<PostSummary> result = postService.getPosts(null, null, "갤럭시", pageable);
+
+        // then
+        assertThat(result.content()).isEmpty();
+        verify(postRepository, never())
+            .findSummaries(any(Specification.class), any(Pageable.class), any(LongSupplier.class));
+    }
+
+    @Test
+    @DisplayName("관련도순 정렬 시 정렬 필드 없이 페이지 정보만 전달")
+    void get_posts_by_relevance() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("relevance"));
+
+        given(postRepository.findSummaries(any(Specification.class), eq(PageRequest.of(0, 10)), any(LongSupplier.class)))
+            .willReturn(Page.empty());
+
+        // when
+        PageResponse<PostSummary> result = postService.getPosts(null, null, " 갤럭시 ", pageable);
+
+        // then
+        assertThat(result.content()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어 없이 관련도순 정렬 시 게시글 조회 실패")
+    void get_posts_failed_by_relevance_without_keyword() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("relevance"));
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPosts(null, null, null, pageable))
+            .isInstanceOf(InvalidValueException.class)
+            .hasMessageContaining("검색어");
+    }
+
+    @Test
+    @DisplayName("여러 게시글의 예약 현황을 일 단위 비트맵으로 반환")
+    void get_availability_bitmaps() {
+        // given
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        LocalDate to = LocalDate.of(2026, 10, 31);
+        PostAvailabilityRequest request = new PostAvailabilityRequest(List.of(11L, 12L), from, to);
+
+        given(rentalRepository.findActivePeriodsByPostIds(any(), any(), any(), any())).willReturn(List.of(
+            // 조회 시작일 이전부터 이어지는 대여는 잘려서 0~1번 비트만 표시
+            new RentalPeriodInfo(1L, 11L, LocalDate.of(2026, 9, 28), LocalDate.of(2026, 10, 2)),
+            new RentalPeriodInfo(2L, 11L, LocalDate.of(2026, 10, 10), LocalDate.of(2026, 10, 12))
+        ));
+
+        // when
+        PostAvailabilityResponse response = postService.getAvailability(request);
+
+        // then
+        assertThat(response.days()).isEqualTo(31);
+
+        BitSet booked = BitSet.valueOf(Base64.getDecoder().decode(response.bitmaps().get(11L)));
+        assertThat(booked.stream().boxed().toList()).containsExactly(0, 1, 9, 10, 11);
+        assertThat(response.bitmaps().get(12L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예약 현황 조회 기간이 최대 일수를 넘으면 실패")
+    void get_availability_failed_by_window() {
+        // given
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        PostAvailabilityRequest request = new PostAvailabilityRequest(List.of(11L), from, from.plusDays(365));
+
+        // when & then
+        assertThatThrownBy(() -> postService.getAvailability(request))
+            .isInstanceOf(InvalidValueException.class);
+    }
+
+    @Test
+    @DisplayName("대여 가능 기간 전달 시 기간 내 예약이 없는 게시글만 조회")
+    void get_posts_by_available_period() {
+        // given
+        Pageable pageable = Pageable.unpaged();
+        LocalDate from = LocalDate.of(2026, 10, 20);
+        LocalDate to = LocalDate.of(2026, 10, 25);
+
+        given(postRepository.findSummaries(any(Specification.class), eq(pageable), any(LongSupplier.class)))
+            .willReturn(Page.empty());
+
+        // when
+        PageResponse<PostSummary> result = postService.getPosts(null, null, null, from, to, pageable);
+
+        // then
+        assertThat(result.content()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최소 가격이 최대 가격보다 크면 게시글 조회 실패")
+    void get_posts_failed_by_price_range() {
+        // given
+        PostSearchCondition condition = PostSearchCondition.builder()
+            .minPrice(20000)
+            .maxPrice(10000)
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPosts(condition, Pageable.unpaged()))
+            .isInstanceOf(InvalidValueException.class)
+            .hasMessageContaining("최소 가격");
+    }
+
+    @Test
+    @DisplayName("대여 가능 기간 중 하나만 전달 시 게시글 조회 실패")
+    void get_posts_failed_by_half_available_period() {
+        // given
+        LocalDate from = LocalDate.of(2026, 10, 20);
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPosts(null, null, null, from, null, Pageable.unpaged()))
+            .isInstanceOf(InvalidValueException.class)
+            .hasMessageContaining("시작일과 종료일을 함께");
     }
 }
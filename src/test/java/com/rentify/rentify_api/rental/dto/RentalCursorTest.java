@@ -0,0 +1,82 @@
+package com.rentify.rentify_api.rental.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rentify.rentify_api.common.exception.InvalidValueException;
+import com.rentify.rentify_api.common.util.CursorUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RentalCursorTest {
+
+    @Test
+    @DisplayName("마지막 행으로 만든 커서를 다시 읽으면 같은 (createdAt, rentalId) 위치가 된다")
+    void encode_decode_round_trip() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_456_000);
+        RentalResponse last = RentalResponse.builder().rentalId(42L).createdAt(createdAt).build();
+
+        // when
+        RentalCursor cursor = RentalCursor.from(RentalCursor.encode(last));
+
+        // then
+        assertThat(cursor).isEqualTo(new RentalCursor(createdAt, 42L));
+    }
+
+    @Test
+    @DisplayName("초 단위 이하가 0 인 시각도 그대로 되돌린다")
+    void round_trip_without_fraction() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 9, 30);
+        RentalResponse last = RentalResponse.builder().rentalId(7L).createdAt(createdAt).build();
+
+        // when & then
+        assertThat(RentalCursor.from(RentalCursor.encode(last))).isEqualTo(new RentalCursor(createdAt, 7L));
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 모든 행보다 뒤의 위치에서 시작한다")
+    void blank_cursor_starts_from_first_page() {
+        // when
+        RentalCursor cursor = RentalCursor.from(null);
+
+        // then
+        assertThat(RentalCursor.from(" ")).isEqualTo(cursor);
+        assertThat(cursor.rentalId()).isEqualTo(Long.MAX_VALUE);
+        assertThat(cursor.createdAt()).isAfter(LocalDateTime.now().plusYears(100));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "not a cursor!",        // Base64 가 아님
+        "YWJj",                 // "abc": 구분자 없음
+        "NDJ8bm90LWEtZGF0ZQ",   // "42|not-a-date"
+    })
+    @DisplayName("Base64 가 아니거나 형식이 맞지 않는 커서는 거절한다")
+    void rejects_garbage_cursor(String cursor) {
+        // when & then
+        assertThatThrownBy(() -> RentalCursor.from(cursor))
+            .isInstanceOf(InvalidValueException.class)
+            .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("값이 변조된 커서는 거절한다")
+    void rejects_tampered_cursor() {
+        // given: 정상 커서를 풀어 rentalId 자리를 숫자가 아닌 값으로 바꿈
+        String valid = CursorUtil.encode(42L, LocalDateTime.of(2026, 10, 18, 9, 30));
+        String decoded = new String(Base64.getUrlDecoder().decode(valid), StandardCharsets.UTF_8);
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(decoded.replace("42", "4x2").getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> RentalCursor.from(tampered))
+            .isInstanceOf(InvalidValueException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.rentify.rentify_api.rental.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentify.rentify_api.post.entity.PostStatus;
+import com.rentify.rentify_api.rental.dto.RentalCursor;
+import com.rentify.rentify_api.rental.entity.ReceiveMethod;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.entity.RentalView;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 내 대여 목록 커서(keyset) 조회 회귀 테스트.
+ * 신청 시각이 같은 행이 페이지 경계에 걸쳐도 rentalId 로 순서가 정해져 빠지거나 중복되지 않아야 합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RentalViewRepositoryTest {
+
+    private static final long BORROWER_ID = 1L;
+    private static final long LENDER_ID = 2L;
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    @Autowired
+    private RentalViewRepository rentalViewRepository;
+
+    @Test
+    @DisplayName("신청 시각이 같으면 rentalId 내림차순으로 정렬한다")
+    void ties_are_ordered_by_rental_id() {
+        // given
+        save(10L, SAME_TIME);
+        save(12L, SAME_TIME);
+        save(11L, SAME_TIME);
+        save(13L, SAME_TIME.minusMinutes(1));
+
+        // when
+        List<RentalView> first = findAfter(RentalCursor.from(null), 10);
+
+        // then
+        assertThat(first).extracting(RentalView::getRentalId).containsExactly(12L, 11L, 10L, 13L);
+    }
+
+    @Test
+    @DisplayName("같은 신청 시각의 행이 페이지 경계에 걸쳐도 빠지거나 중복되지 않는다")
+    void pages_split_ties_without_gaps() {
+        // given
+        save(10L, SAME_TIME);
+        save(11L, SAME_TIME);
+        save(12L, SAME_TIME);
+        save(13L, SAME_TIME);
+        save(9L, SAME_TIME.minusSeconds(1));
+
+        // when: 두 건씩 읽으며 마지막 행 위치로 다음 페이지를 조회
+        List<Long> read = new ArrayList<>();
+        RentalCursor cursor = RentalCursor.from(null);
+        List<RentalView> page;
+        do {
+            page = findAfter(cursor, 2);
+            page.forEach(view -> read.add(view.getRentalId()));
+            if (!page.isEmpty()) {
+                RentalView last = page.get(page.size() - 1);
+                cursor = new RentalCursor(last.getCreatedAt(), last.getRentalId());
+            }
+        } while (page.size() == 2);
+
+        // then
+        assertThat(read).containsExactly(13L, 12L, 11L, 10L, 9L);
+    }
+
+    @Test
+    @DisplayName("커서 위치의 행과 그보다 앞선 행은 다시 읽지 않는다")
+    void cursor_row_is_excluded() {
+        // given
+        save(10L, SAME_TIME);
+        save(11L, SAME_TIME);
+        save(12L, SAME_TIME.plusSeconds(1));
+
+        // when
+        List<RentalView> next = findAfter(new RentalCursor(SAME_TIME, 11L), 10);
+
+        // then
+        assertThat(next).extracting(RentalView::getRentalId).containsExactly(10L);
+    }
+
+    private List<RentalView> findAfter(RentalCursor cursor, int size) {
+        return rentalViewRepository.findByBorrowerIdAfter(
+            BORROWER_ID, cursor.createdAt(), cursor.rentalId(), PageRequest.of(0, size)
+        );
+    }
+
+    private void save(Long rentalId, LocalDateTime createdAt) {
+        rentalViewRepository.saveAndFlush(RentalView.builder()
+            .rentalId(rentalId)
+            .borrowerId(BORROWER_ID)
+            .lenderId(LENDER_ID)
+            .postId(100L)
+            .lenderName("lender")
+            .title("title")
+            .postStatus(PostStatus.AVAILABLE)
+            .rentalStatus(RentalStatus.REQUESTED)
+            .startDate(LocalDate.of(2026, 11, 1))
+            .endDate(LocalDate.of(2026, 11, 3))
+            .receiveMethod(ReceiveMethod.PARCEL)
+            .totalPrice(10000)
+            .createdAt(createdAt)
+            .build());
+    }
+}
@@ -0,0 +1,75 @@
+package com.rentify.rentify_api.rental.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.rental.dto.RentalHoldInfo;
+import com.rentify.rentify_api.rental.service.RentalHoldService;
+import com.rentify.rentify_api.rental.service.RentalHoldTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RentalHoldExpirySchedulerTest {
+
+    @Mock
+    private RentalHoldService rentalHoldService;
+
+    private RentalHoldTimer rentalHoldTimer;
+    private RentalHoldExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        rentalHoldTimer = new RentalHoldTimer(30, 30, 60_000, 1_000, 512);
+        scheduler = new RentalHoldExpiryScheduler(rentalHoldTimer, rentalHoldService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 2);
+        ReflectionTestUtils.setField(scheduler, "resyncOverlap", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("첫 복구는 전체를 id 순으로 나눠 읽고, 이후 복구는 직전 복구 시각 - overlap 이후에 신청된 대여만 읽는다")
+    void resync_reads_only_recent_holds_after_first_pass() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(rentalHoldService.findHolds(isNull(), anyLong(), anyInt())).willReturn(
+            List.of(new RentalHoldInfo(1L, now), new RentalHoldInfo(2L, now)),
+            List.of(new RentalHoldInfo(3L, now)),
+            List.of()
+        );
+        given(rentalHoldService.findHolds(any(LocalDateTime.class), eq(0L), anyInt())).willReturn(List.of());
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        scheduler.resync();
+        scheduler.resync();
+
+        // then
+        assertThat(rentalHoldTimer.size()).isEqualTo(3);
+        verify(rentalHoldService).findHolds(null, 2L, 2);
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(rentalHoldService, times(2)).findHolds(since.capture(), eq(0L), eq(2));
+        assertThat(since.getAllValues().get(0)).isNull();
+        assertThat(since.getAllValues().get(1))
+            .isAfterOrEqualTo(before.minusMinutes(5))
+            .isBefore(LocalDateTime.now().minusMinutes(4));
+    }
+}
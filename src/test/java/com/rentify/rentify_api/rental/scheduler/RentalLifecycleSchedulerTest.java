@@ -0,0 +1,77 @@
+package com.rentify.rentify_api.rental.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.post.service.PostCountCache;
+import com.rentify.rentify_api.rental.dto.RentalTransitionResult;
+import com.rentify.rentify_api.rental.service.RentalLifecycleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RentalLifecycleSchedulerTest {
+
+    @Mock
+    private RentalLifecycleService rentalLifecycleService;
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+    @Mock
+    private PostCountCache postCountCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RentalLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new RentalLifecycleScheduler(
+            rentalLifecycleService, cacheManagerProvider, postCountCache, meterRegistry
+        );
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+        ReflectionTestUtils.setField(scheduler, "maxChunksPerRun", 10);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차면 다음 청크를 이어서 처리하고, 옮긴 건수와 지연 일수를 기록한다")
+    void drains_chunks_and_records_metrics() {
+        // given
+        given(rentalLifecycleService.startDueRentals(any(LocalDate.class), anyInt())).willReturn(
+            new RentalTransitionResult(2, List.of(1L, 2L)),
+            new RentalTransitionResult(1, List.of(3L))
+        );
+        given(rentalLifecycleService.endOverdueRentals(any(LocalDate.class), anyInt()))
+            .willReturn(RentalTransitionResult.EMPTY);
+        given(rentalLifecycleService.startLagDays(any(LocalDate.class))).willReturn(0L);
+        given(rentalLifecycleService.endLagDays(any(LocalDate.class))).willReturn(3L);
+
+        // when
+        scheduler.run();
+
+        // then
+        verify(rentalLifecycleService, times(2)).startDueRentals(any(LocalDate.class), anyInt());
+        verify(rentalLifecycleService, times(1)).endOverdueRentals(any(LocalDate.class), anyInt());
+
+        assertThat(meterRegistry.get("rental.lifecycle.moved").tag("transition", "start")
+            .summary().totalAmount()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("rental.lifecycle.moved").tag("transition", "end")
+            .summary().totalAmount()).isZero();
+        assertThat(meterRegistry.get("rental.lifecycle.lag.days").tag("transition", "end")
+            .gauge().value()).isEqualTo(3.0);
+    }
+}
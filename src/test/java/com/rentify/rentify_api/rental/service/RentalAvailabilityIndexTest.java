@@ -0,0 +1,172 @@
+package com.rentify.rentify_api.rental.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.common.cache.CacheInvalidation;
+import com.rentify.rentify_api.common.cache.CacheInvalidationBus;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.rental.dto.RentalChangedEvent;
+import com.rentify.rentify_api.rental.dto.RentalPeriodInfo;
+import com.rentify.rentify_api.rental.entity.Rental;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.repository.RentalRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class RentalAvailabilityIndexTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private ObjectProvider<CacheInvalidationBus> invalidationBusProvider;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private RentalAvailabilityIndex rentalAvailabilityIndex;
+
+    private final Long postId = 1L;
+    private final LocalDate base = LocalDate.now().plusDays(10);
+
+    @BeforeEach
+    void setUp() {
+        rentalAvailabilityIndex = index(Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("겹치는 기간이 있으면 대여 불가, 겹치지 않으면 대여 가능")
+    void overlap_check() {
+        // given
+        given(rentalRepository.findActivePeriodsByPostId(eq(postId), any(), any()))
+            .willReturn(List.of(new RentalPeriodInfo(10L, postId, base, base.plusDays(2))));
+
+        // when & then
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base.plusDays(2), base.plusDays(4))).isFalse();
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base.minusDays(3), base)).isFalse();
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base.plusDays(3), base.plusDays(5))).isTrue();
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base.minusDays(3), base.minusDays(1))).isTrue();
+
+        // verify: 최초 1회만 DB에서 적재
+        verify(rentalRepository, times(1)).findActivePeriodsByPostId(eq(postId), any(), any());
+    }
+
+    @Test
+    @DisplayName("대여 등록/취소 시 인덱스가 갱신된다")
+    void reserve_and_release() {
+        // given
+        given(rentalRepository.findActivePeriodsByPostId(eq(postId), any(), any()))
+            .willReturn(List.of());
+        Rental rental = Rental.builder()
+            .id(20L)
+            .post(Post.builder().id(postId).build())
+            .startDate(base)
+            .endDate(base.plusDays(1))
+            .build();
+
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isTrue();
+
+        // when
+        rentalAvailabilityIndex.reserve(rental);
+
+        // then
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isFalse();
+
+        // when
+        rentalAvailabilityIndex.release(rental);
+
+        // then
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isTrue();
+    }
+
+    @Test
+    @DisplayName("차단 상태를 벗어나는 대여 변경 이벤트를 받으면 기간이 해제된다")
+    void terminal_status_event_releases_period() {
+        // given
+        given(rentalRepository.findActivePeriodsByPostId(eq(postId), any(), any()))
+            .willReturn(List.of(new RentalPeriodInfo(30L, postId, base, base.plusDays(1))));
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isFalse();
+
+        // when
+        rentalAvailabilityIndex.onRentalChanged(new RentalChangedEvent(postId, 30L, RentalStatus.RETURNED));
+
+        // then
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재 중에 해제된 대여는 조회 결과에 있어도 인덱스에 남지 않는다")
+    void release_during_load_is_not_resurrected() {
+        // given: 조회가 끝난 뒤 결과를 채우기 전에 해제가 커밋된 상황
+        given(rentalRepository.findActivePeriodsByPostId(eq(postId), any(), any())).willAnswer(invocation -> {
+            rentalAvailabilityIndex.release(postId, 40L);
+            return List.of(new RentalPeriodInfo(40L, postId, base, base.plusDays(1)));
+        });
+
+        // when & then
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 해당 게시글을 DB 에서 다시 적재한다")
+    void remote_invalidation_reloads_calendar() {
+        // given
+        given(rentalRepository.findActivePeriodsByPostId(eq(postId), any(), any()))
+            .willReturn(List.of())
+            .willReturn(List.of(new RentalPeriodInfo(50L, postId, base, base.plusDays(1))));
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isTrue();
+
+        // when
+        rentalAvailabilityIndex.onInvalidation(
+            CacheInvalidation.evict("other-node", RentalAvailabilityIndex.INVALIDATION_NAME, String.valueOf(postId))
+        );
+
+        // then
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isFalse();
+        verify(rentalRepository, times(2)).findActivePeriodsByPostId(eq(postId), any(), any());
+    }
+
+    @Test
+    @DisplayName("달력은 calendar-ttl 이 지나면 버리고 DB 에서 다시 적재한다 (놓친 무효화 메시지가 계속 남지 않음)")
+    void calendar_expires_after_ttl() {
+        // given: 만료 시간 0 = 적재한 달력을 바로 버림
+        rentalAvailabilityIndex = index(Duration.ZERO);
+        given(rentalRepository.findActivePeriodsByPostId(eq(postId), any(), any()))
+            .willReturn(List.of())
+            .willReturn(List.of(new RentalPeriodInfo(60L, postId, base, base.plusDays(1))));
+
+        // when & then: 다른 노드의 예약 알림을 받지 못했어도 다시 적재하면서 반영됨
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isTrue();
+        assertThat(rentalAvailabilityIndex.isAvailable(postId, base, base)).isFalse();
+        verify(rentalRepository, times(2)).findActivePeriodsByPostId(eq(postId), any(), any());
+    }
+
+    @Test
+    @DisplayName("노드 간 채널이 있으면 인덱스는 확정 판단이 아니다")
+    void not_authoritative_with_invalidation_bus() {
+        // given
+        given(invalidationBusProvider.getIfAvailable()).willReturn(invalidationBus);
+
+        // when & then
+        assertThat(rentalAvailabilityIndex.isAuthoritative()).isTrue();
+        assertThat(index(Duration.ofMinutes(5)).isAuthoritative()).isFalse();
+    }
+
+    private RentalAvailabilityIndex index(Duration calendarTtl) {
+        return new RentalAvailabilityIndex(rentalRepository, invalidationBusProvider, calendarTtl, 1000);
+    }
+}
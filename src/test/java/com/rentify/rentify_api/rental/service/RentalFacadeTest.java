@@ -0,0 +1,248 @@
+package com.rentify.rentify_api.rental.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.common.cache.CacheInvalidationBus;
+import com.rentify.rentify_api.post.entity.Post;
+import com.rentify.rentify_api.post.repository.PostRepository;
+import com.rentify.rentify_api.rental.dto.RentalRequest;
+import com.rentify.rentify_api.rental.entity.ReceiveMethod;
+import com.rentify.rentify_api.rental.entity.Rental;
+import com.rentify.rentify_api.rental.exception.RentalNotAvailableException;
+import com.rentify.rentify_api.rental.repository.RentalRepository;
+import com.rentify.rentify_api.rental.repository.RentalViewRepository;
+import com.rentify.rentify_api.user.entity.User;
+import com.rentify.rentify_api.user.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 게시글 단위 락과 그 안에서 실행되는 기간 중복 확인(RentalService + RentalAvailabilityIndex)을 함께 검증합니다.
+ * 저장소만 mock 이고 중복 확인과 인덱스 갱신은 실제 코드가 수행합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RentalFacadeTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long OWNER_ID = 1L;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private RentalViewRepository rentalViewRepository;
+
+    @Mock
+    private RentalViewProjector rentalViewProjector;
+
+    @Mock
+    private RentalHoldTimer rentalHoldTimer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<CacheInvalidationBus> invalidationBusProvider;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private RentalFacade rentalFacade;
+
+    private final AtomicLong rentalIds = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        RentalAvailabilityIndex index = new RentalAvailabilityIndex(
+            rentalRepository, invalidationBusProvider, Duration.ofMinutes(5), 1000
+        );
+        RentalService rentalService = new RentalService(
+            rentalRepository, userRepository, postRepository, index,
+            rentalViewRepository, rentalViewProjector, rentalHoldTimer, eventPublisher
+        );
+        rentalFacade = new RentalFacade(rentalService, new RentalBookingLock(64, 10_000));
+    }
+
+    @Test
+    @DisplayName("같은 게시글·같은 기간으로 300건을 동시에 신청하면 1건만 성공한다")
+    void only_one_winner_for_same_dates() throws InterruptedException {
+        // given
+        givenBookablePost();
+        int threadCount = 300;
+        ExecutorService executorService = Executors.newFixedThreadPool(64);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        RentalRequest request = request(LocalDate.now().plusDays(7));
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i + 100L;
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    rentalFacade.createRental(userId, request);
+                    successCount.incrementAndGet();
+                } catch (RentalNotAvailableException e) {
+                    rejectedCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        boolean finished = done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(rejectedCount.get()).isEqualTo(threadCount - 1);
+        verify(rentalRepository, times(1)).save(any(Rental.class));
+    }
+
+    @Test
+    @DisplayName("같은 게시글이라도 기간이 겹치지 않으면 각각 신청된다")
+    void non_overlapping_dates_are_both_booked() {
+        // given
+        givenBookablePost();
+        LocalDate startDate = LocalDate.now().plusDays(7);
+
+        // when
+        rentalFacade.createRental(100L, request(startDate));
+        rentalFacade.createRental(101L, request(startDate.plusDays(3)));
+
+        // then
+        verify(rentalRepository, times(2)).save(any(Rental.class));
+    }
+
+    @Test
+    @DisplayName("서로 다른 게시글에 대한 신청은 서로를 기다리지 않는다")
+    void different_posts_are_not_serialized() throws Exception {
+        // given
+        RentalBookingLock lock = new RentalBookingLock(64, 10_000);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch firstHolding = new CountDownLatch(1);
+        CountDownLatch secondEntered = new CountDownLatch(1);
+
+        // when: 게시글 1의 락을 쥔 채로 게시글 2의 락 안에 들어올 때까지 기다림
+        Future<Boolean> firstSawSecond = executorService.submit(() -> lock.executeWithLock(1L, () -> {
+            firstHolding.countDown();
+            try {
+                return secondEntered.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+
+        assertThat(firstHolding.await(5, TimeUnit.SECONDS)).isTrue();
+        lock.executeWithLock(2L, () -> {
+            secondEntered.countDown();
+            return null;
+        });
+
+        // then: 직렬화되었다면 게시글 2는 게시글 1의 락이 풀린 뒤에야 들어옴
+        assertThat(firstSawSecond.get(10, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 노드로 운영 중이면 인덱스가 가능이라고 해도 DB 중복 조회가 최종 판단한다")
+    void database_is_authority_when_multi_node() {
+        // given: 다른 노드가 같은 기간을 방금 예약했지만 이 노드의 인덱스는 아직 모름
+        givenPost();
+        given(invalidationBusProvider.getIfAvailable()).willReturn(invalidationBus);
+        RentalAvailabilityIndex index = new RentalAvailabilityIndex(
+            rentalRepository, invalidationBusProvider, Duration.ofMinutes(5), 1000
+        );
+        RentalService rentalService = new RentalService(
+            rentalRepository, userRepository, postRepository, index,
+            rentalViewRepository, rentalViewProjector, rentalHoldTimer, eventPublisher
+        );
+        RentalFacade multiNodeFacade = new RentalFacade(rentalService, new RentalBookingLock(64, 10_000));
+        LocalDate startDate = LocalDate.now().plusDays(7);
+        given(rentalRepository.existsOverlappingRental(
+            eq(POST_ID), eq(startDate), eq(startDate.plusDays(2)), any()
+        )).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> multiNodeFacade.createRental(100L, request(startDate)))
+            .isInstanceOf(RentalNotAvailableException.class);
+        verify(rentalRepository).acquireAdvisoryXactLock(POST_ID);
+        verify(rentalRepository, never()).save(any(Rental.class));
+    }
+
+    private void givenBookablePost() {
+        givenPost();
+        given(rentalRepository.save(any(Rental.class))).willAnswer(invocation -> {
+            Rental rental = invocation.getArgument(0);
+            ReflectionTestUtils.setField(rental, "id", rentalIds.incrementAndGet());
+            return rental;
+        });
+    }
+
+    private void givenPost() {
+        User owner = User.builder().id(OWNER_ID).name("대여자").build();
+        Post post = Post.builder()
+            .id(POST_ID)
+            .user(owner)
+            .title("캠핑 의자")
+            .pricePerDay(1000)
+            .maxRentalDays(7)
+            .isParcel(true)
+            .isMeetup(true)
+            .build();
+
+        given(userRepository.findById(anyLong()))
+            .willAnswer(invocation -> Optional.of(User.builder().id(invocation.getArgument(0)).build()));
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(post));
+        given(rentalRepository.findActivePeriodsByPostId(eq(POST_ID), any(), any())).willReturn(List.of());
+    }
+
+    private static RentalRequest request(LocalDate startDate) {
+        return RentalRequest.builder()
+            .postId(POST_ID)
+            .startDate(startDate)
+            .endDate(startDate.plusDays(2))
+            .receiveMethod(ReceiveMethod.PARCEL)
+            .build();
+    }
+}
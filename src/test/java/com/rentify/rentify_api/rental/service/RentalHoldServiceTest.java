@@ -0,0 +1,147 @@
+package com.rentify.rentify_api.rental.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.rentify.rentify_api.payment.entity.PaymentEvent;
+import com.rentify.rentify_api.payment.entity.PaymentEventType;
+import com.rentify.rentify_api.payment.entity.PaymentFailReason;
+import com.rentify.rentify_api.payment.repository.PaymentEventRepository;
+import com.rentify.rentify_api.payment.repository.PaymentRepository;
+import com.rentify.rentify_api.rental.dto.RentalChangedEvent;
+import com.rentify.rentify_api.rental.dto.RentalHoldExpiryResult;
+import com.rentify.rentify_api.rental.entity.RentalStatus;
+import com.rentify.rentify_api.rental.repository.RentalRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 결제 대기 만료 처리 테스트.
+ * 만료 대상 선별(REQUESTED 이고 행 잠금을 잡을 수 있는 대여만)은 lockExpirableHolds 의 SQL(FOR UPDATE SKIP LOCKED)이 맡으므로,
+ * 여기서는 선별된 대여만 취소하고 나머지는 상태에 따라 다시 확인하거나 버리는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RentalHoldServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 10, 18, 9, 0);
+    private static final LocalDateTime PENDING_CUTOFF = CUTOFF.minusMinutes(30);
+
+    @Mock
+    private RentalRepository rentalRepository;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentEventRepository paymentEventRepository;
+    @Mock
+    private RentalViewProjector rentalViewProjector;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RentalHoldService rentalHoldService;
+
+    @Test
+    @DisplayName("잠금을 잡은 결제 대기(REQUESTED) 대여만 취소하고, 이미 확정된 대여는 다시 확인하지 않는다")
+    void expires_only_requested_rentals() {
+        // given: 1 은 만료 대상, 2 는 그 사이 확정됨 (status 조건에서 빠짐)
+        given(rentalRepository.lockExpirableHolds(List.of(1L, 2L), CUTOFF, PENDING_CUTOFF))
+            .willReturn(List.<Object[]>of(new Object[]{1L, 10L}));
+        given(paymentRepository.findPendingIdsByRentalIds(List.of(1L))).willReturn(List.of());
+        given(rentalRepository.findIdsByIdInAndStatus(Set.of(2L), RentalStatus.REQUESTED)).willReturn(List.of());
+
+        // when
+        RentalHoldExpiryResult result = rentalHoldService.expire(List.of(1L, 2L), CUTOFF, PENDING_CUTOFF);
+
+        // then
+        assertThat(result.expiredIds()).containsExactly(1L);
+        assertThat(result.stillHeldIds()).isEmpty();
+        verify(rentalRepository).updateStatusByIds(
+            eq(List.of(1L)), eq(RentalStatus.REQUESTED), eq(RentalStatus.CANCELED), any(LocalDateTime.class)
+        );
+        verify(rentalViewProjector).onRentalStatusChanged(List.of(1L), RentalStatus.CANCELED);
+        verify(eventPublisher).publishEvent(new RentalChangedEvent(10L, 1L, RentalStatus.CANCELED));
+        verify(paymentRepository, never()).markAsFailedIfPending(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 완료 처리 중이라 잠금을 잡지 못한 대여는 취소하지 않고 다시 확인 대상으로 돌려준다")
+    void skips_rental_being_confirmed() {
+        // given: 결제 완료 트랜잭션이 행을 잡고 있어 SKIP LOCKED 로 빠짐 (아직 커밋 전이라 REQUESTED 로 보임)
+        given(rentalRepository.lockExpirableHolds(List.of(3L), CUTOFF, PENDING_CUTOFF)).willReturn(List.of());
+        given(rentalRepository.findIdsByIdInAndStatus(Set.of(3L), RentalStatus.REQUESTED)).willReturn(List.of(3L));
+
+        // when
+        RentalHoldExpiryResult result = rentalHoldService.expire(List.of(3L), CUTOFF, PENDING_CUTOFF);
+
+        // then
+        assertThat(result.expiredIds()).isEmpty();
+        assertThat(result.stillHeldIds()).containsExactly(3L);
+        verify(rentalRepository, never()).updateStatusByIds(anyCollection(), any(), any(), any());
+        verify(paymentRepository, never()).findPendingIdsByRentalIds(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 PENDING 결제는 대여를 취소하기 전에 시간 초과로 실패 처리한다")
+    void fails_stale_pending_payment() {
+        // given
+        given(rentalRepository.lockExpirableHolds(List.of(1L), CUTOFF, PENDING_CUTOFF))
+            .willReturn(List.<Object[]>of(new Object[]{1L, 10L}));
+        given(paymentRepository.findPendingIdsByRentalIds(List.of(1L))).willReturn(List.of(100L));
+
+        // when
+        RentalHoldExpiryResult result = rentalHoldService.expire(List.of(1L), CUTOFF, PENDING_CUTOFF);
+
+        // then
+        assertThat(result.expiredIds()).containsExactly(1L);
+
+        InOrder order = inOrder(paymentRepository, rentalRepository);
+        order.verify(paymentRepository).markAsFailedIfPending(
+            eq(List.of(100L)), eq(PaymentFailReason.PAYMENT_TIMEOUT), any(LocalDateTime.class)
+        );
+        order.verify(rentalRepository).updateStatusByIds(
+            eq(List.of(1L)), eq(RentalStatus.REQUESTED), eq(RentalStatus.CANCELED), any(LocalDateTime.class)
+        );
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PaymentEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(paymentEventRepository).saveAll(events.capture());
+        assertThat(events.getValue()).singleElement().satisfies(event -> {
+            assertThat(event.getEventType()).isEqualTo(PaymentEventType.PAYMENT_FAILED);
+            assertThat(event.getPayload()).isEqualTo(PaymentFailReason.PAYMENT_TIMEOUT.name());
+        });
+        verify(rentalViewProjector).onPendingPaymentsFailed(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("since 가 없으면 전체를, 있으면 그 이후에 신청된 결제 대기 대여만 조회한다")
+    void finds_holds_since_last_resync() {
+        // given
+        LocalDateTime since = CUTOFF.minusMinutes(15);
+
+        // when
+        rentalHoldService.findHolds(null, 0L, 500);
+        rentalHoldService.findHolds(since, 0L, 500);
+
+        // then
+        verify(rentalRepository).findHoldsAfter(eq(0L), any());
+        verify(rentalRepository).findHoldsCreatedSinceAfter(eq(since), eq(0L), any());
+    }
+}
@@ -12,8 +12,10 @@ import static org.mockito.Mockito.verify;
 import com.rentify.rentify_api.common.exception.DuplicateException;
 import com.rentify.rentify_api.common.exception.InvalidPasswordException;
 import com.rentify.rentify_api.common.exception.InvalidValueException;
+import com.rentify.rentify_api.rental.service.RentalViewProjector;
 import com.rentify.rentify_api.user.dto.CreateUserRequest;
 import com.rentify.rentify_api.user.dto.PasswordUpdateRequest;
+import com.rentify.rentify_api.user.dto.UserRenamedEvent;
 import com.rentify.rentify_api.user.dto.UserUpdateRequest;
 import com.rentify.rentify_api.user.entity.User;
 import com.rentify.rentify_api.user.exception.DuplicateEmailException;
@@ -28,6 +30,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -36,6 +39,10 @@ class UserServiceTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private RentalViewProjector rentalViewProjector;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @Spy
     private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
@@ -202,6 +209,8 @@ class UserServiceTest {
 
             verify(userRepository, atLeastOnce()).findById(userId);
             verify(userRepository, atLeastOnce()).findByEmail(request.getEmail());
+            verify(rentalViewProjector).onUserRenamed(userId, "수정유저");
+            verify(eventPublisher).publishEvent(new UserRenamedEvent(userId));
         }
 
         @Test